@@ -0,0 +1,100 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.mapper;
+
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /v1/orders/{id} serialization: DTO + ObjectMapper versus OrderResponseJsonWriter streaming
+ * from the domain. Setup fails if the writer is on its DTO fallback or the two outputs differ.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderResponseJsonWriterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseJsonWriterBenchmark {
+    
+    @Param({"1", "10", "50"})
+    private int items;
+    
+    @Param({"3"})
+    private int distributionCentersPerItem;
+    
+    private ObjectMapper objectMapper;
+    private OrderRestMapper mapper;
+    private OrderResponseJsonWriter writer;
+    private Order order;
+    
+    @Setup
+    public void setUp() throws IOException {
+        // Same base as Spring Boot's ObjectMapper (JacksonAutoConfiguration disables dates as timestamps)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        mapper = new OrderRestMapper();
+        writer = new OrderResponseJsonWriter(objectMapper, mapper);
+        order = order(items, distributionCentersPerItem);
+        
+        if (!writer.isStreaming()) {
+            throw new IllegalStateException("Writer fell back to the DTO path; the comparison would be meaningless");
+        }
+        if (!Arrays.equals(writer.toJsonBytes(order), objectMapper.writeValueAsBytes(mapper.toResponse(order)))) {
+            throw new IllegalStateException("Both paths must produce the same bytes");
+        }
+    }
+    
+    @Benchmark
+    public byte[] dtoWithObjectMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(mapper.toResponse(order));
+    }
+    
+    @Benchmark
+    public byte[] streamingWriter() throws IOException {
+        return writer.toJsonBytes(order);
+    }
+    
+    private static Order order(int items, int distributionCentersPerItem) {
+        Address address = new Address("Av. Paulista", "1000", "São Paulo", "SP", "BR", "01310-100",
+                new Address.Coordinates(new BigDecimal("-23.5613"), new BigDecimal("-46.6565")));
+        List<OrderItem> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            OrderItem item = new OrderItem("ITEM-" + i, 1 + i % 5);
+            List<NearbyDistributionCenter> nearby = new ArrayList<>(distributionCentersPerItem);
+            for (int dc = 0; dc < distributionCentersPerItem; dc++) {
+                nearby.add(new NearbyDistributionCenter("DC-" + dc, 3.7 + dc * 11.913 + i * 0.25));
+            }
+            item.setAvailableDistributionCenters(nearby);
+            orderItems.add(item);
+        }
+        return new Order("01HKG6RXRZ8N9QQP8VQXK7PXJY", "CUST-1", orderItems, address,
+                OrderStatus.PROCESSED, Instant.parse("2025-01-10T12:00:00.123456Z"));
+    }
+}
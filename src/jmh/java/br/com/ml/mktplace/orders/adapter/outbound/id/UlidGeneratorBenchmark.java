@@ -0,0 +1,52 @@
+package br.com.ml.mktplace.orders.adapter.outbound.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of ULID generation, single-threaded and contended.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UlidGeneratorBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UlidGeneratorBenchmark {
+    
+    private final UlidGenerator generator = new UlidGenerator();
+    
+    @Param({"100"})
+    private int batchSize;
+    
+    @Benchmark
+    @Threads(1)
+    public String generateSingleThread() {
+        return generator.generate();
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public String generateContended() {
+        return generator.generate();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public String[] generateBatch() {
+        return generator.generateMultiple(batchSize);
+    }
+}
@@ -8,13 +8,29 @@ import br.com.ml.mktplace.orders.domain.port.DistributionCenterService;
 import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.domain.port.IDGenerator;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
+import br.com.ml.mktplace.orders.domain.service.BulkReprocessUseCaseImpl;
 import br.com.ml.mktplace.orders.domain.service.CreateOrderUseCaseImpl;
 import br.com.ml.mktplace.orders.domain.service.DistributionCenterSelectionService;
 import br.com.ml.mktplace.orders.domain.service.ProcessOrderUseCaseImpl;
 import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
 import br.com.ml.mktplace.orders.domain.service.QueryOrderUseCaseImpl;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Configuração principal da aplicação - Application Config
@@ -55,6 +71,9 @@ public class ApplicationConfig {
      * @param cacheService Serviço de cache
      * @param eventPublisher Publicador de eventos
      * @param distributionCenterSelectionService Serviço de seleção de CDs
+     * @param orderStatusNotifier Notificador de mudanças de status (long-polling / SSE)
+     * @param processingObserver Observador dos estágios de processamento (eventos JFR)
+     * @param transactionOperations Transações curtas por mudança de status (ver ProcessOrderUseCaseImpl)
      * @return Use case configurado
      */
     @Bean
@@ -65,7 +84,10 @@ public class ApplicationConfig {
         EventPublisher eventPublisher,
         DistributionCenterSelectionService distributionCenterSelectionService,
         br.com.ml.mktplace.orders.domain.port.GeocodingService geocodingService,
-        ObservabilityMetrics observabilityMetrics) {
+        ObservabilityMetrics observabilityMetrics,
+        OrderStatusNotifier orderStatusNotifier,
+        ProcessingObserver processingObserver,
+        TransactionOperations transactionOperations) {
         
         return new ProcessOrderUseCaseImpl(
             orderRepository,
@@ -74,10 +96,73 @@ public class ApplicationConfig {
             eventPublisher,
             distributionCenterSelectionService,
             geocodingService,
-            observabilityMetrics
+            observabilityMetrics,
+            orderStatusNotifier,
+            processingObserver,
+            transactionOperations
+        );
+    }
+
+    /**
+     * Configura o caso de uso de reprocessamento em massa de pedidos FAILED.
+     * O driver de cada job roda em uma virtual thread; os reprocessamentos, em um pool próprio
+     * (não exposto como bean para não substituir o executor padrão do Spring).
+     * 
+     * Cada job é um trace próprio: a observação orders.reprocess.bulk.job é raiz (não filha do POST
+     * que iniciou o job, que termina em milissegundos) e os workers herdam essa observação. O vínculo
+     * com a requisição fica nos atributos request.trace.id/request.span.id do span do job.
+     * 
+     * @param orderRepository Repositório de pedidos (paginação dos IDs)
+     * @param processOrderUseCase Caso de uso de processamento (reprocessamento unitário)
+     * @param tracer Tracer, quando o tracing está habilitado (vínculo com a requisição)
+     * @return Use case configurado
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkReprocessUseCaseImpl bulkReprocessUseCase(
+            OrderRepository orderRepository,
+            ProcessOrderUseCase processOrderUseCase,
+            ObservabilityMetrics observabilityMetrics,
+            @Value("${app.orders.reprocess.concurrency:8}") int concurrency,
+            @Value("${app.orders.reprocess.page-size:500}") int pageSize,
+            @Value("${app.orders.reprocess.max-per-second:50}") double maxPerSecond,
+            ContextSnapshotFactory contextSnapshotFactory,
+            ObservationRegistry observationRegistry,
+            ObjectProvider<Tracer> tracer) {
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-reprocess-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Driver sob a observação raiz do job; workers herdam a observação corrente do driver
+        return new BulkReprocessUseCaseImpl(
+            orderRepository,
+            processOrderUseCase,
+            observabilityMetrics,
+            task -> {
+                Observation job = bulkReprocessJobObservation(observationRegistry, tracer.getIfAvailable());
+                Thread.ofVirtual().name("bulk-reprocess-driver").start(() -> job.observe(task));
+            },
+            ContextExecutorService.wrap(workers, contextSnapshotFactory::captureAll),
+            new BulkReprocessUseCaseImpl.Limits(concurrency, pageSize, maxPerSecond)
         );
     }
 
+    /**
+     * Observação raiz de um job, criada na thread da requisição para registrar o span dela
+     */
+    static Observation bulkReprocessJobObservation(ObservationRegistry observationRegistry, Tracer tracer) {
+        Observation job = Observation.createNotStarted("orders.reprocess.bulk.job", observationRegistry)
+                .parentObservation(null);
+        Span request = tracer != null ? tracer.currentSpan() : null;
+        if (request != null) {
+            job.highCardinalityKeyValue("request.trace.id", request.context().traceId())
+                    .highCardinalityKeyValue("request.span.id", request.context().spanId());
+        }
+        return job;
+    }
+
     /**
      * Configura o caso de uso para consulta de pedidos.
      * 
@@ -1,17 +1,45 @@
 package br.com.ml.mktplace.orders.adapter.config;
 
+import br.com.ml.mktplace.orders.adapter.outbound.cache.CacheKeys;
+import br.com.ml.mktplace.orders.adapter.outbound.cache.TrackingNearCache;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Configuração do cache Redis - Cache Config
@@ -19,7 +47,13 @@ import java.time.Duration;
  * Configura:
  * - RedisTemplate com serialização JSON
  * - TTL padrão de 8 horas conforme ADR-010
- * - Connection pool otimizado
+ * - Cliente Lettuce: conexão nativa compartilhada (sem PING de validação por uso) + pool para
+ *   comandos bloqueantes, timeout de comando, TCP keepalive/no-delay e flush controlado em pipelines
+ * - Métricas de latência por comando (lettuce.command.*) via ClientResources do Spring Boot
+ * - Span por comando (tracing do Lettuce via Micrometer Observation)
+ * - Redis Cluster (spring.data.redis.cluster.nodes) com refresh de topologia periódico e adaptativo,
+ *   e leitura em réplicas (app.cache.read-from, ex.: REPLICA_PREFERRED) só nesse modo
+ * - Near cache opcional (app.cache.near-cache.*) invalidado pelo Redis via CLIENT TRACKING
  * - Configurações específicas por ambiente
  * 
  * ADRs relacionados:
@@ -29,6 +63,8 @@ import java.time.Duration;
 @Configuration
 public class CacheConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -56,12 +92,196 @@ public class CacheConfig {
     @Value("${app.cache.timeout:5000}")
     private long timeout;
 
+    @Value("${app.cache.connect-timeout:2000}")
+    private long connectTimeout;
+
+    @Value("${app.cache.pipeline.flush-threshold:64}")
+    private int pipelineFlushThreshold;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    @Value("${app.cache.cluster.topology-refresh-period:PT30S}")
+    private Duration topologyRefreshPeriod;
+
+    @Value("${app.cache.read-from:}")
+    private String readFrom;
+
+    /**
+     * Span por comando Redis (Lettuce + Micrometer Observation), filho da observação corrente.
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, "orders-redis"));
+    }
+
+    /**
+     * Opções do cliente Lettuce compartilhadas por todas as connection factories.
+     *
+     * O {@link ClientResources} vem do auto-configure do Spring Boot, que já registra o
+     * MicrometerCommandLatencyRecorder (timers lettuce.command.completion/firstresponse).
+     * O pool (commons-pool2) é registrado via JMX com o prefixo redis-lettuce-pool, de onde
+     * {@link #redisPoolMetrics()} lê as métricas.
+     */
+    @Bean
+    public LettuceClientConfiguration lettuceClientConfiguration(ClientResources clientResources) {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(timeout));
+        poolConfig.setJmxNamePrefix("redis-lettuce-pool");
+
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .keepAlive(SocketOptions.KeepAliveOptions.builder().enable().build())
+                .tcpNoDelay(true)
+                .build();
+
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled(Duration.ofMillis(timeout));
+        ClientOptions clientOptions;
+        if (isCluster(clusterNodes)) {
+            // Failover/resharding: topologia relida a cada período e em MOVED/ASK/reconexões
+            ClusterTopologyRefreshOptions topologyRefresh = ClusterTopologyRefreshOptions.builder()
+                    .enablePeriodicRefresh(topologyRefreshPeriod)
+                    .enableAllAdaptiveRefreshTriggers()
+                    .dynamicRefreshSources(true)
+                    .build();
+            clientOptions = ClusterClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(timeoutOptions)
+                    .autoReconnect(true)
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .topologyRefreshOptions(topologyRefresh)
+                    .build();
+        } else {
+            clientOptions = ClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(timeoutOptions)
+                    .autoReconnect(true)
+                    // Cache indisponível falha rápido em vez de acumular comandos em memória
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build();
+        }
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .clientOptions(clientOptions)
+                .clientResources(clientResources)
+                .commandTimeout(Duration.ofMillis(timeout));
+        ReadFrom replicaReads = readFrom(readFrom, clusterNodes);
+        if (replicaReads != null) {
+            builder.readFrom(replicaReads);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Uso do pool (commons.pool2.num.active/idle/waiters, tempos de espera e criações) no registry do
+     * Micrometer, e portanto no /actuator/prometheus. Lê os MBeans dos pools commons-pool2 e
+     * acompanha os registrados depois (o pool do Lettuce é criado na primeira conexão).
+     */
+    @Bean(destroyMethod = "close")
+    public CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics(Tags.of("client", "lettuce"));
+    }
+
+    /**
+     * Preferência de leitura, aplicada só com Redis Cluster.
+     *
+     * O ReadFrom vale para todo comando de leitura da conexão: GET das disponibilidades, EXISTS,
+     * os KEYS dos padrões de evicção e os rankings por célula. É uma escolha global consciente: todo
+     * dado no Redis é cache, então uma leitura atrasada pela replicação custa no máximo um miss ou um
+     * valor antigo até a próxima invalidação. Sem nós de cluster a propriedade é ignorada, para não
+     * transformar a factory standalone numa conexão master/replica.
+     *
+     * @return null quando a leitura fica no primário
+     */
+    static ReadFrom readFrom(String readFrom, String clusterNodes) {
+        if (readFrom == null || readFrom.isBlank()) {
+            return null;
+        }
+        if (!isCluster(clusterNodes)) {
+            log.warn("app.cache.read-from={} ignored: replica reads only apply with spring.data.redis.cluster.nodes", readFrom);
+            return null;
+        }
+        return ReadFrom.valueOf(readFrom.trim().replace("_", ""));  // aceita REPLICA_PREFERRED ou replicaPreferred
+    }
+
+    static boolean isCluster(String clusterNodes) {
+        return clusterNodes != null && !clusterNodes.isBlank();
+    }
+
+    /**
+     * Configuração de cluster a partir de "host:port,host:port"
+     */
+    static RedisClusterConfiguration clusterConfiguration(String clusterNodes, int maxRedirects, String password) {
+        List<String> nodes = Arrays.stream(clusterNodes.split(","))
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .toList();
+        RedisClusterConfiguration config = new RedisClusterConfiguration(nodes);
+        config.setMaxRedirects(maxRedirects);
+        if (password != null && !password.isBlank()) {
+            config.setPassword(password);
+        }
+        return config;
+    }
+
+    /**
+     * Near cache com client-side caching do Redis (opt-in).
+     *
+     * Usa uma conexão própria, fora do pool, pois o tracking em BCAST e as push messages de
+     * invalidação pertencem à conexão. Não suportado em Redis Cluster: o tracking é por nó.
+     */
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.cache.near-cache.enabled", havingValue = "true")
+    public TrackingNearCache trackingNearCache(
+            ClientResources clientResources,
+            LettuceClientConfiguration lettuceClientConfiguration,
+            @Value("${app.cache.near-cache.prefixes:" + CacheKeys.ITEM_AVAILABILITY_PREFIX + "}") String[] prefixes,
+            @Value("${app.cache.near-cache.max-entries:10000}") int maxEntries) {
+        if (isCluster(clusterNodes)) {
+            throw new IllegalStateException("app.cache.near-cache.enabled is not supported with spring.data.redis.cluster.nodes");
+        }
+
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisHost)
+                .withPort(redisPort)
+                .withDatabase(redisDatabase)
+                .withTimeout(Duration.ofMillis(timeout));
+        if (redisPassword != null && !redisPassword.isBlank()) {
+            uri.withPassword(redisPassword.toCharArray());
+        }
+
+        TrackingNearCache nearCache = new TrackingNearCache(prefixes, maxEntries);
+        nearCache.start(clientResources, uri.build(),
+                lettuceClientConfiguration.getClientOptions().orElseGet(ClientOptions::create));
+        return nearCache;
+    }
+
+    /**
+     * Ajustes comuns das connection factories: conexão nativa compartilhada (Lettuce é thread-safe),
+     * sem validação por uso (o PING a cada acesso dobrava as idas ao Redis) e flush em blocos nos pipelines.
+     */
+    static LettuceConnectionFactory tunedConnectionFactory(RedisConfiguration config,
+                                                           LettuceClientConfiguration clientConfiguration,
+                                                           int pipelineFlushThreshold) {
+        LettuceConnectionFactory factory = config instanceof RedisClusterConfiguration cluster
+                ? new LettuceConnectionFactory(cluster, clientConfiguration)
+                : new LettuceConnectionFactory((RedisStandaloneConfiguration) config, clientConfiguration);
+        factory.setShareNativeConnection(true);
+        factory.setValidateConnection(false);
+        factory.setPipeliningFlushPolicy(LettuceConnection.PipeliningFlushPolicy.buffered(pipelineFlushThreshold));
+        return factory;
+    }
+
     /**
      * Configura a connection factory para Redis usando Lettuce.
      * Lettuce é thread-safe e assíncrono, melhor que Jedis para aplicações Spring Boot.
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(LettuceClientConfiguration lettuceClientConfiguration) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(redisHost);
         config.setPort(redisPort);
@@ -71,10 +291,7 @@ public class CacheConfig {
             config.setPassword(redisPassword);
         }
 
-        LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
-        factory.setValidateConnection(true);
-        
-        return factory;
+        return tunedConnectionFactory(config, lettuceClientConfiguration, pipelineFlushThreshold);
     }
 
     /**
@@ -142,16 +359,20 @@ public class CacheConfig {
     static class ProductionCacheConfig {
         
         @Bean
-    public RedisConnectionFactory productionRedisConnectionFactory(
-        @Value("${spring.data.redis.cluster.nodes:}") String clusterNodes,
-        @Value("${spring.data.redis.host}") String host,
-        @Value("${spring.data.redis.port}") int port,
-        @Value("${spring.data.redis.password:}") String password) {
+        @Primary
+        public RedisConnectionFactory productionRedisConnectionFactory(
+                LettuceClientConfiguration lettuceClientConfiguration,
+                @Value("${spring.data.redis.cluster.nodes:}") String clusterNodes,
+                @Value("${spring.data.redis.cluster.max-redirects:3}") int maxRedirects,
+                @Value("${spring.data.redis.host}") String host,
+                @Value("${spring.data.redis.port}") int port,
+                @Value("${spring.data.redis.password:}") String password,
+                @Value("${app.cache.pipeline.flush-threshold:64}") int pipelineFlushThreshold) {
             
-            // Em produção, configurar cluster se disponível
-            if (clusterNodes != null && !clusterNodes.trim().isEmpty()) {
-                // TODO: Implementar RedisClusterConfiguration quando necessário
-                // Para agora, usar standalone mesmo em produção
+            // Em produção, cluster quando os nós estão configurados; senão, standalone
+            if (isCluster(clusterNodes)) {
+                return tunedConnectionFactory(clusterConfiguration(clusterNodes, maxRedirects, password),
+                        lettuceClientConfiguration, pipelineFlushThreshold);
             }
             
             RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
@@ -161,10 +382,7 @@ public class CacheConfig {
                 config.setPassword(password);
             }
             
-            LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
-            factory.setValidateConnection(true);
-            
-            return factory;
+            return tunedConnectionFactory(config, lettuceClientConfiguration, pipelineFlushThreshold);
         }
         
         @Bean
@@ -150,6 +150,9 @@ public class DatabaseConfig {
         jpaProperties.setProperty("hibernate.connection.isolation", "2"); // READ_COMMITTED
         jpaProperties.setProperty("hibernate.temp.use_jdbc_metadata_defaults", "false");
         
+        // JSONB columns mapped to typed records with a shared, pre-configured ObjectMapper
+        jpaProperties.setProperty("hibernate.type.json_format_mapper", "br.com.ml.mktplace.orders.adapter.outbound.persistence.type.JsonbFormatMapper");
+        
         // PostGIS specific
         jpaProperties.setProperty("hibernate.spatial.connection_finder", "org.hibernate.spatial.dialect.postgis.PostGISConnectionFinder");
     }
@@ -2,6 +2,7 @@ package br.com.ml.mktplace.orders.adapter.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import br.com.ml.mktplace.orders.adapter.config.metrics.http.HttpClientMetricsInterceptor;
 import br.com.ml.mktplace.orders.adapter.config.metrics.http.CorrelationIdClientHttpRequestInterceptor;
 import org.springframework.context.annotation.Bean;
@@ -57,9 +58,11 @@ public class HttpClientConfig {
      * e outros serviços externos.
      */
     @Bean
-    public RestTemplate restTemplate(MeterRegistry registry) {
+    public RestTemplate restTemplate(MeterRegistry registry, ObservationRegistry observationRegistry) {
         RestTemplate restTemplate = new RestTemplate();
         restTemplate.setRequestFactory(clientHttpRequestFactory());
+        // Span "http client" por chamada, com traceparent propagado no request
+        restTemplate.setObservationRegistry(observationRegistry);
     // Interceptors: correlação e métricas
     restTemplate.getInterceptors().add(new CorrelationIdClientHttpRequestInterceptor());
     restTemplate.getInterceptors().add(new HttpClientMetricsInterceptor(registry, "external-generic"));
@@ -115,13 +118,15 @@ public class HttpClientConfig {
     public RestTemplate distributionCenterRestTemplate(
             @Value("${app.api.distribution-center.timeout.connection:3000}") int dcConnectionTimeout,
         @Value("${app.api.distribution-center.timeout.read:5000}") int dcReadTimeout,
-        MeterRegistry registry) {
+        MeterRegistry registry,
+        ObservationRegistry observationRegistry) {
         
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(dcConnectionTimeout);
         factory.setReadTimeout(dcReadTimeout);
         
         RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.setObservationRegistry(observationRegistry);
         // Interceptors: correlação e métricas específico para a API de CDs
         restTemplate.getInterceptors().add(new CorrelationIdClientHttpRequestInterceptor());
         restTemplate.getInterceptors().add(new HttpClientMetricsInterceptor(registry, "distribution-centers-api"));
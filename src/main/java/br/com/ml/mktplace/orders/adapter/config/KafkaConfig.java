@@ -22,6 +22,7 @@ import java.util.Map;
  * - Serialização JSON para eventos
  * - Configurações específicas por ambiente
  * - Topics para diferentes tipos de eventos
+ * - Observação (tracing) nos templates, propagando o trace nos headers
  * 
  * ADRs relacionados:
  * - ADR-007: Apache Kafka (AWS MSK) para eventos
@@ -90,6 +91,7 @@ public class KafkaConfig {
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate() {
         KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
+        template.setObservationEnabled(true);
         
         // Configurar default topic se necessário
         // template.setDefaultTopic("orders-events");
@@ -104,6 +106,8 @@ public class KafkaConfig {
     public KafkaTemplate<String, Object> orderEventsKafkaTemplate() {
         KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
         template.setDefaultTopic("orders.events");
+        // Span de produce + contexto do trace nos headers do record (lido pelo listener)
+        template.setObservationEnabled(true);
         return template;
     }
 
@@ -114,6 +118,7 @@ public class KafkaConfig {
     public KafkaTemplate<String, Object> processingEventsKafkaTemplate() {
         KafkaTemplate<String, Object> template = new KafkaTemplate<>(producerFactory());
         template.setDefaultTopic("orders.processing");
+        template.setObservationEnabled(true);
         return template;
     }
 
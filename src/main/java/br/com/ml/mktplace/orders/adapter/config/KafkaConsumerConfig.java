@@ -43,6 +43,8 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setMissingTopicsFatal(false); // tolerate topic auto-creation in tests
+        // Continue the producer's trace from the record headers (consume span per record)
+        factory.getContainerProperties().setObservationEnabled(true);
         return factory;
     }
 }
@@ -0,0 +1,53 @@
+package br.com.ml.mktplace.orders.adapter.config;
+
+import br.com.ml.mktplace.orders.adapter.outbound.notification.RedisOrderStatusNotifier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.UUID;
+
+/**
+ * Configuração das notificações de mudança de status de pedidos - Order Status Notification Config
+ *
+ * Alimenta o long-polling ({@code GET /v1/orders/{id}?waitFor=}) e o stream SSE
+ * ({@code GET /v1/orders/{id}/events}): o processamento sinaliza o notificador, que entrega aos
+ * listeners locais e replica para os demais pods via Redis pub/sub
+ * ({@code app.orders.status-notifications.redis.enabled}, padrão true).
+ */
+@Configuration
+public class OrderStatusNotificationConfig {
+
+    /**
+     * Listeners (leitura do pedido, escrita no SSE) rodam em virtual threads, fora da thread do
+     * listener Kafka e do container Redis.
+     */
+    @Bean
+    public RedisOrderStatusNotifier orderStatusNotifier(
+            ObjectProvider<StringRedisTemplate> redisTemplate,
+            @Value("${app.orders.status-notifications.redis.enabled:true}") boolean redisEnabled) {
+        return new RedisOrderStatusNotifier(
+                redisEnabled ? redisTemplate.getIfAvailable() : null,
+                task -> Thread.ofVirtual().name("order-status-notify").start(task),
+                UUID.randomUUID().toString());
+    }
+
+    /**
+     * Assinatura do canal de status; o container reconecta sozinho se o Redis cair.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.orders.status-notifications.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer orderStatusListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RedisOrderStatusNotifier orderStatusNotifier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderStatusNotifier, new ChannelTopic(RedisOrderStatusNotifier.CHANNEL));
+        return container;
+    }
+}
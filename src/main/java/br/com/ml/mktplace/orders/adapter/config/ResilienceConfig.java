@@ -0,0 +1,71 @@
+package br.com.ml.mktplace.orders.adapter.config;
+
+import br.com.ml.mktplace.orders.adapter.outbound.resilience.ResiliencePolicy;
+import br.com.ml.mktplace.orders.adapter.outbound.resilience.ResilientExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração de resiliência das dependências externas - Resilience Config
+ *
+ * Cada dependência recebe seu próprio {@link ResilientExecutor} (bulkhead isolado):
+ * - Limite adaptativo de concorrência (gradiente de latência), com teto fixo em max-concurrent-calls
+ * - Circuit breaker por contagem (parâmetros do ADR-011)
+ * - Falha rápida para o fallback quando qualquer estágio rejeita a chamada
+ *
+ * Os executores são MeterBinders: o estado é exportado como gauges em resilience.*.
+ *
+ * ADRs relacionados:
+ * - ADR-011: Estratégia de tratamento de erros
+ * - ADR-016: Configuração por arquivos de propriedades
+ */
+@Configuration
+public class ResilienceConfig {
+
+    /**
+     * Executor resiliente para a API de geocoding.
+     */
+    @Bean("geocodingResilience")
+    public ResilientExecutor geocodingResilience(
+            @Value("${app.resilience.geocoding.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${app.resilience.geocoding.initial-limit:10}") int initialLimit,
+            @Value("${app.resilience.geocoding.min-limit:2}") int minLimit,
+            @Value("${app.resilience.geocoding.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${app.resilience.geocoding.smoothing:0.2}") double smoothing,
+            @Value("${app.resilience.geocoding.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${app.resilience.geocoding.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${app.resilience.geocoding.open-state-duration-ms:30000}") long openStateDurationMs,
+            @Value("${app.resilience.geocoding.half-open-permitted-calls:3}") int halfOpenPermittedCalls,
+            @Value("${app.resilience.geocoding.slow-call-threshold-ms:3000}") long slowCallThresholdMs) {
+
+        return new ResilientExecutor("geocoding", new ResiliencePolicy(
+                maxConcurrentCalls, initialLimit, minLimit, rttTolerance, smoothing,
+                failureRateThreshold, slidingWindowSize, Duration.ofMillis(openStateDurationMs),
+                halfOpenPermittedCalls, Duration.ofMillis(slowCallThresholdMs)));
+    }
+
+    /**
+     * Executor resiliente para o serviço de Distribution Centers.
+     */
+    @Bean("distributionCenterResilience")
+    public ResilientExecutor distributionCenterResilience(
+            @Value("${app.resilience.distribution-center.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${app.resilience.distribution-center.initial-limit:20}") int initialLimit,
+            @Value("${app.resilience.distribution-center.min-limit:2}") int minLimit,
+            @Value("${app.resilience.distribution-center.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${app.resilience.distribution-center.smoothing:0.2}") double smoothing,
+            @Value("${app.resilience.distribution-center.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${app.resilience.distribution-center.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${app.resilience.distribution-center.open-state-duration-ms:30000}") long openStateDurationMs,
+            @Value("${app.resilience.distribution-center.half-open-permitted-calls:3}") int halfOpenPermittedCalls,
+            @Value("${app.resilience.distribution-center.slow-call-threshold-ms:2000}") long slowCallThresholdMs) {
+
+        return new ResilientExecutor("distribution-centers", new ResiliencePolicy(
+                maxConcurrentCalls, initialLimit, minLimit, rttTolerance, smoothing,
+                failureRateThreshold, slidingWindowSize, Duration.ofMillis(openStateDurationMs),
+                halfOpenPermittedCalls, Duration.ofMillis(slowCallThresholdMs)));
+    }
+}
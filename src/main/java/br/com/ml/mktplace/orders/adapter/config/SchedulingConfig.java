@@ -0,0 +1,12 @@
+package br.com.ml.mktplace.orders.adapter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (@Scheduled) - manutenção de partições, varreduras, etc.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,52 @@
+package br.com.ml.mktplace.orders.adapter.config;
+
+import br.com.ml.mktplace.orders.adapter.config.tracing.JsonFileSpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração de tracing distribuído - Tracing Config
+ *
+ * Os spans vêm da Micrometer Observation (bridge OpenTelemetry):
+ * - HTTP server (controllers) e RestTemplates: observação nativa do Spring
+ * - Casos de uso: {@code @Observed} nas implementações
+ * - JPA/JDBC: datasource-micrometer (connection + query)
+ * - Redis: tracing do Lettuce via ClientResources (ver CacheConfig)
+ * - Kafka: observação do KafkaTemplate e do listener container, com o contexto
+ *   propagado nos headers do record (W3C traceparent)
+ *
+ * Exportação:
+ * - OTLP/HTTP: habilitada pelo Spring Boot quando {@code management.otlp.tracing.endpoint} está definido
+ * - Arquivo local (JSON por linha): {@code app.tracing.file.enabled=true}
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Exportador para arquivo local; o Spring Boot registra todo SpanExporter no BatchSpanProcessor.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.file.enabled", havingValue = "true")
+    public JsonFileSpanExporter jsonFileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${app.tracing.file.path:logs/traces.jsonl}") String path,
+            @Value("${app.tracing.file.max-size:50MB}") DataSize maxSize) {
+        return new JsonFileSpanExporter(objectMapper, Path.of(path), maxSize.toBytes());
+    }
+
+    /**
+     * Captura o contexto (observação/span corrente) ao submeter tarefas a executors próprios,
+     * para que o trabalho assíncrono continue no mesmo trace.
+     */
+    @Bean
+    public ContextSnapshotFactory contextSnapshotFactory() {
+        return ContextSnapshotFactory.builder().build();
+    }
+}
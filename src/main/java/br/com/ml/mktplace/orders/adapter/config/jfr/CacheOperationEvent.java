@@ -0,0 +1,54 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.CacheMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Operação no Redis (get/put/evict) com keyspace e resultado; a chave completa não é registrada.
+ */
+@Name("br.com.ml.mktplace.orders.CacheOperation")
+@Label("Cache Operation")
+@Category({"Orders", "Cache"})
+@Description("Redis cache get/put/evict with keyspace and hit/miss")
+@Enabled(false)
+@StackTrace(false)
+public class CacheOperationEvent extends Event {
+
+    @Label("Cache")
+    private String cache;
+
+    @Label("Keyspace")
+    private String keyspace;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Result")
+    @Description("hit, miss, ok or error")
+    private String result;
+
+    @Label("Payload Size")
+    @DataAmount
+    private long payloadBytes;
+
+    /**
+     * @param key chave completa; só o keyspace é resolvido e registrado, e apenas se o evento for gravado
+     */
+    public void complete(String cache, String key, String operation, String result, long payloadBytes) {
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.keyspace = CacheMetrics.keyspace(key);
+            this.operation = operation;
+            this.result = result;
+            this.payloadBytes = payloadBytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ordenação dos CDs candidatos de um item por distância.
+ */
+@Name("br.com.ml.mktplace.orders.DcRanking")
+@Label("Distribution Center Ranking")
+@Category({"Orders", "Processing"})
+@Description("Ranking of candidate distribution centers by distance")
+@Enabled(false)
+@StackTrace(false)
+public class DcRankingEvent extends Event {
+
+    @Label("Candidates")
+    private int candidates;
+
+    @Label("Source")
+    @Description("cache, postgis or haversine")
+    private String source;
+
+    public void complete(int candidates, String source) {
+        if (shouldCommit()) {
+            this.candidates = candidates;
+            this.source = source;
+            commit();
+        }
+    }
+}
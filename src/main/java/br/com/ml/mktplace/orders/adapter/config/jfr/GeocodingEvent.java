@@ -0,0 +1,43 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chamada de geocoding (incluindo fallback do executor resiliente); só cidade/UF/país, sem endereço.
+ */
+@Name("br.com.ml.mktplace.orders.Geocoding")
+@Label("Geocoding Call")
+@Category({"Orders", "External"})
+@Description("Geocoding lookup through the resilient executor")
+@Enabled(false)
+@StackTrace(false)
+public class GeocodingEvent extends Event {
+
+    @Label("City")
+    private String city;
+
+    @Label("State")
+    private String state;
+
+    @Label("Country")
+    private String country;
+
+    @Label("Found")
+    private boolean found;
+
+    public void complete(String city, String state, String country, boolean found) {
+        if (shouldCommit()) {
+            this.city = city;
+            this.state = state;
+            this.country = country;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
+import jdk.jfr.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite {@link OrderStageEvent} e {@link DcRankingEvent} para o processamento de pedidos.
+ * Com os eventos desabilitados (fora de uma gravação que os habilite) devolve escopos vazios:
+ * o estado é consultado no {@link EventType} de cada classe, resolvido uma vez, e o evento só é
+ * alocado quando vai ser gravado.
+ */
+@Component
+public class JfrProcessingObserver implements ProcessingObserver {
+
+    private static final StageScope NO_STAGE = outcome -> { };
+    private static final RankingScope NO_RANKING = (candidates, source) -> { };
+    private static final EventType STAGE_EVENT = EventType.getEventType(OrderStageEvent.class);
+    private static final EventType RANKING_EVENT = EventType.getEventType(DcRankingEvent.class);
+
+    @Override
+    public StageScope stageStarted(String orderId, ProcessingTrace.Stage stage) {
+        if (!STAGE_EVENT.isEnabled()) {
+            return NO_STAGE;
+        }
+        OrderStageEvent event = new OrderStageEvent();
+        event.begin();
+        return outcome -> event.complete(orderId, stage.name(), outcome.name());
+    }
+
+    @Override
+    public RankingScope rankingStarted() {
+        if (!RANKING_EVENT.isEnabled()) {
+            return NO_RANKING;
+        }
+        DcRankingEvent event = new DcRankingEvent();
+        event.begin();
+        return event::complete;
+    }
+}
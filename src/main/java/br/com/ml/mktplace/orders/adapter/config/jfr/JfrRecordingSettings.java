@@ -0,0 +1,63 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Perfil de gravação JFR para diagnosticar picos de latência do pipeline de pedidos.
+ *
+ * Parte do perfil "default" do JDK (overhead ~1%) e:
+ * - habilita os eventos de domínio (estágios, cache, ranking, geocoding, Kafka); cache com
+ *   threshold próprio para não inundar a gravação com GETs sub-milissegundo
+ * - reduz para 10 ms os thresholds de lock, park e socket I/O, onde os picos costumam aparecer
+ * - amostra execução a cada 10 ms para ter pilhas suficientes numa janela curta
+ * - desliga as variáveis de ambiente e system properties iniciais: o arquivo é baixado pelo
+ *   actuator e não pode carregar credenciais (senhas de banco/Redis, tokens)
+ */
+public final class JfrRecordingSettings {
+
+    static final List<Class<?>> PIPELINE_EVENTS = List.of(
+            OrderStageEvent.class, DcRankingEvent.class, GeocodingEvent.class, KafkaMessageEvent.class);
+
+    private JfrRecordingSettings() {
+    }
+
+    public static Map<String, String> tuned(Duration eventThreshold, Duration cacheEventThreshold) {
+        Map<String, String> settings = new HashMap<>(baseProfile());
+        for (Class<?> type : PIPELINE_EVENTS) {
+            enable(settings, type, eventThreshold);
+        }
+        enable(settings, CacheOperationEvent.class, cacheEventThreshold);
+
+        for (String event : List.of("jdk.JavaMonitorEnter", "jdk.JavaMonitorWait", "jdk.ThreadPark",
+                "jdk.SocketRead", "jdk.SocketWrite")) {
+            settings.put(event + "#enabled", "true");
+            settings.put(event + "#threshold", "10 ms");
+        }
+        settings.put("jdk.ExecutionSample#period", "10 ms");
+        settings.put("jdk.InitialEnvironmentVariable#enabled", "false");
+        settings.put("jdk.InitialSystemProperty#enabled", "false");
+        return settings;
+    }
+
+    private static void enable(Map<String, String> settings, Class<?> type, Duration threshold) {
+        String name = type.getAnnotation(jdk.jfr.Name.class).value();
+        settings.put(name + "#enabled", "true");
+        settings.put(name + "#threshold", threshold.toMillis() + " ms");
+    }
+
+    private static Map<String, String> baseProfile() {
+        try {
+            return Configuration.getConfiguration("default").getSettings();
+        } catch (IOException | ParseException e) {
+            // Sem o perfil do JDK, grava apenas os eventos configurados aqui
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Publicação (até o record entrar no buffer do producer) ou consumo (handler completo) de um evento.
+ */
+@Name("br.com.ml.mktplace.orders.KafkaMessage")
+@Label("Kafka Message")
+@Category({"Orders", "Messaging"})
+@Description("Kafka publish (send call) or consume (listener handling)")
+@Enabled(false)
+@StackTrace(false)
+public class KafkaMessageEvent extends Event {
+
+    public static final String PUBLISH = "publish";
+    public static final String CONSUME = "consume";
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Topic")
+    private String topic;
+
+    @Label("Event Type")
+    private String eventType;
+
+    @Label("Key")
+    private String key;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(String direction, String topic, String eventType, String key, boolean success) {
+        if (shouldCommit()) {
+            this.direction = direction;
+            this.topic = topic;
+            this.eventType = eventType;
+            this.key = key;
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execução de um estágio do processamento de pedido (uma por chamada; estágios por item se repetem).
+ */
+@Name("br.com.ml.mktplace.orders.OrderStage")
+@Label("Order Processing Stage")
+@Category({"Orders", "Processing"})
+@Description("One execution of an order processing stage")
+@Enabled(false)
+@StackTrace(false)
+public class OrderStageEvent extends Event {
+
+    @Label("Order ID")
+    private String orderId;
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void complete(String orderId, String stage, String outcome) {
+        if (shouldCommit()) {
+            this.orderId = orderId;
+            this.stage = stage;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
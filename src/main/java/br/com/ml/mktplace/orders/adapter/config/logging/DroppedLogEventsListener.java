@@ -0,0 +1,43 @@
+package br.com.ml.mktplace.orders.adapter.config.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta os eventos descartados pelos appenders assíncronos (ring buffer cheio).
+ *
+ * Instanciado pelo Logback a partir do logback-spring.xml, antes do contexto Spring existir;
+ * por isso os contadores ficam num registro estático, lido depois por {@link LoggingMetricsBinder}.
+ * O contador de cada appender é mantido entre reconfigurações (scan do logback).
+ */
+public class DroppedLogEventsListener implements AppenderListener<ILoggingEvent> {
+
+    private static final ConcurrentMap<String, LongAdder> DROPPED = new ConcurrentHashMap<>();
+
+    @Override
+    public void appenderStarted(Appender<ILoggingEvent> appender) {
+        counter(appender.getName());
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        counter(appender.getName()).increment();
+    }
+
+    /**
+     * Contadores de descarte por nome de appender.
+     */
+    public static Map<String, LongAdder> droppedByAppender() {
+        return DROPPED;
+    }
+
+    static LongAdder counter(String appenderName) {
+        return DROPPED.computeIfAbsent(appenderName == null ? "unnamed" : appenderName, n -> new LongAdder());
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.ml.mktplace.orders.adapter.config.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Expõe {@code logging.events.dropped{appender}} a partir de {@link DroppedLogEventsListener}.
+ *
+ * Os appenders assíncronos já estão iniciados quando o registry é configurado, então cada um
+ * tem seu contador (zerado) registrado mesmo antes do primeiro descarte.
+ */
+@Component
+public class LoggingMetricsBinder implements MeterBinder {
+
+    public static final String LOG_EVENTS_DROPPED = "logging.events.dropped";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        DroppedLogEventsListener.droppedByAppender().forEach((appender, dropped) ->
+                FunctionCounter.builder(LOG_EVENTS_DROPPED, dropped, LongAdder::sum)
+                        .description("Eventos de log descartados com o ring buffer do appender assíncrono cheio")
+                        .tag("appender", appender)
+                        .register(registry));
+    }
+}
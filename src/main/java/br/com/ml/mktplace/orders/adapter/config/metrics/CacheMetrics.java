@@ -0,0 +1,160 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas dos adapters de cache, por cache e keyspace (prefixo da chave até o primeiro ':').
+ *
+ * - cache.operations.total{cache,keyspace,op=hit|miss}
+ * - cache.operation.duration{cache,keyspace,op=get|put|evict} (Timer com histograma)
+ * - cache.payload.size{cache,keyspace,op=get|put} (bytes serializados)
+ * - cache.deserialization.failures{cache,keyspace}
+ * - cache.hit.ratio{cache,keyspace} (hits / (hits + misses) desde o start)
+ *
+ * Keyspaces fora da lista conhecida caem em "other" para manter a cardinalidade fixa.
+ * Os meters de cada par cache/keyspace são resolvidos uma única vez.
+ */
+@Component
+public class CacheMetrics {
+
+    static final Set<String> KNOWN_KEYSPACES = Set.of("order", "item-dc-availability", "item-dc-ranking");
+    static final String OTHER_KEYSPACE = "other";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, KeyspaceMeters> meters = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static String keyspace(String key) {
+        if (key == null) {
+            return OTHER_KEYSPACE;
+        }
+        int separator = key.indexOf(':');
+        String prefix = separator < 0 ? key : key.substring(0, separator);
+        return KNOWN_KEYSPACES.contains(prefix) ? prefix : OTHER_KEYSPACE;
+    }
+
+    /**
+     * @param payloadBytes tamanho do valor lido; ignorado em miss
+     */
+    public void recordGet(String cache, String key, long elapsedNanos, boolean hit, int payloadBytes) {
+        KeyspaceMeters m = metersFor(cache, key);
+        m.getTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (hit) {
+            m.hits.increment();
+            m.readBytes.record(payloadBytes);
+        } else {
+            m.misses.increment();
+        }
+    }
+
+    public void recordPut(String cache, String key, long elapsedNanos, int payloadBytes) {
+        KeyspaceMeters m = metersFor(cache, key);
+        m.putTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        m.writtenBytes.record(payloadBytes);
+    }
+
+    public void recordEvict(String cache, String key, long elapsedNanos) {
+        metersFor(cache, key).evictTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void deserializationFailure(String cache, String key) {
+        metersFor(cache, key).deserializationFailures.increment();
+    }
+
+    /**
+     * Tamanho em bytes de uma string em UTF-8, sem alocar o array codificado.
+     */
+    public static int utf8Length(CharSequence value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private KeyspaceMeters metersFor(String cache, String key) {
+        String keyspace = keyspace(key);
+        return meters.computeIfAbsent(cache + '|' + keyspace, k -> new KeyspaceMeters(registry, cache, keyspace));
+    }
+
+    private static final class KeyspaceMeters {
+        final Timer getTimer;
+        final Timer putTimer;
+        final Timer evictTimer;
+        final Counter hits;
+        final Counter misses;
+        final Counter deserializationFailures;
+        final DistributionSummary readBytes;
+        final DistributionSummary writtenBytes;
+
+        KeyspaceMeters(MeterRegistry registry, String cache, String keyspace) {
+            this.getTimer = timer(registry, cache, keyspace, "get");
+            this.putTimer = timer(registry, cache, keyspace, "put");
+            this.evictTimer = timer(registry, cache, keyspace, "evict");
+            this.hits = operations(registry, cache, keyspace, "hit");
+            this.misses = operations(registry, cache, keyspace, "miss");
+            this.deserializationFailures = Counter.builder("cache.deserialization.failures")
+                    .description("Valores do cache descartados por falha de desserialização")
+                    .tags("cache", cache, "keyspace", keyspace)
+                    .register(registry);
+            this.readBytes = payload(registry, cache, keyspace, "get");
+            this.writtenBytes = payload(registry, cache, keyspace, "put");
+            Gauge.builder("cache.hit.ratio", this, KeyspaceMeters::hitRatio)
+                    .description("Proporção de hits sobre leituras desde o início da aplicação")
+                    .tags("cache", cache, "keyspace", keyspace)
+                    .register(registry);
+        }
+
+        double hitRatio() {
+            double total = hits.count() + misses.count();
+            return total == 0 ? Double.NaN : hits.count() / total;
+        }
+
+        private static Timer timer(MeterRegistry registry, String cache, String keyspace, String op) {
+            return Timer.builder("cache.operation.duration")
+                    .description("Latência das operações de cache")
+                    .tags("cache", cache, "keyspace", keyspace, "op", op)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private static Counter operations(MeterRegistry registry, String cache, String keyspace, String op) {
+            return Counter.builder("cache.operations.total")
+                    .description("Hits e misses de leitura do cache")
+                    .tags("cache", cache, "keyspace", keyspace, "op", op)
+                    .register(registry);
+        }
+
+        private static DistributionSummary payload(MeterRegistry registry, String cache, String keyspace, String op) {
+            return DistributionSummary.builder("cache.payload.size")
+                    .description("Tamanho serializado dos valores lidos/escritos no cache")
+                    .baseUnit("bytes")
+                    .tags("cache", cache, "keyspace", keyspace, "op", op)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
@@ -1,27 +1,73 @@
 package br.com.ml.mktplace.orders.adapter.config.metrics;
 
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
  * Centraliza métricas de observabilidade do domínio de pedidos.
+ *
+ * Counters com tag variável são resolvidos uma vez e guardados por valor da tag, evitando
+ * alocar listas de tags e consultar o registry a cada evento. Códigos de CD vêm de dados
+ * externos: acima de {@link #MAX_DC_CODE_TAGS} valores distintos, os novos caem em "OTHER".
  */
 @Component
 public class ObservabilityMetrics {
 
+    static final int MAX_DC_CODE_TAGS = 200;
+    static final int RECENT_TRACES_CAPACITY = 512;
+    static final String OTHER_DC_CODE = "OTHER";
+
     private final MeterRegistry registry;
     private final Timer processingTimer;
     private final DistributionSummary itemsPerOrder;
+    private final AtomicInteger activeReprocessJobs = new AtomicInteger();
+    private final ConcurrentMap<String, Counter> dcSelectionCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> bulkReprocessCounters = new ConcurrentHashMap<>();
+    private final Map<ProcessingTrace.Stage, Timer[]> stageTimers = new EnumMap<>(ProcessingTrace.Stage.class);
+    private final ProcessingTraceRecorder recentTraces = new ProcessingTraceRecorder(RECENT_TRACES_CAPACITY);
+    private final Duration sloLatencyTarget;
+    private final SloBurnRateTracker sloBurnRate;
+    private final Timer[] endToEndTimers = new Timer[OrderStatus.values().length];
+    private final Counter sloGood;
+    private final Counter sloBad;
+    private final Timer queueDwellTimer;
 
     public ObservabilityMetrics(MeterRegistry registry) {
+        this(registry, Duration.ofSeconds(30), 0.99, Duration.ofMinutes(5));
+    }
+
+    /**
+     * @param sloLatencyTarget pedidos concluídos como PROCESSED dentro deste tempo desde a criação contam como "bons"
+     * @param sloObjective fração de pedidos bons esperada (ex.: 0.99)
+     * @param sloWindow janela do gauge de burn rate
+     */
+    @Autowired
+    public ObservabilityMetrics(MeterRegistry registry,
+                                @Value("${app.orders.slo.latency-target:PT30S}") Duration sloLatencyTarget,
+                                @Value("${app.orders.slo.objective:0.99}") double sloObjective,
+                                @Value("${app.orders.slo.window:PT5M}") Duration sloWindow) {
         this.registry = registry;
+        this.sloLatencyTarget = sloLatencyTarget;
+        this.sloBurnRate = new SloBurnRateTracker(sloObjective, sloWindow, 60);
         this.processingTimer = Timer.builder("orders.processing.duration")
                 .description("Tempo de processamento de pedidos")
                 .publishPercentileHistogram()
@@ -31,6 +77,49 @@ public class ObservabilityMetrics {
                 .description("Distribuição de itens por pedido")
                 .publishPercentileHistogram()
                 .register(registry);
+
+        registry.gauge("orders.reprocess.bulk.jobs.active", activeReprocessJobs);
+
+        for (ProcessingTrace.Stage stage : ProcessingTrace.Stage.values()) {
+            Timer[] byOutcome = new Timer[ProcessingTrace.Outcome.values().length];
+            for (ProcessingTrace.Outcome outcome : ProcessingTrace.Outcome.values()) {
+                byOutcome[outcome.ordinal()] = Timer.builder("orders.processing.stage.duration")
+                        .description("Tempo por estágio do processamento de pedidos (acumulado por pedido)")
+                        .tag("stage", stage.name().toLowerCase())
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .publishPercentileHistogram()
+                        .register(registry);
+            }
+            stageTimers.put(stage, byOutcome);
+        }
+
+        for (OrderStatus status : new OrderStatus[] {OrderStatus.PROCESSED, OrderStatus.FAILED}) {
+            endToEndTimers[status.ordinal()] = Timer.builder("orders.e2e.latency")
+                    .description("Idade do pedido ao concluir o processamento (criação -> status final)")
+                    .tag("status", status.name())
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(sloLatencyTarget)
+                    .minimumExpectedValue(Duration.ofMillis(10))
+                    .maximumExpectedValue(Duration.ofMinutes(30))
+                    .register(registry);
+        }
+        this.sloGood = Counter.builder("orders.e2e.slo.events")
+                .description("Pedidos concluídos dentro (good) ou fora (bad) do SLO de latência")
+                .tag("result", "good")
+                .register(registry);
+        this.sloBad = Counter.builder("orders.e2e.slo.events")
+                .description("Pedidos concluídos dentro (good) ou fora (bad) do SLO de latência")
+                .tag("result", "bad")
+                .register(registry);
+        Gauge.builder("orders.e2e.slo.burn.rate", sloBurnRate, SloBurnRateTracker::burnRate)
+                .description("Consumo do error budget na janela (1 = no ritmo do objetivo)")
+                .register(registry);
+        this.queueDwellTimer = Timer.builder("orders.queue.dwell")
+                .description("Tempo entre o evento ORDER_CREATED e o início do consumo pelo listener")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(30))
+                .register(registry);
     }
 
     public <T> T recordProcessing(Supplier<T> supplier) {
@@ -43,6 +132,44 @@ public class ObservabilityMetrics {
         }
     }
 
+    /**
+     * Latência ponta a ponta percebida pelo cliente: da criação do pedido ao status final.
+     * Somente PROCESSED dentro do alvo conta como bom para o SLO; FAILED é sempre ruim.
+     */
+    public void recordOrderCompletion(Instant createdAt, OrderStatus finalStatus) {
+        if (createdAt == null || (finalStatus != OrderStatus.PROCESSED && finalStatus != OrderStatus.FAILED)) {
+            return;
+        }
+        Duration age = Duration.between(createdAt, Instant.now());
+        if (age.isNegative()) {
+            age = Duration.ZERO;
+        }
+        endToEndTimers[finalStatus.ordinal()].record(age);
+        boolean good = finalStatus == OrderStatus.PROCESSED && age.compareTo(sloLatencyTarget) <= 0;
+        (good ? sloGood : sloBad).increment();
+        sloBurnRate.record(good);
+    }
+
+    public void recordQueueDwell(Instant eventTimestamp) {
+        if (eventTimestamp != null) {
+            Duration dwell = Duration.between(eventTimestamp, Instant.now());
+            queueDwellTimer.record(dwell.isNegative() ? Duration.ZERO : dwell);
+        }
+    }
+
+    /**
+     * Publica os tempos por estágio de um processamento concluído e o retém entre os recentes.
+     */
+    public void recordTrace(ProcessingTrace trace) {
+        trace.getStageNanos().forEach((stage, nanos) ->
+                stageTimers.get(stage)[trace.getStageOutcomes().get(stage).ordinal()].record(nanos, TimeUnit.NANOSECONDS));
+        recentTraces.record(trace);
+    }
+
+    public List<ProcessingTrace> slowestRecentTraces(int limit) {
+        return recentTraces.slowest(limit);
+    }
+
     public void recordItemsPerOrder(int items) {
         if (items >= 0) {
             itemsPerOrder.record(items);
@@ -50,14 +177,37 @@ public class ObservabilityMetrics {
     }
 
     public void incrementDcSelection(String dcCode) {
-        registry.counter("distribution.centers.selected", List.of(Tag.of("code", dcCode == null ? "UNKNOWN" : dcCode))).increment();
+        String code = dcCode == null ? "UNKNOWN" : dcCode;
+        Counter counter = dcSelectionCounters.get(code);
+        if (counter == null) {
+            if (dcSelectionCounters.size() >= MAX_DC_CODE_TAGS) {
+                code = OTHER_DC_CODE;
+            }
+            counter = dcSelectionCounters.computeIfAbsent(code, this::dcSelectionCounter);
+        }
+        counter.increment();
+    }
+
+    private Counter dcSelectionCounter(String code) {
+        return Counter.builder("distribution.centers.selected")
+                .tag("code", code)
+                .register(registry);
+    }
+
+    public void bulkReprocessJobStarted() {
+        activeReprocessJobs.incrementAndGet();
     }
 
-    public void cacheHit(String cacheName) {
-        registry.counter("cache.operations.total", List.of(Tag.of("cache", cacheName), Tag.of("op", "hit"))).increment();
+    public void bulkReprocessJobFinished() {
+        activeReprocessJobs.decrementAndGet();
     }
 
-    public void cacheMiss(String cacheName) {
-        registry.counter("cache.operations.total", List.of(Tag.of("cache", cacheName), Tag.of("op", "miss"))).increment();
+    /**
+     * Progresso do reprocessamento em massa: matched (IDs lidos), succeeded, failed
+     */
+    public void incrementBulkReprocess(String outcome, int count) {
+        bulkReprocessCounters.computeIfAbsent(outcome, o -> Counter.builder("orders.reprocess.bulk.orders")
+                .tag("outcome", o)
+                .register(registry)).increment(count);
     }
 }
@@ -0,0 +1,52 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular com os últimos processamentos concluídos.
+ *
+ * A escrita é um incremento atômico + set no slot (sem lock no caminho quente); a ordenação
+ * por latência só acontece na leitura, feita sob demanda pelo endpoint do actuator.
+ */
+public class ProcessingTraceRecorder {
+
+    private final AtomicReferenceArray<ProcessingTrace> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ProcessingTraceRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void record(ProcessingTrace trace) {
+        int slot = (int) (sequence.getAndIncrement() % slots.length());
+        slots.set(slot, trace);
+    }
+
+    /**
+     * Os {@code limit} processamentos mais lentos entre os retidos, do mais lento ao mais rápido.
+     */
+    public List<ProcessingTrace> slowest(int limit) {
+        List<ProcessingTrace> snapshot = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            ProcessingTrace trace = slots.get(i);
+            if (trace != null) {
+                snapshot.add(trace);
+            }
+        }
+        snapshot.sort(Comparator.comparingLong(ProcessingTrace::getTotalNanos).reversed());
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Taxa de consumo do error budget de um SLO em uma janela deslizante.
+ *
+ * A janela é dividida em buckets de tempo; buckets mais antigos que a janela são
+ * reaproveitados. burn rate = (eventos ruins / total) / (1 - objetivo): 1.0 consome o
+ * budget exatamente no ritmo do SLO, acima disso o budget acaba antes do período.
+ */
+public class SloBurnRateTracker {
+
+    private final double errorBudget;
+    private final long bucketMillis;
+    private final long[] bucketIds;
+    private final long[] good;
+    private final long[] bad;
+    private final LongSupplier clockMillis;
+
+    public SloBurnRateTracker(double objective, Duration window, int buckets) {
+        this(objective, window, buckets, System::currentTimeMillis);
+    }
+
+    SloBurnRateTracker(double objective, Duration window, int buckets, LongSupplier clockMillis) {
+        if (objective <= 0 || objective >= 1) {
+            throw new IllegalArgumentException("Objective must be between 0 and 1 (exclusive)");
+        }
+        if (buckets <= 0 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Window must be split into at least one millisecond per bucket");
+        }
+        this.errorBudget = 1 - objective;
+        this.bucketMillis = window.toMillis() / buckets;
+        this.bucketIds = new long[buckets];
+        this.good = new long[buckets];
+        this.bad = new long[buckets];
+        this.clockMillis = clockMillis;
+    }
+
+    public synchronized void record(boolean isGood) {
+        long bucketId = clockMillis.getAsLong() / bucketMillis;
+        int index = (int) (bucketId % bucketIds.length);
+        if (bucketIds[index] != bucketId) {
+            bucketIds[index] = bucketId;
+            good[index] = 0;
+            bad[index] = 0;
+        }
+        if (isGood) {
+            good[index]++;
+        } else {
+            bad[index]++;
+        }
+    }
+
+    /**
+     * @return burn rate na janela atual, ou 0 quando não houve eventos
+     */
+    public synchronized double burnRate() {
+        long currentBucket = clockMillis.getAsLong() / bucketMillis;
+        long totalGood = 0;
+        long totalBad = 0;
+        for (int i = 0; i < bucketIds.length; i++) {
+            if (currentBucket - bucketIds[i] < bucketIds.length) {
+                totalGood += good[i];
+                totalBad += bad[i];
+            }
+        }
+        long total = totalGood + totalBad;
+        return total == 0 ? 0.0 : ((double) totalBad / total) / errorBudget;
+    }
+}
@@ -1,32 +1,48 @@
 package br.com.ml.mktplace.orders.adapter.config.metrics.http;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Simple Micrometer-based interceptor to time external HTTP calls
- * and record status/outcome per service and endpoint path.
+ * Micrometer-based interceptor for external HTTP calls.
+ *
+ * Meters (all tagged by {@code service} and templated {@code uri}):
+ * - {@code external.http.client.requests}: time until response headers, also tagged by
+ *   method, status class, outcome and exception
+ * - {@code external.http.client.response.body}: time spent reading the response body
+ * - {@code external.http.client.request.size} / {@code response.size}: bytes out / in
+ *
+ * Paths are normalized by {@link UriTemplateNormalizer} and every meter is resolved once
+ * per tag combination, so the hot path does no tag allocation or registry lookup.
  */
 public class HttpClientMetricsInterceptor implements ClientHttpRequestInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(HttpClientMetricsInterceptor.class);
     private static final String METRIC_NAME = "external.http.client.requests";
+    private static final int MAX_URI_TEMPLATES = 100;
 
     private final MeterRegistry registry;
     private final String serviceName;
+    private final UriTemplateNormalizer normalizer = new UriTemplateNormalizer(MAX_URI_TEMPLATES);
+    private final ConcurrentMap<RequestKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TransferMeters> transferMeters = new ConcurrentHashMap<>();
 
     public HttpClientMetricsInterceptor(MeterRegistry registry, String serviceName) {
         this.registry = registry;
@@ -41,7 +57,11 @@ public class HttpClientMetricsInterceptor implements ClientHttpRequestIntercepto
         long start = System.nanoTime();
         String method = request.getMethod() != null ? request.getMethod().name() : "UNKNOWN";
         URI uri = request.getURI();
-        String path = uri != null ? uri.getPath() : "unknown";
+        String template = normalizer.normalize(uri != null ? uri.getPath() : null);
+        TransferMeters transfer = transferMetersFor(template);
+        if (transfer != null) {
+            transfer.requestSize.record(body.length);
+        }
         String exception = "none";
         int status = 0;
         try {
@@ -51,42 +71,170 @@ public class HttpClientMetricsInterceptor implements ClientHttpRequestIntercepto
             } catch (Exception ignored) {
                 status = 0;
             }
-            return response;
+            return transfer != null ? new MeteredResponse(response, transfer) : response;
         } catch (IOException ex) {
             exception = ex.getClass().getSimpleName();
             throw ex;
         } finally {
-            long end = System.nanoTime();
-            recordTimer(Duration.ofNanos(end - start), method, path, status, exception);
+            recordRequest(System.nanoTime() - start, method, template, status, exception);
         }
     }
 
-    private void recordTimer(Duration duration, String method, String path, int status, String exception) {
-        String outcome = outcomeForStatus(status);
-        List<Tag> tags = new ArrayList<>();
-        tags.add(Tag.of("service", serviceName));
-        tags.add(Tag.of("method", method));
-        tags.add(Tag.of("uri", path));
-        tags.add(Tag.of("status", status == 0 ? "IO_ERROR" : Integer.toString(status)));
-        tags.add(Tag.of("outcome", outcome));
-        tags.add(Tag.of("exception", exception));
+    private void recordRequest(long elapsedNanos, String method, String template, int status, String exception) {
         try {
-            Timer.builder(METRIC_NAME)
-                    .tags(tags)
-                    .publishPercentileHistogram()
-                    .register(registry)
-                    .record(duration);
+            requestTimers.computeIfAbsent(new RequestKey(method, template, statusClass(status), exception), this::requestTimer)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
-            log.debug("Failed to record HTTP client metric: {} {} -> {}", method, path, status, e);
+            log.debug("Failed to record HTTP client metric: {} {} -> {}", method, template, status, e);
+        }
+    }
+
+    private Timer requestTimer(RequestKey key) {
+        return Timer.builder(METRIC_NAME)
+                .tag("service", serviceName)
+                .tag("method", key.method())
+                .tag("uri", key.uri())
+                .tag("status", key.status())
+                .tag("outcome", outcomeForStatusClass(key.status()))
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private TransferMeters transferMetersFor(String template) {
+        try {
+            return transferMeters.computeIfAbsent(template, t -> new TransferMeters(registry, serviceName, t));
+        } catch (Exception e) {
+            log.debug("Failed to resolve HTTP transfer meters for {}", template, e);
+            return null;
+        }
+    }
+
+    static String statusClass(int status) {
+        if (status < 100 || status >= 600) {
+            return "IO_ERROR";
         }
+        return (status / 100) + "xx";
+    }
+
+    private static String outcomeForStatusClass(String statusClass) {
+        return switch (statusClass) {
+            case "1xx" -> "INFORMATIONAL";
+            case "2xx" -> "SUCCESS";
+            case "3xx" -> "REDIRECTION";
+            case "4xx" -> "CLIENT_ERROR";
+            case "5xx" -> "SERVER_ERROR";
+            default -> "IO_ERROR";
+        };
     }
 
-    private String outcomeForStatus(int status) {
-        if (status >= 100 && status < 200) return "INFORMATIONAL";
-        if (status >= 200 && status < 300) return "SUCCESS";
-        if (status >= 300 && status < 400) return "REDIRECTION";
-        if (status >= 400 && status < 500) return "CLIENT_ERROR";
-        if (status >= 500 && status < 600) return "SERVER_ERROR";
-        return status == 0 ? "IO_ERROR" : "UNKNOWN";
+    private record RequestKey(String method, String uri, String status, String exception) {
+    }
+
+    private static final class TransferMeters {
+        final DistributionSummary requestSize;
+        final DistributionSummary responseSize;
+        final Timer bodyTimer;
+
+        TransferMeters(MeterRegistry registry, String service, String uri) {
+            this.requestSize = DistributionSummary.builder("external.http.client.request.size")
+                    .description("Bytes enviados no corpo das requisições externas")
+                    .baseUnit("bytes")
+                    .tags("service", service, "uri", uri)
+                    .register(registry);
+            this.responseSize = DistributionSummary.builder("external.http.client.response.size")
+                    .description("Bytes recebidos no corpo das respostas externas")
+                    .baseUnit("bytes")
+                    .tags("service", service, "uri", uri)
+                    .register(registry);
+            this.bodyTimer = Timer.builder("external.http.client.response.body")
+                    .description("Tempo de leitura do corpo da resposta após os headers")
+                    .tags("service", service, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Counts response bytes and body read time; recorded once, at EOF or close.
+     */
+    private static final class MeteredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final TransferMeters meters;
+        private final long headersReceivedAt = System.nanoTime();
+        private long bytes;
+        private boolean recorded;
+        private InputStream body;
+
+        MeteredResponse(ClientHttpResponse delegate, TransferMeters meters) {
+            this.delegate = delegate;
+            this.meters = meters;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        count(b < 0 ? -1 : 1);
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int off, int len) throws IOException {
+                        int n = super.read(buffer, off, len);
+                        count(n);
+                        return n;
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        record();
+                        super.close();
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            record();
+            delegate.close();
+        }
+
+        private void count(int n) {
+            if (n < 0) {
+                record();
+            } else {
+                bytes += n;
+            }
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                meters.responseSize.record(bytes);
+                meters.bodyTimer.record(System.nanoTime() - headersReceivedAt, TimeUnit.NANOSECONDS);
+            }
+        }
     }
 }
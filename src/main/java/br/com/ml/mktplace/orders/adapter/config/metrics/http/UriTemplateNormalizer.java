@@ -0,0 +1,75 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics.http;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes request paths into low-cardinality URI templates for metric tags.
+ *
+ * Segments that look like identifiers (contain a digit, or are long opaque tokens) become
+ * {@code {id}}; version segments such as {@code v1} are kept. Once {@code maxTemplates}
+ * distinct templates have been seen, new ones collapse into {@code OTHER}.
+ */
+public class UriTemplateNormalizer {
+
+    static final String OTHER = "OTHER";
+    private static final String ID = "{id}";
+    private static final Pattern VERSION = Pattern.compile("v\\d{1,2}");
+    private static final int OPAQUE_TOKEN_LENGTH = 24;
+
+    private final int maxTemplates;
+    private final Set<String> templates = ConcurrentHashMap.newKeySet();
+
+    public UriTemplateNormalizer(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+
+    public String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        String template = templateOf(path);
+        if (templates.contains(template)) {
+            return template;
+        }
+        if (templates.size() >= maxTemplates) {
+            return OTHER;
+        }
+        templates.add(template);
+        return template;
+    }
+
+    static String templateOf(String path) {
+        StringBuilder template = new StringBuilder(path.length());
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+            template.append(isIdentifier(segment) ? ID : segment);
+            if (end < path.length()) {
+                template.append('/');
+            }
+            start = end + 1;
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        if (segment.isEmpty() || VERSION.matcher(segment).matches()) {
+            return false;
+        }
+        if (segment.length() >= OPAQUE_TOKEN_LENGTH) {
+            return true;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (Character.isDigit(segment.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.ml.mktplace.orders.adapter.config.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exporta spans como JSON, um por linha, para um arquivo local.
+ *
+ * Pensado para desenvolvimento e para ambientes sem collector: o arquivo pode ser lido com
+ * jq ou importado depois. Ao passar de {@code maxBytes} o arquivo atual vira {@code <arquivo>.1}
+ * (um único backup). Chamado pelo BatchSpanProcessor, que exporta a partir de uma só thread.
+ */
+public class JsonFileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonFileSpanExporter.class);
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final long maxBytes;
+    private BufferedWriter writer;
+    private long written;
+    private boolean shutdown;
+
+    public JsonFileSpanExporter(ObjectMapper objectMapper, Path file, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        try {
+            for (SpanData span : spans) {
+                String line = objectMapper.writeValueAsString(toJson(span));
+                rollIfNeeded();
+                writer.write(line);
+                writer.newLine();
+                written += line.length() + 1L;
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to export {} spans to {}: {}", spans.size(), file, e.getMessage());
+            closeQuietly();
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) {
+                writer.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        shutdown = true;
+        closeQuietly();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("service", span.getResource().getAttribute(SERVICE_NAME));
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        json.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        json.put("attributes", attributes);
+        if (!span.getEvents().isEmpty()) {
+            json.put("events", span.getEvents().stream().map(EventData::getName).toList());
+        }
+        return json;
+    }
+
+    private void rollIfNeeded() throws IOException {
+        if (writer != null && written < maxBytes) {
+            return;
+        }
+        if (writer != null) {
+            writer.close();
+            Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        written = Files.size(file);
+    }
+
+    private void closeQuietly() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // arquivo será reaberto no próximo export
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.ml.mktplace.orders.adapter.inbound.actuator;
+
+import br.com.ml.mktplace.orders.adapter.config.jfr.JfrRecordingSettings;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Endpoint do actuator para gravações JFR sob demanda, com o perfil de {@link JfrRecordingSettings}.
+ *
+ * - GET    /actuator/jfr             estado da gravação atual e arquivos disponíveis
+ * - POST   /actuator/jfr             inicia ({"duration": "PT2M"}; padrão app.jfr.default-duration, limitado a app.jfr.max-duration)
+ * - DELETE /actuator/jfr             encerra antes do prazo e grava o arquivo
+ * - GET    /actuator/jfr/{file}      download do .jfr
+ *
+ * Uma gravação por vez; são mantidos os {@code app.jfr.retained-files} arquivos mais recentes.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingEndpoint.class);
+    private static final Pattern FILE_NAME = Pattern.compile("orders-[0-9TZ]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+    private final int retainedFiles;
+    private final Map<String, String> settings;
+    private Recording active;
+    private Path activeFile;
+
+    public JfrRecordingEndpoint(
+            @Value("${app.jfr.directory:${java.io.tmpdir}/orders-jfr}") Path directory,
+            @Value("${app.jfr.default-duration:PT5M}") Duration defaultDuration,
+            @Value("${app.jfr.max-duration:PT30M}") Duration maxDuration,
+            @Value("${app.jfr.max-size:250MB}") DataSize maxSize,
+            @Value("${app.jfr.retained-files:5}") int retainedFiles,
+            @Value("${app.jfr.event-threshold:0ms}") Duration eventThreshold,
+            @Value("${app.jfr.cache-event-threshold:1ms}") Duration cacheEventThreshold) {
+        this.directory = directory;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSize.toBytes();
+        this.retainedFiles = Math.max(retainedFiles, 1);
+        this.settings = JfrRecordingSettings.tuned(eventThreshold, cacheEventThreshold);
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        return currentStatus();
+    }
+
+    @WriteOperation
+    public synchronized RecordingStatus start(@Nullable Duration duration) throws IOException {
+        if (isRunning()) {
+            throw new InvalidEndpointRequestException("A JFR recording is already running: " + activeFile.getFileName(),
+                    "A JFR recording is already running");
+        }
+        closeFinished();
+        Duration effective = duration == null || duration.isZero() || duration.isNegative()
+                ? defaultDuration : duration;
+        if (effective.compareTo(maxDuration) > 0) {
+            effective = maxDuration;
+        }
+
+        Files.createDirectories(directory);
+        Path file = newRecordingFile();
+        Recording recording = new Recording(settings);
+        recording.setName("orders-on-demand");
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSizeBytes);
+        recording.setDuration(effective);
+        recording.setDestination(file);
+        recording.start();
+        this.active = recording;
+        this.activeFile = file;
+        log.info("JFR recording started - file: {}, duration: {}", file, effective);
+        return currentStatus();
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (isRunning()) {
+            active.stop();
+            log.info("JFR recording stopped - file: {}", activeFile);
+        }
+        closeFinished();
+        return currentStatus();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource download(@Selector String file) {
+        if (!FILE_NAME.matcher(file).matches()) {
+            return null;
+        }
+        Path path = directory.resolve(file);
+        if (isRunning() && path.equals(activeFile)) {
+            return null; // ainda não foi gravado
+        }
+        return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+    }
+
+    /**
+     * Nome com milissegundos; se ainda assim colidir (stop e start no mesmo instante), avança o
+     * timestamp até um nome livre, sem sobrescrever a gravação anterior nem quebrar a ordenação.
+     */
+    private Path newRecordingFile() {
+        Instant stamp = Instant.now();
+        Path file = directory.resolve("orders-" + FILE_TIMESTAMP.format(stamp) + ".jfr");
+        while (Files.exists(file)) {
+            stamp = stamp.plusMillis(1);
+            file = directory.resolve("orders-" + FILE_TIMESTAMP.format(stamp) + ".jfr");
+        }
+        return file;
+    }
+
+    private boolean isRunning() {
+        return active != null && active.getState() != RecordingState.STOPPED && active.getState() != RecordingState.CLOSED;
+    }
+
+    /**
+     * Libera a gravação encerrada (por prazo ou stop) e aplica a retenção de arquivos.
+     */
+    private void closeFinished() {
+        if (active != null && !isRunning()) {
+            active.close();
+            active = null;
+            activeFile = null;
+            pruneOldFiles();
+        }
+    }
+
+    private void pruneOldFiles() {
+        List<Path> files = recordings();
+        for (Path old : files.subList(Math.min(retainedFiles, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(old);
+            } catch (IOException e) {
+                log.warn("Failed to delete old JFR recording {}: {}", old, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Arquivos de gravação, do mais recente ao mais antigo (o nome carrega o timestamp UTC).
+     */
+    private List<Path> recordings() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(p -> FILE_NAME.matcher(p.getFileName().toString()).matches())
+                    .filter(p -> !p.equals(activeFile))
+                    .sorted(Comparator.comparing((Path p) -> p.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list JFR recordings in {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private RecordingStatus currentStatus() {
+        closeFinished();
+        List<RecordingFile> files = recordings().stream()
+                .map(p -> new RecordingFile(p.getFileName().toString(), size(p)))
+                .toList();
+        if (active == null) {
+            return new RecordingStatus(false, null, null, null, files);
+        }
+        return new RecordingStatus(true, activeFile.getFileName().toString(), active.getStartTime(),
+                active.getDuration(), files);
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public record RecordingStatus(boolean running, String file, Instant startedAt, Duration duration,
+                                  List<RecordingFile> files) {
+    }
+
+    public record RecordingFile(String name, long bytes) {
+    }
+}
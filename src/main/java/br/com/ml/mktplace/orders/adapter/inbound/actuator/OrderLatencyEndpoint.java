@@ -0,0 +1,60 @@
+package br.com.ml.mktplace.orders.adapter.inbound.actuator;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint do actuator com os processamentos mais lentos entre os recentes e seus estágios.
+ *
+ * GET /actuator/orderlatency?limit=N (padrão 10, máximo 100)
+ */
+@Component
+@Endpoint(id = "orderlatency")
+public class OrderLatencyEndpoint {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 100;
+
+    private final ObservabilityMetrics observabilityMetrics;
+
+    public OrderLatencyEndpoint(ObservabilityMetrics observabilityMetrics) {
+        this.observabilityMetrics = observabilityMetrics;
+    }
+
+    @ReadOperation
+    public List<SlowOrder> slowest(@Nullable Integer limit) {
+        int effectiveLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return observabilityMetrics.slowestRecentTraces(effectiveLimit).stream()
+                .map(SlowOrder::from)
+                .toList();
+    }
+
+    public record SlowOrder(String orderId, Instant startedAt, OrderStatus finalStatus, double totalMs,
+                            Map<ProcessingTrace.Stage, StageTiming> stages) {
+
+        static SlowOrder from(ProcessingTrace trace) {
+            Map<ProcessingTrace.Stage, StageTiming> stages = new EnumMap<>(ProcessingTrace.Stage.class);
+            trace.getStageNanos().forEach((stage, nanos) ->
+                    stages.put(stage, new StageTiming(toMillis(nanos), trace.getStageOutcomes().get(stage))));
+            return new SlowOrder(trace.getOrderId(), trace.getStartedAt(), trace.getFinalStatus(),
+                    toMillis(trace.getTotalNanos()), stages);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    public record StageTiming(double ms, ProcessingTrace.Outcome outcome) {
+    }
+}
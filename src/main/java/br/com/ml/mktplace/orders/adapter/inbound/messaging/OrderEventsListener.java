@@ -1,14 +1,21 @@
 package br.com.ml.mktplace.orders.adapter.inbound.messaging;
 
+import br.com.ml.mktplace.orders.adapter.config.jfr.KafkaMessageEvent;
+import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.adapter.inbound.filter.CorrelationIdFilter;
 import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
 /**
  * Listens to order domain events and triggers processing for ORDER_CREATED events.
  */
@@ -16,16 +23,20 @@ import org.springframework.stereotype.Component;
 public class OrderEventsListener {
 
     private static final Logger log = LoggerFactory.getLogger(OrderEventsListener.class);
+    private static final String TOPIC = "orders.events";
 
     private final ObjectMapper objectMapper;
     private final ProcessOrderUseCase processOrderUseCase;
+    private final ObservabilityMetrics observabilityMetrics;
 
-    public OrderEventsListener(ObjectMapper objectMapper, ProcessOrderUseCase processOrderUseCase) {
+    public OrderEventsListener(ObjectMapper objectMapper, ProcessOrderUseCase processOrderUseCase,
+                               ObservabilityMetrics observabilityMetrics) {
         this.objectMapper = objectMapper;
         this.processOrderUseCase = processOrderUseCase;
+        this.observabilityMetrics = observabilityMetrics;
     }
 
-    @KafkaListener(topics = "orders.events", groupId = "${app.kafka.consumer.group-id:orders-service-consumers}")
+    @KafkaListener(topics = TOPIC, groupId = "${app.kafka.consumer.group-id:orders-service-consumers}")
     public void onOrderEvent(@Payload String message) {
         if (message == null || message.isBlank()) {
             return;
@@ -35,11 +46,24 @@ public class OrderEventsListener {
             String eventType = text(root, "eventType");
             String aggregateId = text(root, "aggregateId");
             if ("ORDER_CREATED".equals(eventType) && aggregateId != null) {
-                log.info("[OrderEventsListener] Processing ORDER_CREATED event for order {}", aggregateId);
+                observabilityMetrics.recordQueueDwell(timestamp(root));
+                // The trace continues from the record headers; correlationId travels in the payload
+                String correlationId = text(root, "correlationId");
+                if (correlationId != null) {
+                    MDC.put(CorrelationIdFilter.MDC_KEY, correlationId);
+                }
+                KafkaMessageEvent event = new KafkaMessageEvent();
+                event.begin();
+                boolean success = false;
                 try {
+                    log.info("[OrderEventsListener] Processing ORDER_CREATED event for order {}", aggregateId);
                     processOrderUseCase.processOrder(aggregateId);
+                    success = true;
                 } catch (Exception e) {
                     log.error("Failed to process order {} from event: {}", aggregateId, e.getMessage(), e);
+                } finally {
+                    event.complete(KafkaMessageEvent.CONSUME, TOPIC, eventType, aggregateId, success);
+                    MDC.remove(CorrelationIdFilter.MDC_KEY);
                 }
             }
         } catch (Exception e) {
@@ -47,6 +71,19 @@ public class OrderEventsListener {
         }
     }
 
+    private Instant timestamp(JsonNode root) {
+        String value = text(root, "timestamp");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable event timestamp: {}", value);
+            return null;
+        }
+    }
+
     private String text(JsonNode node, String field) {
         JsonNode n = node.get(field);
         return n != null && !n.isNull() ? n.asText() : null;
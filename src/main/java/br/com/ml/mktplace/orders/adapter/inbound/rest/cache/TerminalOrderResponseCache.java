@@ -0,0 +1,211 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.cache;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.CacheMetrics;
+import br.com.ml.mktplace.orders.adapter.outbound.cache.CacheKeys;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+/**
+ * Cache no heap do JSON já serializado de {@code GET /v1/orders/{id}} para pedidos em status final.
+ *
+ * Pedidos PROCESSED/FAILED só mudam num reprocessamento; a resposta (bytes + ETag) é guardada e
+ * devolvida sem acesso ao banco, mapeamento para DTO ou serialização. Invalidação:
+ * - qualquer mudança de status do pedido, local ou de outro pod (via {@link OrderStatusNotifier})
+ * - TTL ({@code app.orders.response-cache.ttl}), como rede de segurança se o pub/sub perder a mensagem
+ *
+ * Cada carga reserva a chave com um token antes de ler o banco e só grava trocando exatamente esse
+ * token pela resposta (CAS no mapa); se uma invalidação chega no meio, o token some e o valor lido
+ * (possivelmente antigo) não é guardado. Não há lock global: leituras são um {@code get} no
+ * {@link ConcurrentHashMap}. O limite ({@code app.orders.response-cache.max-entries}, 0 desliga)
+ * conta só respostas guardadas, nunca reservas, e é mantido por LRU aproximado: ao passar do limite,
+ * remove a entrada acessada há mais tempo numa amostra tirada de um trecho aleatório do mapa.
+ */
+@Component
+public class TerminalOrderResponseCache {
+
+    static final String CACHE_NAME = "response";
+    static final int EVICTION_SAMPLE = 8;
+    static final int EVICTION_SAMPLE_PER_REGION = 2;
+
+    private final CacheMetrics cacheMetrics;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final boolean enabled;
+    // Valor: Entry (resposta guardada) ou token de reserva de uma carga em andamento
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger cached = new AtomicInteger();
+
+    public TerminalOrderResponseCache(OrderStatusNotifier statusNotifier,
+                                      CacheMetrics cacheMetrics,
+                                      @Value("${app.orders.response-cache.max-entries:5000}") int maxEntries,
+                                      @Value("${app.orders.response-cache.ttl:PT10M}") Duration ttl) {
+        this.cacheMetrics = cacheMetrics;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.enabled = maxEntries > 0;
+        statusNotifier.subscribeAll((orderId, status) -> evict(orderId));
+    }
+
+    /**
+     * Resposta serializada de um pedido e seu ETag (status + hash do conteúdo).
+     */
+    public record CachedResponse(OrderStatus status, byte[] body, String etag) {
+
+        public static CachedResponse of(OrderStatus status, byte[] body) {
+            CRC32C crc = new CRC32C();
+            crc.update(body);
+            return new CachedResponse(status, body, "\"" + status.name() + "-" + HexFormat.of().toHexDigits((int) crc.getValue()) + "\"");
+        }
+
+        boolean terminal() {
+            return status == OrderStatus.PROCESSED || status == OrderStatus.FAILED;
+        }
+    }
+
+    private static final class Entry {
+
+        final CachedResponse response;
+        final long expiresAtNanos;
+        volatile long lastAccessNanos;
+
+        Entry(CachedResponse response, long now, long ttlNanos) {
+            this.response = response;
+            this.expiresAtNanos = now + ttlNanos;
+            this.lastAccessNanos = now;
+        }
+    }
+
+    public CachedResponse get(String orderId) {
+        if (!enabled) {
+            return null;
+        }
+        long start = System.nanoTime();
+        CachedResponse hit = null;
+        if (entries.get(orderId) instanceof Entry entry) {
+            if (entry.expiresAtNanos - start > 0) {
+                entry.lastAccessNanos = start;
+                hit = entry.response;
+            } else if (entries.remove(orderId, entry)) {
+                cached.decrementAndGet();
+            }
+        }
+        cacheMetrics.recordGet(CACHE_NAME, CacheKeys.ORDER_PREFIX, System.nanoTime() - start, hit != null,
+                hit != null ? hit.body().length : 0);
+        return hit;
+    }
+
+    /**
+     * Reserva a chave antes da leitura no banco; o token deve ser passado a {@link #put} ou,
+     * se a carga falhar, a {@link #release}. Com outra carga já em andamento, a reserva existente
+     * é mantida e esta carga apenas não será guardada.
+     */
+    public Object reserve(String orderId) {
+        Object token = new Object();
+        if (enabled) {
+            entries.putIfAbsent(orderId, token);
+        }
+        return token;
+    }
+
+    /**
+     * Guarda a resposta se o pedido está em status final e a reserva não foi invalidada;
+     * caso contrário apenas libera a reserva.
+     */
+    public void put(String orderId, Object reservation, CachedResponse response) {
+        if (!enabled) {
+            return;
+        }
+        if (!response.terminal()) {
+            release(orderId, reservation);
+            return;
+        }
+        if (entries.replace(orderId, reservation, new Entry(response, System.nanoTime(), ttlNanos))) {
+            cacheMetrics.recordPut(CACHE_NAME, CacheKeys.ORDER_PREFIX, 0, response.body().length);
+            if (cached.incrementAndGet() > maxEntries) {
+                evictLeastRecentlyUsed();
+            }
+        }
+    }
+
+    /**
+     * Libera a reserva de uma carga que não vai guardar resposta (erro ou pedido inexistente),
+     * sem afetar uma resposta guardada por outra carga
+     */
+    public void release(String orderId, Object reservation) {
+        if (enabled) {
+            entries.remove(orderId, reservation);
+        }
+    }
+
+    public void evict(String orderId) {
+        if (enabled && entries.remove(orderId) instanceof Entry) {
+            cached.decrementAndGet();
+        }
+    }
+
+    /**
+     * Amostra {@link #EVICTION_SAMPLE} respostas guardadas, {@link #EVICTION_SAMPLE_PER_REGION} de cada
+     * trecho aleatório da tabela, e remove a acessada há mais tempo. Começar sempre do início da
+     * iteração faria dos mesmos buckets (hash do ID) as vítimas; cada trecho é escolhido descendo por
+     * {@code trySplit} do spliterator, em O(log n).
+     */
+    private void evictLeastRecentlyUsed() {
+        while (cached.get() > maxEntries) {
+            String victimId = null;
+            Entry victim = null;
+            int sampled = 0;
+            for (int attempt = 0; attempt < 2 * EVICTION_SAMPLE && sampled < EVICTION_SAMPLE; attempt++) {
+                Iterator<Map.Entry<String, Object>> region = Spliterators.iterator(randomRegion());
+                for (int taken = 0; taken < EVICTION_SAMPLE_PER_REGION && region.hasNext(); ) {
+                    Map.Entry<String, Object> candidate = region.next();
+                    if (candidate.getValue() instanceof Entry entry) {
+                        taken++;
+                        sampled++;
+                        if (victim == null || entry.lastAccessNanos - victim.lastAccessNanos < 0) {
+                            victimId = candidate.getKey();
+                            victim = entry;
+                        }
+                    }
+                }
+            }
+            if (victim == null) {
+                return;
+            }
+            if (entries.remove(victimId, victim)) {
+                cached.decrementAndGet();
+            }
+        }
+    }
+
+    private Spliterator<Map.Entry<String, Object>> randomRegion() {
+        Spliterator<Map.Entry<String, Object>> region = entries.entrySet().spliterator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (region.estimateSize() > EVICTION_SAMPLE_PER_REGION) {
+            Spliterator<Map.Entry<String, Object>> prefix = region.trySplit();
+            if (prefix == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                region = prefix;
+            }
+        }
+        return region;
+    }
+
+    int size() {
+        return cached.get();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.UUID;
+
+/**
+ * Cabeçalhos padrão das respostas da API v1: versão e correlation ID.
+ */
+final class ApiHeaders {
+
+    static final String API_VERSION = "1.0";
+
+    private ApiHeaders() {
+    }
+
+    /**
+     * API-Version e X-Correlation-ID (gerado quando o cliente não envia)
+     */
+    static HttpHeaders of(String correlationId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("API-Version", API_VERSION);
+        headers.set("X-Correlation-ID", correlationId == null || correlationId.isBlank()
+                ? UUID.randomUUID().toString() : correlationId);
+        return headers;
+    }
+
+    /**
+     * Como {@link #of}, com Content-Type JSON fixo (respostas escritas como bytes já serializados)
+     */
+    static HttpHeaders json(String correlationId) {
+        HttpHeaders headers = of(correlationId);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+}
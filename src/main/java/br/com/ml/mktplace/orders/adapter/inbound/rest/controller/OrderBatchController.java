@@ -0,0 +1,168 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.BatchOrderRequest;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.BatchOrderResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderRequest;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderCommand;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for batch order ingestion.
+ *
+ * Um único request cria N pedidos: validação por pedido, uma reserva de IDs,
+ * um INSERT em lote e um lote de eventos ORDER_CREATED. Pedidos inválidos são rejeitados
+ * individualmente (207 Multi-Status); falha de persistência derruba o lote inteiro.
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Orders", description = "Order processing and management endpoints")
+public class OrderBatchController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderBatchController.class);
+    
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderRestMapper mapper;
+    private final Validator validator;
+    private final int maxBatchSize;
+    
+    @Autowired
+    public OrderBatchController(CreateOrderUseCase createOrderUseCase,
+                                OrderRestMapper mapper,
+                                Validator validator,
+                                @Value("${app.orders.batch.max-size:500}") int maxBatchSize) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    /**
+     * Create orders in batch
+     * POST /v1/orders:batch
+     */
+    @PostMapping("/orders:batch")
+    @Operation(summary = "Create orders in batch",
+           description = "Creates up to app.orders.batch.max-size orders in a single request. Each order is validated individually; results are returned in request order.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All orders created",
+            content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Some orders were rejected; see per-order results",
+            content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+        @ApiResponse(responseCode = "503", description = "External service unavailable")
+    })
+    public ResponseEntity<BatchOrderResponse> createOrders(
+            @RequestBody BatchOrderRequest request,
+            @Parameter(description = "Correlation ID for request tracking", example = "550e8400-e29b-41d4-a716-446655440000")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
+        
+        // Generate correlation ID if not provided
+        if (correlationId == null || correlationId.trim().isEmpty()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+        
+        List<OrderRequest> orders = request != null ? request.getOrders() : null;
+        if (orders == null || orders.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        if (orders.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size " + orders.size() + " exceeds maximum of " + maxBatchSize);
+        }
+        
+        logger.info("Processing batch order request - Correlation ID: {}, Orders: {}", correlationId, orders.size());
+        
+        // Validate and map each order independently
+        int size = orders.size();
+        CreateOrderCommand[] commands = new CreateOrderCommand[size];
+        String[] errors = new String[size];
+        // Sequencial: Bean Validation de 500 DTOs é barato e não vale disputar o ForkJoinPool comum
+        for (int i = 0; i < size; i++) {
+            try {
+                errors[i] = validate(orders.get(i));
+                if (errors[i] == null) {
+                    commands[i] = mapper.toCommand(orders.get(i));
+                }
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        
+        List<CreateOrderCommand> validCommands = new ArrayList<>(size);
+        for (CreateOrderCommand command : commands) {
+            if (command != null) validCommands.add(command);
+        }
+        
+        List<CreateOrderResult> created = validCommands.isEmpty()
+                ? List.of()
+                : createOrderUseCase.createOrders(validCommands);
+        
+        List<BatchOrderResponse.Result> results = new ArrayList<>(size);
+        for (int i = 0, next = 0; i < size; i++) {
+            if (commands[i] == null) {
+                results.add(BatchOrderResponse.Result.rejected(i, errors[i]));
+                continue;
+            }
+            CreateOrderResult result = created.get(next++);
+            results.add(result.isCreated()
+                    ? BatchOrderResponse.Result.created(i, mapper.toResponse(result.order()))
+                    : BatchOrderResponse.Result.rejected(i, result.error()));
+        }
+        BatchOrderResponse response = new BatchOrderResponse(results);
+        
+        logger.info("Batch order request completed - Correlation ID: {}, Accepted: {}, Rejected: {}",
+                correlationId, response.getAccepted(), response.getRejected());
+        
+        HttpStatus status = response.getRejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status)
+                .headers(ApiHeaders.json(correlationId))
+                .body(response);
+    }
+    
+    /**
+     * Bean Validation + business rule (client MUST NOT send coordinates); null when valid
+     */
+    private String validate(OrderRequest order) {
+        if (order == null) {
+            return "Order is required";
+        }
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(order);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (order.getDeliveryAddress() != null && order.getDeliveryAddress().getCoordinates() != null) {
+            return "deliveryAddress.coordinates must not be provided";
+        }
+        return null;
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
 
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache.CachedResponse;
 import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderRequest;
 import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderResponseJsonWriter;
 import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
@@ -23,6 +26,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -36,19 +40,24 @@ import java.util.stream.Collectors;
 public class OrderController {
     
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
-    private static final String API_VERSION = "1.0";
     
     private final CreateOrderUseCase createOrderUseCase;
     private final QueryOrderUseCase queryOrderUseCase;
     private final OrderRestMapper mapper;
+    private final OrderResponseJsonWriter responseWriter;
+    private final TerminalOrderResponseCache responseCache;
     
     @Autowired
     public OrderController(CreateOrderUseCase createOrderUseCase, 
                           QueryOrderUseCase queryOrderUseCase,
-                          OrderRestMapper mapper) {
+                          OrderRestMapper mapper,
+                          OrderResponseJsonWriter responseWriter,
+                          TerminalOrderResponseCache responseCache) {
         this.createOrderUseCase = createOrderUseCase;
         this.queryOrderUseCase = queryOrderUseCase;
         this.mapper = mapper;
+        this.responseWriter = responseWriter;
+        this.responseCache = responseCache;
     }
     
     /**
@@ -57,7 +66,7 @@ public class OrderController {
      */
     @PostMapping
     @Operation(summary = "Create a new order", 
-           description = "Creates an order and publishes ORDER_CREATED event for asynchronous processing. The returned status will usually be RECEIVED; clients should poll or subscribe to events for completion.")
+           description = "Creates an order and publishes ORDER_CREATED event for asynchronous processing. The returned status will usually be RECEIVED; clients should wait with GET /v1/orders/{id}?waitFor=PROCESSED or the /v1/orders/{id}/events SSE stream instead of polling.")
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
         description = "Order creation payload including deliveryAddress (client MUST NOT send coordinates; service resolves them by geocoding)",
         required = true,
@@ -91,7 +100,7 @@ public class OrderController {
             correlationId = UUID.randomUUID().toString();
         }
         
-        logger.info("Processing new order request - Correlation ID: {}, Customer: {}, Items: {}", 
+        logger.debug("Processing new order request - Correlation ID: {}, Customer: {}, Items: {}", 
                 correlationId, request.getCustomerId(), request.getItems().size());
         
         try {
@@ -99,7 +108,7 @@ public class OrderController {
             if (request.getDeliveryAddress() != null && request.getDeliveryAddress().getCoordinates() != null) {
                 logger.warn("Rejecting order creation with client-supplied coordinates - Correlation ID: {}", correlationId);
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .headers(buildResponseHeaders(correlationId))
+                        .headers(ApiHeaders.json(correlationId))
                         .body(null);
             }
             // Convert DTO to domain object
@@ -116,13 +125,13 @@ public class OrderController {
             OrderResponse response = mapper.toResponse(createdOrder);
             
             // Build response headers
-            HttpHeaders headers = buildResponseHeaders(correlationId);
+            HttpHeaders headers = ApiHeaders.json(correlationId);
             
         logger.info("Order accepted for async processing - ID: {}, Current Status: {}, Correlation ID: {}", 
             createdOrder.getId(), createdOrder.getStatus(), correlationId);
             
     // Build Location header for the new resource
-    headers.set(HttpHeaders.LOCATION, String.format("/v1/orders/%s", createdOrder.getId()));
+    headers.set(HttpHeaders.LOCATION, "/v1/orders/" + createdOrder.getId());
 
     return ResponseEntity.status(HttpStatus.CREATED)
         .headers(headers)
@@ -137,41 +146,57 @@ public class OrderController {
     /**
      * Get order by ID
      * GET /v1/orders/{id}
+     *
+     * A resposta leva ETag (status + hash do conteúdo); com If-None-Match igual o Spring responde
+     * 304 sem corpo. Pedidos em status final são servidos do {@link TerminalOrderResponseCache}
+     * (bytes já serializados), sem banco, mapeamento ou Jackson.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get order by ID", 
-               description = "Retrieves a specific order by its identifier")
+               description = "Retrieves a specific order by its identifier. Supports conditional requests with ETag / If-None-Match.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order found",
-                        content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+                        content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Order unchanged (If-None-Match matches the current ETag)"),
             @ApiResponse(responseCode = "404", description = "Order not found"),
             @ApiResponse(responseCode = "400", description = "Invalid order ID")
     })
-    public ResponseEntity<OrderResponse> getOrder(
+    public ResponseEntity<byte[]> getOrder(
             @Parameter(description = "Order identifier", example = "01HKG6RXRZ8N9QQP8VQXK7PXJY")
             @PathVariable String id,
             @Parameter(description = "Correlation ID for request tracking", example = "550e8400-e29b-41d4-a716-446655440000")
-            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) throws IOException {
         
         // Generate correlation ID if not provided
         if (correlationId == null || correlationId.trim().isEmpty()) {
             correlationId = UUID.randomUUID().toString();
         }
         
-        logger.info("Fetching order by ID: {} - Correlation ID: {}", id, correlationId);
+        logger.debug("Fetching order by ID: {} - Correlation ID: {}", id, correlationId);
         
         try {
-            Order order = queryOrderUseCase.getOrderByIdRequired(id);
-            OrderResponse response = mapper.toResponse(order);
+            CachedResponse response = responseCache.get(id);
+            if (response == null) {
+                Object reservation = responseCache.reserve(id);
+                try {
+                    Order order = queryOrderUseCase.getOrderByIdRequired(id);
+                    response = CachedResponse.of(order.getStatus(), responseWriter.toJsonBytes(order));
+                } catch (IOException | RuntimeException e) {
+                    responseCache.release(id, reservation);
+                    throw e;
+                }
+                responseCache.put(id, reservation, response);
+            }
             
-            HttpHeaders headers = buildResponseHeaders(correlationId);
+            HttpHeaders headers = ApiHeaders.json(correlationId);
             
-            logger.info("Order retrieved successfully - ID: {}, Status: {}, Correlation ID: {}", 
-                    order.getId(), order.getStatus(), correlationId);
+            logger.debug("Order retrieved successfully - ID: {}, Status: {}, Correlation ID: {}", 
+                    id, response.status(), correlationId);
             
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(response);
+                    .eTag(response.etag())
+                    .body(response.body());
                     
         } catch (Exception e) {
             logger.error("Failed to retrieve order - ID: {}, Correlation ID: {}", id, correlationId, e);
@@ -192,7 +217,7 @@ public class OrderController {
             correlationId = UUID.randomUUID().toString();
         }
         
-        logger.info("Listing all orders - Correlation ID: {}", correlationId);
+        logger.debug("Listing all orders - Correlation ID: {}", correlationId);
         
         try {
             List<Order> orders = queryOrderUseCase.getAllOrders();
@@ -200,9 +225,9 @@ public class OrderController {
                     .map(mapper::toResponse)
                     .collect(Collectors.toList());
             
-            HttpHeaders headers = buildResponseHeaders(correlationId);
+            HttpHeaders headers = ApiHeaders.json(correlationId);
             
-            logger.info("Listed {} orders successfully - Correlation ID: {}", orders.size(), correlationId);
+            logger.debug("Listed {} orders successfully - Correlation ID: {}", orders.size(), correlationId);
             
             return ResponseEntity.ok()
                     .headers(headers)
@@ -213,16 +238,4 @@ public class OrderController {
             throw e; // Will be handled by GlobalExceptionHandler
         }
     }
-    
-    
-    /**
-     * Build standard response headers
-     */
-    private HttpHeaders buildResponseHeaders(String correlationId) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("API-Version", API_VERSION);
-        headers.set("X-Correlation-ID", correlationId);
-        headers.set("Content-Type", "application/json");
-        return headers;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.BulkReprocessRequest;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.ReprocessJobResponse;
+import br.com.ml.mktplace.orders.domain.model.ReprocessJob;
+import br.com.ml.mktplace.orders.domain.port.BulkReprocessUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+/**
+ * Admin REST Controller for bulk reprocessing of FAILED orders.
+ *
+ * O POST apenas inicia o job (202 Accepted + Location); o progresso é consultado no recurso do job.
+ * Jobs vivem em memória na instância que recebeu o POST: o recurso do job só existe nela.
+ */
+@RestController
+@RequestMapping("/v1/admin/orders/reprocess")
+@Tag(name = "Orders Admin", description = "Operational endpoints for order recovery")
+public class OrderReprocessController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderReprocessController.class);
+    
+    private final BulkReprocessUseCase bulkReprocessUseCase;
+    
+    public OrderReprocessController(BulkReprocessUseCase bulkReprocessUseCase) {
+        this.bulkReprocessUseCase = bulkReprocessUseCase;
+    }
+    
+    /**
+     * Start bulk reprocessing
+     * POST /v1/admin/orders/reprocess
+     */
+    @PostMapping
+    @Operation(summary = "Reprocess FAILED orders in bulk",
+           description = "Starts a background job that replays every FAILED order created in the given range, with bounded concurrency and rate. "
+                   + "Jobs run and are kept in memory on the instance that received this request: the status resource "
+                   + "returns 404 when served by another instance, and the job is lost if that instance restarts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job started",
+            content = @Content(schema = @Schema(implementation = ReprocessJobResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid range")
+    })
+    public ResponseEntity<ReprocessJobResponse> startReprocess(@RequestBody(required = false) BulkReprocessRequest request) {
+        BulkReprocessRequest filter = request != null ? request : new BulkReprocessRequest();
+        ReprocessJob job = bulkReprocessUseCase.startReprocess(filter.getCreatedFrom(), filter.getCreatedTo());
+        logger.info("Bulk reprocess requested - job: {}, range: [{}, {})", job.getId(), job.getCreatedFrom(), job.getCreatedTo());
+        return ResponseEntity.accepted()
+                .location(URI.create("/v1/admin/orders/reprocess/" + job.getId()))
+                .body(ReprocessJobResponse.from(job));
+    }
+    
+    /**
+     * Get bulk reprocessing job status
+     * GET /v1/admin/orders/reprocess/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get bulk reprocessing job status",
+           description = "Jobs are kept in memory per instance; a job started on another instance returns 404")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Job found",
+            content = @Content(schema = @Schema(implementation = ReprocessJobResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Job not found (unknown, expired or started on another instance)")
+    })
+    public ResponseEntity<ReprocessJobResponse> getJob(@PathVariable String jobId) {
+        return bulkReprocessUseCase.findJob(jobId)
+                .map(ReprocessJobResponse::from)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
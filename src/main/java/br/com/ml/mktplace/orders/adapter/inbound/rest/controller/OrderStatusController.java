@@ -0,0 +1,286 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusBatchRequest;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusBatchResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusEventResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * REST Controller para aguardar mudanças de status de um pedido sem polling.
+ *
+ * - GET /v1/orders/{id}?waitFor=PROCESSED&timeoutMs=20000: long-polling (servlet async); responde
+ *   assim que o pedido atinge o status pedido ou um status final, ou no timeout com o estado atual
+ * - GET /v1/orders/{id}/events: stream SSE com cada mudança de status, encerrado no status final
+ *
+ * Ambos são alimentados pelo {@link OrderStatusNotifier}; a requisição fica parada sem ocupar
+ * thread do servlet nem consultar o banco até a notificação (ou o timeout).
+ *
+ * Para quem só precisa do status atual (polling de parceiros, dashboards):
+ * - GET  /v1/orders/{id}/status: status e última alteração, sem itens nem endereço
+ * - POST /v1/orders/statuses: até 1000 pedidos numa única consulta
+ * Ambos leem apenas o índice de cobertura (id, status, updated_at), sem carregar o agregado.
+ */
+@RestController
+@RequestMapping("/v1/orders")
+@Tag(name = "Orders", description = "Order processing and management endpoints")
+public class OrderStatusController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusController.class);
+    static final String STATUS_EVENT = "status";
+    
+    private final QueryOrderUseCase queryOrderUseCase;
+    private final OrderStatusNotifier statusNotifier;
+    private final OrderRestMapper mapper;
+    private final Duration defaultWaitTimeout;
+    private final Duration maxWaitTimeout;
+    private final Duration streamTimeout;
+    
+    public OrderStatusController(QueryOrderUseCase queryOrderUseCase,
+                                 OrderStatusNotifier statusNotifier,
+                                 OrderRestMapper mapper,
+                                 @Value("${app.orders.status-wait.default-timeout:PT20S}") Duration defaultWaitTimeout,
+                                 @Value("${app.orders.status-wait.max-timeout:PT30S}") Duration maxWaitTimeout,
+                                 @Value("${app.orders.status-stream.timeout:PT5M}") Duration streamTimeout) {
+        this.queryOrderUseCase = queryOrderUseCase;
+        this.statusNotifier = statusNotifier;
+        this.mapper = mapper;
+        this.defaultWaitTimeout = defaultWaitTimeout;
+        this.maxWaitTimeout = maxWaitTimeout;
+        this.streamTimeout = streamTimeout;
+    }
+    
+    /**
+     * Long-polling on order status
+     * GET /v1/orders/{id}?waitFor=PROCESSED&timeoutMs=20000
+     */
+    @GetMapping(value = "/{id}", params = "waitFor")
+    @Operation(summary = "Wait for an order status",
+           description = "Holds the request until the order reaches the requested status or a final status (PROCESSED/FAILED), or until the timeout. Always answers with the current order; clients compare the returned status.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current order (target status reached or timeout)",
+                        content = @Content(schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public DeferredResult<ResponseEntity<OrderResponse>> waitForStatus(
+            @Parameter(description = "Order identifier", example = "01HKG6RXRZ8N9QQP8VQXK7PXJY")
+            @PathVariable String id,
+            @Parameter(description = "Status to wait for", example = "PROCESSED")
+            @RequestParam OrderStatus waitFor,
+            @Parameter(description = "Maximum wait in milliseconds (capped by app.orders.status-wait.max-timeout)", example = "20000")
+            @RequestParam(required = false) Long timeoutMs,
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
+        
+        String correlation = correlationId == null || correlationId.isBlank() ? UUID.randomUUID().toString() : correlationId;
+        long timeout = waitTimeoutMillis(timeoutMs);
+        DeferredResult<ResponseEntity<OrderResponse>> result = new DeferredResult<>(timeout);
+        
+        // Assina antes de ler o estado: uma mudança entre a leitura e a assinatura não se perde
+        OrderStatusNotifier.Subscription subscription = statusNotifier.subscribe(id, status -> {
+            if (reached(status, waitFor)) {
+                complete(result, id, correlation);
+            }
+        });
+        result.onCompletion(subscription::close);
+        result.onTimeout(() -> complete(result, id, correlation));
+        
+        Order current;
+        try {
+            current = queryOrderUseCase.getOrderByIdRequired(id);
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e; // Will be handled by GlobalExceptionHandler
+        }
+        if (timeout == 0 || reached(current.getStatus(), waitFor)) {
+            result.setResult(respond(current, correlation));
+        } else {
+            logger.debug("Waiting up to {} ms for order {} to reach {} (current: {})", timeout, id, waitFor, current.getStatus());
+        }
+        return result;
+    }
+    
+    /**
+     * Stream of order status changes
+     * GET /v1/orders/{id}/events
+     */
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream order status changes (SSE)",
+           description = "Sends a 'status' event with the current status and one per change; the stream ends after a final status (PROCESSED/FAILED) or after app.orders.status-stream.timeout.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream",
+                        content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                schema = @Schema(implementation = OrderStatusEventResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public SseEmitter streamStatus(
+            @Parameter(description = "Order identifier", example = "01HKG6RXRZ8N9QQP8VQXK7PXJY")
+            @PathVariable String id) {
+        
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        // Notificações chegam em threads distintas: só envia status que avançam (RECEIVED < PROCESSING < final)
+        AtomicInteger lastSent = new AtomicInteger(-1);
+        OrderStatusNotifier.Subscription subscription = statusNotifier.subscribe(id, status -> send(emitter, lastSent, id, status));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.close());
+        
+        Order current;
+        try {
+            current = queryOrderUseCase.getOrderByIdRequired(id);
+        } catch (RuntimeException e) {
+            subscription.close();
+            throw e;
+        }
+        send(emitter, lastSent, id, current.getStatus());
+        return emitter;
+    }
+    
+    /**
+     * Status-only read
+     * GET /v1/orders/{id}/status
+     */
+    @GetMapping("/{id}/status")
+    @Operation(summary = "Get order status",
+           description = "Returns only the order status and its last change, without items or address. Cheaper than GET /v1/orders/{id} for status polling.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order status",
+                        content = @Content(schema = @Schema(implementation = OrderStatusResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Order not found")
+    })
+    public ResponseEntity<OrderStatusResponse> getOrderStatus(
+            @Parameter(description = "Order identifier", example = "01HKG6RXRZ8N9QQP8VQXK7PXJY")
+            @PathVariable String id,
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
+        
+        OrderStatusSnapshot snapshot = queryOrderUseCase.getOrderStatusRequired(id);
+        return ResponseEntity.ok()
+                .headers(ApiHeaders.of(correlationId))
+                .cacheControl(CacheControl.noCache())
+                .body(OrderStatusResponse.from(snapshot));
+    }
+    
+    /**
+     * Batch status read
+     * POST /v1/orders/statuses
+     */
+    @PostMapping("/statuses")
+    @Operation(summary = "Get the status of several orders",
+           description = "Returns the status of up to 1000 orders in one round trip, in request order. Unknown or invalid IDs are listed in 'notFound'.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order statuses",
+                        content = @Content(schema = @Schema(implementation = OrderStatusBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty list or more than 1000 IDs")
+    })
+    public ResponseEntity<OrderStatusBatchResponse> getOrderStatuses(
+            @Valid @RequestBody OrderStatusBatchRequest request,
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId) {
+        
+        List<OrderStatusSnapshot> snapshots = queryOrderUseCase.getOrderStatuses(request.getIds());
+        Set<String> found = new HashSet<>();
+        List<OrderStatusResponse> statuses = new ArrayList<>(snapshots.size());
+        for (OrderStatusSnapshot snapshot : snapshots) {
+            found.add(snapshot.orderId());
+            statuses.add(OrderStatusResponse.from(snapshot));
+        }
+        List<String> notFound = new LinkedHashSet<>(request.getIds()).stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+        logger.debug("Status batch - requested: {}, found: {}", request.getIds().size(), statuses.size());
+        
+        return ResponseEntity.ok()
+                .headers(ApiHeaders.of(correlationId))
+                .cacheControl(CacheControl.noCache())
+                .body(new OrderStatusBatchResponse(statuses, notFound));
+    }
+    
+    /**
+     * Status alvo atingido, ou o pedido já passou dele / chegou a um status final
+     * (esperar PROCESSED e receber FAILED encerra a espera).
+     */
+    static boolean reached(OrderStatus status, OrderStatus target) {
+        return status == target
+                || status == OrderStatus.PROCESSED || status == OrderStatus.FAILED
+                || status.ordinal() > target.ordinal();
+    }
+    
+    long waitTimeoutMillis(Long timeoutMs) {
+        long requested = timeoutMs == null ? defaultWaitTimeout.toMillis() : timeoutMs;
+        return Math.max(0, Math.min(requested, maxWaitTimeout.toMillis()));
+    }
+    
+    private void complete(DeferredResult<ResponseEntity<OrderResponse>> result, String id, String correlationId) {
+        if (result.hasResult()) {
+            return;
+        }
+        try {
+            result.setResult(respond(queryOrderUseCase.getOrderByIdRequired(id), correlationId));
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+    
+    private void send(SseEmitter emitter, AtomicInteger lastSent, String id, OrderStatus status) {
+        if (lastSent.getAndAccumulate(status.ordinal(), Math::max) >= status.ordinal()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(STATUS_EVENT)
+                    .data(new OrderStatusEventResponse(id, status), MediaType.APPLICATION_JSON));
+            if (status == OrderStatus.PROCESSED || status == OrderStatus.FAILED) {
+                emitter.complete();
+            }
+        } catch (IOException e) {
+            // Cliente desconectou
+            emitter.completeWithError(e);
+        } catch (IllegalStateException e) {
+            logger.debug("Status stream of order {} already completed, dropping {}", id, status);
+        }
+    }
+    
+    private ResponseEntity<OrderResponse> respond(Order order, String correlationId) {
+        return ResponseEntity.ok()
+                .headers(ApiHeaders.of(correlationId))
+                .body(mapper.toResponse(order));
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO for batch order creation requests.
+ * Elements are intentionally not annotated with {@code @Valid}: each order is validated
+ * individually so one invalid order does not reject the whole batch.
+ */
+@Schema(name = "BatchOrderRequest", description = "Batch order creation payload")
+public class BatchOrderRequest {
+    
+    @Schema(description = "Orders to create (each one uses the OrderRequest format)")
+    @NotEmpty(message = "Batch must contain at least one order")
+    @JsonProperty("orders")
+    private List<OrderRequest> orders;
+    
+    // Constructors
+    public BatchOrderRequest() {}
+    
+    public BatchOrderRequest(List<OrderRequest> orders) {
+        this.orders = orders;
+    }
+    
+    // Getters and Setters
+    public List<OrderRequest> getOrders() {
+        return orders;
+    }
+    
+    public void setOrders(List<OrderRequest> orders) {
+        this.orders = orders;
+    }
+}
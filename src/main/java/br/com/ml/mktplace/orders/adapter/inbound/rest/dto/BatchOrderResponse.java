@@ -0,0 +1,87 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * DTO for batch order creation responses (one result per submitted order, same order as the request)
+ */
+public class BatchOrderResponse {
+    
+    @JsonProperty("accepted")
+    private int accepted;
+    
+    @JsonProperty("rejected")
+    private int rejected;
+    
+    @JsonProperty("results")
+    private List<Result> results;
+    
+    // Constructors
+    public BatchOrderResponse() {}
+    
+    public BatchOrderResponse(List<Result> results) {
+        this.results = results;
+        this.accepted = (int) results.stream().filter(r -> Result.CREATED.equals(r.getStatus())).count();
+        this.rejected = results.size() - accepted;
+    }
+    
+    // Getters and Setters
+    public int getAccepted() {
+        return accepted;
+    }
+    
+    public int getRejected() {
+        return rejected;
+    }
+    
+    public List<Result> getResults() {
+        return results;
+    }
+    
+    /**
+     * Outcome of a single order within the batch
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        
+        public static final String CREATED = "CREATED";
+        public static final String REJECTED = "REJECTED";
+        
+        @JsonProperty("index")
+        private int index;
+        
+        @JsonProperty("status")
+        private String status;
+        
+        @JsonProperty("order")
+        private OrderResponse order;
+        
+        @JsonProperty("error")
+        private String error;
+        
+        public Result() {}
+        
+        private Result(int index, String status, OrderResponse order, String error) {
+            this.index = index;
+            this.status = status;
+            this.order = order;
+            this.error = error;
+        }
+        
+        public static Result created(int index, OrderResponse order) {
+            return new Result(index, CREATED, order, null);
+        }
+        
+        public static Result rejected(int index, String error) {
+            return new Result(index, REJECTED, null, error);
+        }
+        
+        public int getIndex() { return index; }
+        public String getStatus() { return status; }
+        public OrderResponse getOrder() { return order; }
+        public String getError() { return error; }
+    }
+}
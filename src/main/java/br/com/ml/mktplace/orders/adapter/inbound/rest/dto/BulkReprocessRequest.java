@@ -0,0 +1,47 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO for bulk reprocessing requests (FAILED orders created in [createdFrom, createdTo)).
+ * Both bounds are optional: no start = since the first order, no end = now.
+ */
+@Schema(name = "BulkReprocessRequest", description = "Filter of FAILED orders to reprocess")
+public class BulkReprocessRequest {
+    
+    @Schema(description = "Range start (inclusive), ISO-8601", example = "2024-01-15T10:00:00Z")
+    @JsonProperty("createdFrom")
+    private Instant createdFrom;
+    
+    @Schema(description = "Range end (exclusive), ISO-8601", example = "2024-01-15T12:00:00Z")
+    @JsonProperty("createdTo")
+    private Instant createdTo;
+    
+    // Constructors
+    public BulkReprocessRequest() {}
+    
+    public BulkReprocessRequest(Instant createdFrom, Instant createdTo) {
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+    }
+    
+    // Getters and Setters
+    public Instant getCreatedFrom() {
+        return createdFrom;
+    }
+    
+    public void setCreatedFrom(Instant createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+    
+    public Instant getCreatedTo() {
+        return createdTo;
+    }
+    
+    public void setCreatedTo(Instant createdTo) {
+        this.createdTo = createdTo;
+    }
+}
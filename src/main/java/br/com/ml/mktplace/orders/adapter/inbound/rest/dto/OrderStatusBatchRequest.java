@@ -0,0 +1,38 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for batch status reads (POST /v1/orders/statuses)
+ */
+@Schema(name = "OrderStatusBatchRequest", description = "Order IDs whose status is requested")
+public class OrderStatusBatchRequest {
+    
+    @Schema(description = "Order IDs (up to 1000)")
+    @NotEmpty(message = "At least one order ID is required")
+    @Size(max = QueryOrderUseCase.MAX_STATUS_BATCH, message = "At most 1000 order IDs per request")
+    @JsonProperty("ids")
+    private List<String> ids;
+    
+    // Constructors
+    public OrderStatusBatchRequest() {}
+    
+    public OrderStatusBatchRequest(List<String> ids) {
+        this.ids = ids;
+    }
+    
+    // Getters and Setters
+    public List<String> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<String> ids) {
+        this.ids = ids;
+    }
+}
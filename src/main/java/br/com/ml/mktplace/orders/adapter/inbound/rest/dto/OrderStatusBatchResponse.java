@@ -0,0 +1,36 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for batch status reads: statuses found (in request order) and IDs not found
+ */
+@Schema(name = "OrderStatusBatchResponse", description = "Statuses of the requested orders")
+public class OrderStatusBatchResponse {
+    
+    @JsonProperty("statuses")
+    private List<OrderStatusResponse> statuses;
+    
+    @JsonProperty("notFound")
+    private List<String> notFound;
+    
+    // Constructors
+    public OrderStatusBatchResponse() {}
+    
+    public OrderStatusBatchResponse(List<OrderStatusResponse> statuses, List<String> notFound) {
+        this.statuses = statuses;
+        this.notFound = notFound;
+    }
+    
+    // Getters
+    public List<OrderStatusResponse> getStatuses() {
+        return statuses;
+    }
+    
+    public List<String> getNotFound() {
+        return notFound;
+    }
+}
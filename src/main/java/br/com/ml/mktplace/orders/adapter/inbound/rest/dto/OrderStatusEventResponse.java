@@ -0,0 +1,35 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the order status change events sent on the SSE stream
+ */
+@Schema(name = "OrderStatusEvent", description = "Order status change")
+public class OrderStatusEventResponse {
+    
+    @JsonProperty("id")
+    private String id;
+    
+    @JsonProperty("status")
+    private OrderStatus status;
+    
+    // Constructors
+    public OrderStatusEventResponse() {}
+    
+    public OrderStatusEventResponse(String id, OrderStatus status) {
+        this.id = id;
+        this.status = status;
+    }
+    
+    // Getters
+    public String getId() {
+        return id;
+    }
+    
+    public OrderStatus getStatus() {
+        return status;
+    }
+}
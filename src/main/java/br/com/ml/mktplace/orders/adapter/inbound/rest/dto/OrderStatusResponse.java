@@ -0,0 +1,50 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO for status-only order reads (no items, no address)
+ */
+@Schema(name = "OrderStatusResponse", description = "Current status of an order")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderStatusResponse {
+    
+    @JsonProperty("id")
+    private String id;
+    
+    @JsonProperty("status")
+    private OrderStatus status;
+    
+    @JsonProperty("updatedAt")
+    private Instant updatedAt;
+    
+    // Constructors
+    public OrderStatusResponse() {}
+    
+    public static OrderStatusResponse from(OrderStatusSnapshot snapshot) {
+        OrderStatusResponse response = new OrderStatusResponse();
+        response.id = snapshot.orderId();
+        response.status = snapshot.status();
+        response.updatedAt = snapshot.updatedAt();
+        return response;
+    }
+    
+    // Getters
+    public String getId() {
+        return id;
+    }
+    
+    public OrderStatus getStatus() {
+        return status;
+    }
+    
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.dto;
+
+import br.com.ml.mktplace.orders.domain.model.ReprocessJob;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * DTO for the bulk reprocessing job status resource (counters are a snapshot)
+ */
+@Schema(name = "ReprocessJobResponse", description = "Bulk reprocessing job status")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReprocessJobResponse {
+    
+    @JsonProperty("id")
+    private String id;
+    
+    @JsonProperty("status")
+    private String status;
+    
+    @JsonProperty("createdFrom")
+    private Instant createdFrom;
+    
+    @JsonProperty("createdTo")
+    private Instant createdTo;
+    
+    @JsonProperty("matched")
+    private long matched;
+    
+    @JsonProperty("succeeded")
+    private long succeeded;
+    
+    @JsonProperty("failed")
+    private long failed;
+    
+    @JsonProperty("startedAt")
+    private Instant startedAt;
+    
+    @JsonProperty("finishedAt")
+    private Instant finishedAt;
+    
+    @JsonProperty("error")
+    private String error;
+    
+    // Constructors
+    public ReprocessJobResponse() {}
+    
+    public static ReprocessJobResponse from(ReprocessJob job) {
+        ReprocessJobResponse response = new ReprocessJobResponse();
+        response.id = job.getId();
+        response.status = job.getStatus().name();
+        response.createdFrom = job.getCreatedFrom();
+        response.createdTo = job.getCreatedTo();
+        response.matched = job.getMatched();
+        response.succeeded = job.getSucceeded();
+        response.failed = job.getFailed();
+        response.startedAt = job.getStartedAt();
+        response.finishedAt = job.getFinishedAt();
+        response.error = job.getError();
+        return response;
+    }
+    
+    // Getters
+    public String getId() {
+        return id;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public Instant getCreatedFrom() {
+        return createdFrom;
+    }
+    
+    public Instant getCreatedTo() {
+        return createdTo;
+    }
+    
+    public long getMatched() {
+        return matched;
+    }
+    
+    public long getSucceeded() {
+        return succeeded;
+    }
+    
+    public long getFailed() {
+        return failed;
+    }
+    
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+    
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public String getError() {
+        return error;
+    }
+}
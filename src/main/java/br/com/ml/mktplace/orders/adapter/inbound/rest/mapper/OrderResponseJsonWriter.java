@@ -0,0 +1,253 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.mapper;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderResponse;
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Serializa um {@link Order} direto no {@link JsonGenerator}, no mesmo formato de {@link OrderResponse}.
+ *
+ * O caminho padrão ({@link OrderRestMapper#toResponse} + Jackson) aloca um DTO por item, endereço e
+ * coordenadas, um {@code BigDecimal} por CD próximo e ainda introspecta tudo via reflection. Aqui os
+ * campos são lidos do domínio e escritos em sequência, com nomes pré-codificados e a distância
+ * formatada com duas casas (HALF_UP, igual a {@code BigDecimal.setScale(2, HALF_UP)}) sem BigDecimal.
+ *
+ * Quando a configuração do ObjectMapper mudaria o formato (datas como timestamp, propriedades em ordem
+ * alfabética, inclusão NON_EMPTY ou NON_DEFAULT), cai no caminho com DTO para manter o contrato byte a byte.
+ */
+@Component
+public class OrderResponseJsonWriter {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CUSTOMER_ID = new SerializedString("customerId");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString ITEM_ID = new SerializedString("itemId");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString AVAILABLE_DCS = new SerializedString("availableDistributionCenters");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString DISTANCE_KM = new SerializedString("distanceKm");
+    private static final SerializedString DELIVERY_ADDRESS = new SerializedString("deliveryAddress");
+    private static final SerializedString STREET = new SerializedString("street");
+    private static final SerializedString NUMBER = new SerializedString("number");
+    private static final SerializedString CITY = new SerializedString("city");
+    private static final SerializedString STATE = new SerializedString("state");
+    private static final SerializedString COUNTRY = new SerializedString("country");
+    private static final SerializedString ZIP_CODE = new SerializedString("zipCode");
+    private static final SerializedString COORDINATES = new SerializedString("coordinates");
+    private static final SerializedString LATITUDE = new SerializedString("latitude");
+    private static final SerializedString LONGITUDE = new SerializedString("longitude");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString TOTAL_ITEMS_COUNT = new SerializedString("totalItemsCount");
+
+    /**
+     * Acima disso {@link Double#toString} usa notação científica; distâncias reais ficam muito abaixo.
+     */
+    private static final double MAX_PLAIN_DISTANCE = 1e7;
+
+    private final ObjectMapper objectMapper;
+    private final OrderRestMapper mapper;
+    private final boolean streaming;
+
+    public OrderResponseJsonWriter(ObjectMapper objectMapper, OrderRestMapper mapper) {
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.streaming = sameWireFormat(objectMapper);
+    }
+
+    /**
+     * JSON do pedido em UTF-8, idêntico a {@code objectMapper.writeValueAsBytes(mapper.toResponse(order))}
+     */
+    public byte[] toJsonBytes(Order order) throws IOException {
+        if (!streaming) {
+            return objectMapper.writeValueAsBytes(mapper.toResponse(order));
+        }
+        // Mesmo buffer reciclado que ObjectMapper#writeValueAsBytes usa
+        ByteArrayBuilder bytes = new ByteArrayBuilder(objectMapper.getFactory()._getBufferRecycler());
+        try (JsonGenerator gen = objectMapper.createGenerator(bytes, JsonEncoding.UTF8)) {
+            write(order, gen);
+        }
+        byte[] result = bytes.toByteArray();
+        bytes.release();
+        return result;
+    }
+
+    boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Escreve o pedido como objeto JSON na posição atual do gerador
+     */
+    public void write(Order order, JsonGenerator gen) throws IOException {
+        List<OrderItem> items = order.getItems();
+        char[] decimal = new char[24];
+        int totalItems = 0;
+
+        gen.writeStartObject();
+        gen.writeFieldName(ID);
+        gen.writeString(order.getId());
+        gen.writeFieldName(CUSTOMER_ID);
+        gen.writeString(order.getCustomerId());
+        gen.writeFieldName(STATUS);
+        gen.writeString(order.getStatus().name());
+
+        gen.writeFieldName(ITEMS);
+        gen.writeStartArray();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            totalItems += item.getQuantity();
+            writeItem(item, gen, decimal);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName(DELIVERY_ADDRESS);
+        writeAddress(order.getDeliveryAddress(), gen);
+
+        // OrderResponse usa createdAt também como updatedAt (ver OrderRestMapper#toResponse)
+        String createdAt = order.getCreatedAt().toString();
+        gen.writeFieldName(CREATED_AT);
+        gen.writeString(createdAt);
+        gen.writeFieldName(UPDATED_AT);
+        gen.writeString(createdAt);
+        gen.writeFieldName(TOTAL_ITEMS_COUNT);
+        gen.writeNumber(totalItems);
+        gen.writeEndObject();
+    }
+
+    private static void writeItem(OrderItem item, JsonGenerator gen, char[] decimal) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ITEM_ID);
+        gen.writeString(item.getItemId());
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(item.getQuantity().intValue());
+        gen.writeFieldName(AVAILABLE_DCS);
+        gen.writeStartArray();
+        List<NearbyDistributionCenter> nearby = item.getAvailableDistributionCenters();
+        for (int i = 0; i < nearby.size(); i++) {
+            NearbyDistributionCenter dc = nearby.get(i);
+            gen.writeStartObject();
+            gen.writeFieldName(CODE);
+            gen.writeString(dc.code());
+            gen.writeFieldName(DISTANCE_KM);
+            writeDistance(dc.distanceKm(), gen, decimal);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeAddress(Address address, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(STREET);
+        gen.writeString(address.street());
+        gen.writeFieldName(NUMBER);
+        gen.writeString(address.number());
+        gen.writeFieldName(CITY);
+        gen.writeString(address.city());
+        gen.writeFieldName(STATE);
+        gen.writeString(address.state());
+        gen.writeFieldName(COUNTRY);
+        gen.writeString(address.country());
+        gen.writeFieldName(ZIP_CODE);
+        gen.writeString(address.zipCode());
+        gen.writeFieldName(COORDINATES);
+        gen.writeStartObject();
+        gen.writeFieldName(LATITUDE);
+        gen.writeNumber(address.coordinates().latitude());
+        gen.writeFieldName(LONGITUDE);
+        gen.writeNumber(address.coordinates().longitude());
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private static void writeDistance(double km, JsonGenerator gen, char[] buffer) throws IOException {
+        if (!Double.isFinite(km) || Math.abs(km) >= MAX_PLAIN_DISTANCE) {
+            gen.writeNumber(BigDecimal.valueOf(km).setScale(2, RoundingMode.HALF_UP));
+            return;
+        }
+        int length = formatScale2(km, buffer);
+        gen.writeNumber(buffer, 0, length);
+    }
+
+    /**
+     * Formata com duas casas decimais exatamente como {@code BigDecimal.valueOf(value).setScale(2, HALF_UP)}:
+     * o arredondamento é feito sobre a representação decimal de {@link Double#toString} (a mesma usada
+     * por {@code BigDecimal.valueOf}), não sobre o binário, então 1.005 vira 1.01 nos dois caminhos.
+     * Requer valor finito e abaixo de {@link #MAX_PLAIN_DISTANCE}.
+     *
+     * @return quantidade de caracteres escritos em {@code buffer}
+     */
+    static int formatScale2(double value, char[] buffer) {
+        long cents = 0;
+        // Abaixo de 0.001 Double.toString usa notação científica, e o valor arredonda para zero de qualquer forma
+        if (Math.abs(value) >= 1e-3) {
+            String digits = Double.toString(Math.abs(value));
+            int dot = digits.indexOf('.');
+            for (int i = 0; i < dot; i++) {
+                cents = cents * 10 + (digits.charAt(i) - '0');
+            }
+            int fractionDigits = digits.length() - dot - 1;
+            cents = cents * 100
+                    + (fractionDigits > 0 ? digits.charAt(dot + 1) - '0' : 0) * 10
+                    + (fractionDigits > 1 ? digits.charAt(dot + 2) - '0' : 0);
+            if (fractionDigits > 2 && digits.charAt(dot + 3) >= '5') {
+                cents++;
+            }
+        }
+
+        int position = buffer.length;
+        long remaining = cents;
+        buffer[--position] = (char) ('0' + remaining % 10);
+        remaining /= 10;
+        buffer[--position] = (char) ('0' + remaining % 10);
+        remaining /= 10;
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        // BigDecimal não tem zero negativo: -0.001 vira "0.00"
+        if (value < 0 && cents > 0) {
+            buffer[--position] = '-';
+        }
+        int length = buffer.length - position;
+        System.arraycopy(buffer, position, buffer, 0, length);
+        return length;
+    }
+
+    /**
+     * O caminho direto escreve todos os campos na ordem de declaração do DTO e datas em ISO-8601, como
+     * o Jackson faz com a configuração padrão do Spring Boot; como nenhum campo do pedido é nulo,
+     * NON_NULL/NON_ABSENT (perfil docker) não mudam a saída.
+     */
+    private static boolean sameWireFormat(ObjectMapper objectMapper) {
+        if (objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                || objectMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)) {
+            return false;
+        }
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion(OrderResponse.class).getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS
+                || inclusion == JsonInclude.Include.USE_DEFAULTS
+                || inclusion == JsonInclude.Include.NON_NULL
+                || inclusion == JsonInclude.Include.NON_ABSENT;
+    }
+}
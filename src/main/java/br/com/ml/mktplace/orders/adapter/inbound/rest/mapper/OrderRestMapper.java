@@ -7,6 +7,7 @@ import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderResponse;
 import br.com.ml.mktplace.orders.domain.model.Address;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -22,29 +23,41 @@ public class OrderRestMapper {
      * Converts OrderRequest DTO to Order domain object
      */
         public Order toDomain(OrderRequest request, String orderId) {
-                List<OrderItem> orderItems = request.getItems().stream()
+                List<OrderItem> orderItems = toItems(request);
+                Address address = toDeliveryAddress(request);
+                return new Order(request.getCustomerId(), orderItems, address);
+        }
+
+    /**
+     * Converts OrderRequest DTO to a creation command (batch ingestion; no Order/ID built here)
+     */
+        public CreateOrderUseCase.CreateOrderCommand toCommand(OrderRequest request) {
+                return new CreateOrderUseCase.CreateOrderCommand(request.getCustomerId(), toItems(request), toDeliveryAddress(request));
+        }
+
+        private List<OrderItem> toItems(OrderRequest request) {
+                return request.getItems().stream()
                                 .map(this::toDomain)
                                 .collect(Collectors.toList());
+        }
 
+        private Address toDeliveryAddress(OrderRequest request) {
                 if (request.getDeliveryAddress() == null) {
                         throw new IllegalArgumentException("deliveryAddress is required");
                 }
                 AddressDto addr = request.getDeliveryAddress();
-                Address address;
                 if (addr.getCoordinates() != null) {
-                        address = toDomain(addr);
-                } else {
-                        address = new Address(
-                                        addr.getStreet(),
-                                        addr.getNumber(),
-                                        addr.getCity(),
-                                        addr.getState(),
-                                        addr.getCountry(),
-                                        addr.getZipCode(),
-                                        new Address.Coordinates(java.math.BigDecimal.ZERO, java.math.BigDecimal.ZERO)
-                        );
+                        return toDomain(addr);
                 }
-                return new Order(request.getCustomerId(), orderItems, address);
+                return new Address(
+                                addr.getStreet(),
+                                addr.getNumber(),
+                                addr.getCity(),
+                                addr.getState(),
+                                addr.getCountry(),
+                                addr.getZipCode(),
+                                new Address.Coordinates(java.math.BigDecimal.ZERO, java.math.BigDecimal.ZERO)
+                );
         }
     
     /**
@@ -0,0 +1,110 @@
+package br.com.ml.mktplace.orders.adapter.inbound.scheduling;
+
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recupera pedidos presos em PROCESSING (pod encerrado entre o save PROCESSING e o status final).
+ *
+ * - Reivindica lotes de pedidos com lease expirado via {@code FOR UPDATE SKIP LOCKED}: cada pod
+ *   recebe um conjunto disjunto e o lease é renovado no mesmo UPDATE (sem processamento duplicado)
+ * - Reprocessa cada lote em paralelo, com concorrência limitada (cada pedido usa uma conexão)
+ * - Repete enquanto os lotes vierem cheios, até {@code max-batches-per-run} por execução
+ */
+@Component
+@ConditionalOnProperty(name = "app.orders.sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class StuckOrderSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StuckOrderSweeper.class);
+
+    private final OrderRepository orderRepository;
+    private final ProcessOrderUseCase processOrderUseCase;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final ExecutorService executor;
+
+    public StuckOrderSweeper(
+            OrderRepository orderRepository,
+            ProcessOrderUseCase processOrderUseCase,
+            @Value("${app.orders.sweeper.batch-size:50}") int batchSize,
+            @Value("${app.orders.sweeper.parallelism:4}") int parallelism,
+            @Value("${app.orders.sweeper.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.orderRepository = orderRepository;
+        this.processOrderUseCase = processOrderUseCase;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "order-sweeper-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.orders.sweeper.fixed-delay-ms:30000}",
+            initialDelayString = "${app.orders.sweeper.initial-delay-ms:30000}")
+    public void sweep() {
+        int claimed = 0;
+        int recovered = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<String> orderIds;
+            try {
+                orderIds = orderRepository.claimStuckOrders(batchSize);
+            } catch (Exception e) {
+                log.error("Failed to claim stuck orders", e);
+                break;
+            }
+            if (orderIds.isEmpty()) {
+                break;
+            }
+            claimed += orderIds.size();
+            recovered += recoverAll(orderIds);
+            if (orderIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (claimed > 0) {
+            log.info("Stuck order sweep finished - claimed: {}, recovered: {}", claimed, recovered);
+        }
+    }
+
+    private int recoverAll(List<String> orderIds) {
+        List<CompletableFuture<Boolean>> futures = orderIds.stream()
+                .map(orderId -> CompletableFuture.supplyAsync(() -> recover(orderId), executor))
+                .toList();
+        return (int) futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    private boolean recover(String orderId) {
+        try {
+            processOrderUseCase.recoverStuckOrder(orderId);
+            return true;
+        } catch (Exception e) {
+            // Pedido fica FAILED (ou com lease expirado de novo) e não bloqueia o restante do lote
+            log.warn("Failed to recover stuck order {}: {}", orderId, e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.ml.mktplace.orders.adapter.outbound.cache;
+
+/**
+ * Construção de chaves de cache compatível com Redis Cluster.
+ *
+ * O identificador da entidade vai entre chaves ({hash tag}): o cluster calcula o slot
+ * apenas sobre o conteúdo da tag, então todas as chaves de uma mesma entidade caem no
+ * mesmo slot e podem ser usadas juntas em MGET/pipelines/transações sem CROSSSLOT.
+ * Rankings de CDs não levam tag: cada célula é lida sozinha, e sem tag as células de um SKU
+ * popular se espalham pelos slots em vez de concentrar num único nó.
+ */
+public final class CacheKeys {
+
+    public static final String ORDER_PREFIX = "order:";
+    public static final String ITEM_AVAILABILITY_PREFIX = "item-dc-availability:v3:";
+    public static final String DC_RANKING_PREFIX = "item-dc-ranking:v2:";
+
+    private CacheKeys() {
+    }
+
+    public static String order(String orderId) {
+        return tagged(ORDER_PREFIX, orderId);
+    }
+
+    public static String itemAvailability(String itemId) {
+        return tagged(ITEM_AVAILABILITY_PREFIX, itemId);
+    }
+
+    public static String distributionCenterRanking(String availabilityVersion, String cell) {
+        return DC_RANKING_PREFIX + availabilityVersion + ":" + cell;
+    }
+
+    static String tagged(String prefix, String id) {
+        return prefix + "{" + id + "}";
+    }
+}
@@ -1,37 +1,60 @@
 package br.com.ml.mktplace.orders.adapter.outbound.cache;
 
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
 import br.com.ml.mktplace.orders.domain.port.CacheService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.adapter.config.jfr.CacheOperationEvent;
+import br.com.ml.mktplace.orders.adapter.config.metrics.CacheMetrics;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Redis implementation of CacheService.
  * Uses Redis for caching generic objects to improve performance.
+ * When a {@link TrackingNearCache} is configured, reads of tracked keys are served from heap.
+ *
+ * Values go through the template serializers explicitly (raw GET/SET) so the serialized
+ * payload size can be recorded in {@link CacheMetrics} without serializing twice.
  */
 @Component
 public class RedisCacheService implements CacheService {
     
     private static final Logger logger = LoggerFactory.getLogger(RedisCacheService.class);
     private static final Duration DEFAULT_TTL = Duration.ofHours(8); // ADR-010
+    private static final String CACHE_NAME = "redis";
     
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
-    private final ObservabilityMetrics observabilityMetrics;
+    private final CacheMetrics cacheMetrics;
+    private final TrackingNearCache nearCache;
     
     @Autowired
-    public RedisCacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper, ObservabilityMetrics observabilityMetrics) {
+    public RedisCacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper, CacheMetrics cacheMetrics,
+                             ObjectProvider<TrackingNearCache> nearCache) {
+        this(redisTemplate, objectMapper, cacheMetrics, nearCache.getIfAvailable());
+    }
+    
+    RedisCacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper, CacheMetrics cacheMetrics,
+                      TrackingNearCache nearCache) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
-        this.observabilityMetrics = observabilityMetrics;
+        this.cacheMetrics = cacheMetrics;
+        this.nearCache = nearCache;
     }
     
     @Override
@@ -43,16 +66,27 @@ public class RedisCacheService implements CacheService {
             throw new IllegalArgumentException("Value type cannot be null");
         }
         
+        if (nearCache != null) {
+            return nearCache.get(key, valueType, () -> getFromRedis(key, valueType));
+        }
+        return getFromRedis(key, valueType);
+    }
+    
+    private <T> Optional<T> getFromRedis(String key, Class<T> valueType) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean hit = false;
+        int payloadBytes = 0;
         try {
-            Object cached = redisTemplate.opsForValue().get(key);
+            byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey(key)));
+            Object cached = raw == null ? null : valueSerializer().deserialize(raw);
             
             if (cached == null) {
                 logger.debug("Cache miss for key: {}", key);
-                observabilityMetrics.cacheMiss("redis");
                 return Optional.empty();
-            } else {
-                observabilityMetrics.cacheHit("redis");
             }
+            payloadBytes = raw.length;
             
             T value;
             // Specialized handling for collection / array structures to avoid Jackson default typing pitfalls
@@ -108,12 +142,20 @@ public class RedisCacheService implements CacheService {
             }
 
             logger.debug("Cache hit for key: {} (type={})", key, valueType.getSimpleName());
+            hit = true;
             return Optional.ofNullable(value);
             
+        } catch (DataAccessException e) {
+            logger.warn("Cache read failed for key {} - returning empty. Cause: {}", key, e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             logger.warn("Cache deserialization failed for key {} - evicting and returning empty. Cause: {}", key, e.getMessage());
+            cacheMetrics.deserializationFailure(CACHE_NAME, key);
             try { redisTemplate.delete(key); } catch (Exception ignored) { }
             return Optional.empty();
+        } finally {
+            cacheMetrics.recordGet(CACHE_NAME, key, System.nanoTime() - start, hit, payloadBytes);
+            event.complete(CACHE_NAME, key, "get", hit ? "hit" : "miss", payloadBytes);
         }
     }
     
@@ -131,26 +173,36 @@ public class RedisCacheService implements CacheService {
             return;
         }
         
+        invalidateNear(key);
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
             Duration actualTtl = ttl != null ? ttl : DEFAULT_TTL;
 
+            Object toStore;
             if (value instanceof java.util.List<?> list) {
                 // Serialize list explicitly as JSON String to avoid GenericJackson2JsonRedisSerializer polymorphic array issues
-                String json = objectMapper.writeValueAsString(list);
-                redisTemplate.opsForValue().set(key, json, actualTtl);
-                logger.debug("Cached LIST value for key: {} ({} elements) with TTL: {}", key, list.size(), actualTtl);
+                toStore = objectMapper.writeValueAsString(list);
+                logger.debug("Caching LIST value for key: {} ({} elements) with TTL: {}", key, list.size(), actualTtl);
             } else if (value.getClass().isArray()) {
                 // Serialize arrays explicitly as JSON as well (e.g., String[])
-                String json = objectMapper.writeValueAsString(value);
+                toStore = objectMapper.writeValueAsString(value);
                 int length = java.lang.reflect.Array.getLength(value);
-                redisTemplate.opsForValue().set(key, json, actualTtl);
-                logger.debug("Cached ARRAY value for key: {} ({} elements, type={}[]) with TTL: {}", key, length, value.getClass().getComponentType().getSimpleName(), actualTtl);
+                logger.debug("Caching ARRAY value for key: {} ({} elements, type={}[]) with TTL: {}", key, length, value.getClass().getComponentType().getSimpleName(), actualTtl);
             } else {
-                redisTemplate.opsForValue().set(key, value, actualTtl);
-                logger.debug("Cached value for key: {} with TTL: {}", key, actualTtl);
+                toStore = value;
+                logger.debug("Caching value for key: {} with TTL: {}", key, actualTtl);
             }
             
+            byte[] raw = valueSerializer().serialize(toStore);
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(rawKey(key), raw, Expiration.from(actualTtl), RedisStringCommands.SetOption.upsert()));
+            cacheMetrics.recordPut(CACHE_NAME, key, System.nanoTime() - start, raw.length);
+            event.complete(CACHE_NAME, key, "put", "ok", raw.length);
+            
         } catch (Exception e) {
+            event.complete(CACHE_NAME, key, "put", "error", 0);
             logger.error("Failed to cache value for key: {}", key, e);
             // Don't throw exception - cache failures should not break the flow
         }
@@ -167,8 +219,11 @@ public class RedisCacheService implements CacheService {
             throw new IllegalArgumentException("Cache key cannot be null or empty");
         }
         
+        invalidateNear(key);
+        long start = System.nanoTime();
         try {
             Boolean deleted = redisTemplate.delete(key);
+            cacheMetrics.recordEvict(CACHE_NAME, key, System.nanoTime() - start);
             if (Boolean.TRUE.equals(deleted)) {
                 logger.debug("Evicted key from cache: {}", key);
             } else {
@@ -187,6 +242,7 @@ public class RedisCacheService implements CacheService {
             throw new IllegalArgumentException("Cache pattern cannot be null or empty");
         }
         
+        invalidateNearAll();
         try {
             Set<String> keys = redisTemplate.keys(pattern);
             
@@ -205,6 +261,7 @@ public class RedisCacheService implements CacheService {
     
     @Override
     public void clear() {
+        invalidateNearAll();
         try {
             Set<String> keys = redisTemplate.keys("*");
             
@@ -236,4 +293,62 @@ public class RedisCacheService implements CacheService {
             return false;
         }
     }
+    
+    @Override
+    public Optional<List<String>> getItemAvailability(String itemId) {
+        requireId(itemId, "Item ID");
+        return get(CacheKeys.itemAvailability(itemId), String[].class).map(Arrays::asList);
+    }
+    
+    @Override
+    public void putItemAvailability(String itemId, List<String> distributionCenterCodes, Duration ttl) {
+        requireId(itemId, "Item ID");
+        put(CacheKeys.itemAvailability(itemId), distributionCenterCodes == null ? null : distributionCenterCodes.toArray(String[]::new), ttl);
+    }
+    
+    @Override
+    public Optional<List<NearbyDistributionCenter>> getDistributionCenterRanking(String availabilityVersion, String cell) {
+        requireId(availabilityVersion, "Availability version");
+        requireId(cell, "Cell");
+        return get(CacheKeys.distributionCenterRanking(availabilityVersion, cell), NearbyDistributionCenter[].class)
+                .map(Arrays::asList);
+    }
+    
+    @Override
+    public void putDistributionCenterRanking(String availabilityVersion, String cell, List<NearbyDistributionCenter> ranking,
+                                             Duration ttl) {
+        requireId(availabilityVersion, "Availability version");
+        requireId(cell, "Cell");
+        put(CacheKeys.distributionCenterRanking(availabilityVersion, cell),
+                ranking == null ? null : ranking.toArray(NearbyDistributionCenter[]::new), ttl);
+    }
+    
+    private static void requireId(String id, String name) {
+        if (id == null || id.trim().isEmpty()) {
+            throw new IllegalArgumentException(name + " cannot be null or empty");
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+    
+    // Read-your-writes no próprio pod; os demais recebem a invalidação via push do Redis
+    private void invalidateNear(String key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+    
+    private void invalidateNearAll() {
+        if (nearCache != null) {
+            nearCache.invalidateAll();
+        }
+    }
 }
\ No newline at end of file
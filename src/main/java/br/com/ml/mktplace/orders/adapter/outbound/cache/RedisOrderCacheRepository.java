@@ -1,7 +1,10 @@
 package br.com.ml.mktplace.orders.adapter.outbound.cache;
 
+import br.com.ml.mktplace.orders.adapter.config.jfr.CacheOperationEvent;
+import br.com.ml.mktplace.orders.adapter.config.metrics.CacheMetrics;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.port.OrderCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,16 +23,19 @@ import java.util.Optional;
 public class RedisOrderCacheRepository implements OrderCacheRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(RedisOrderCacheRepository.class);
-    private static final String ORDER_CACHE_KEY_PREFIX = "order:";
+    private static final String ORDER_CACHE_KEY_PREFIX = CacheKeys.ORDER_PREFIX;
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    private static final String CACHE_NAME = "redis";
     
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final CacheMetrics cacheMetrics;
     
     @Autowired
-    public RedisOrderCacheRepository(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public RedisOrderCacheRepository(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, CacheMetrics cacheMetrics) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.cacheMetrics = cacheMetrics;
     }
     
     @Override
@@ -39,14 +45,21 @@ public class RedisOrderCacheRepository implements OrderCacheRepository {
             return;
         }
         
+        String key = buildKey(order.getId());
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            String key = buildKey(order.getId());
             String serializedOrder = objectMapper.writeValueAsString(order);
             
             redisTemplate.opsForValue().set(key, serializedOrder, DEFAULT_TTL);
+            int payloadBytes = CacheMetrics.utf8Length(serializedOrder);
+            cacheMetrics.recordPut(CACHE_NAME, key, System.nanoTime() - start, payloadBytes);
+            event.complete(CACHE_NAME, key, "put", "ok", payloadBytes);
             logger.debug("Cached order with ID: {}", order.getId());
             
         } catch (Exception e) {
+            event.complete(CACHE_NAME, key, "put", "error", 0);
             logger.error("Failed to cache order with ID: {}", order.getId(), e);
             // Don't throw exception - cache failures should not break the flow
         }
@@ -59,9 +72,14 @@ public class RedisOrderCacheRepository implements OrderCacheRepository {
             return Optional.empty();
         }
         
+        String key = buildKey(orderId);
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String cachedOrder = null;
+        boolean hit = false;
         try {
-            String key = buildKey(orderId);
-            String cachedOrder = redisTemplate.opsForValue().get(key);
+            cachedOrder = redisTemplate.opsForValue().get(key);
             
             if (cachedOrder == null) {
                 logger.debug("Order not found in cache: {}", orderId);
@@ -70,11 +88,20 @@ public class RedisOrderCacheRepository implements OrderCacheRepository {
             
             Order order = objectMapper.readValue(cachedOrder, Order.class);
             logger.debug("Retrieved order from cache: {}", orderId);
+            hit = true;
             return Optional.of(order);
             
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to deserialize cached order with ID: {}", orderId, e);
+            cacheMetrics.deserializationFailure(CACHE_NAME, key);
+            return Optional.empty();
         } catch (Exception e) {
             logger.error("Failed to retrieve cached order with ID: {}", orderId, e);
             return Optional.empty();
+        } finally {
+            int payloadBytes = hit ? CacheMetrics.utf8Length(cachedOrder) : 0;
+            cacheMetrics.recordGet(CACHE_NAME, key, System.nanoTime() - start, hit, payloadBytes);
+            event.complete(CACHE_NAME, key, "get", hit ? "hit" : "miss", payloadBytes);
         }
     }
     
@@ -85,9 +112,11 @@ public class RedisOrderCacheRepository implements OrderCacheRepository {
             return;
         }
         
+        long start = System.nanoTime();
         try {
             String key = buildKey(orderId);
             Boolean deleted = redisTemplate.delete(key);
+            cacheMetrics.recordEvict(CACHE_NAME, key, System.nanoTime() - start);
             
             if (Boolean.TRUE.equals(deleted)) {
                 logger.debug("Evicted order from cache: {}", orderId);
@@ -138,6 +167,7 @@ public class RedisOrderCacheRepository implements OrderCacheRepository {
     }
     
     private String buildKey(String orderId) {
-        return ORDER_CACHE_KEY_PREFIX + orderId;
+        // Hash tag no ID: chaves do pedido ficam no mesmo slot do cluster
+        return CacheKeys.order(orderId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,243 @@
+package br.com.ml.mktplace.orders.adapter.outbound.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Near cache local coerente via client-side caching do Redis (RESP3 CLIENT TRACKING).
+ *
+ * Uma conexão dedicada liga o tracking em modo BCAST para os prefixos configurados: o Redis
+ * envia uma push message "invalidate" sempre que uma chave com esses prefixos muda ou expira,
+ * em qualquer pod. As leituras dessas chaves são servidas de um mapa LRU limitado no heap.
+ *
+ * Coerência:
+ * - Enquanto a conexão de tracking está fora, o near cache é ignorado e esvaziado (sem
+ *   tracking não há invalidação); ao reconectar o tracking é religado antes de voltar a servir.
+ * - Cada carga reserva a chave com um marcador; se uma invalidação chega durante a leitura no
+ *   Redis o marcador some e o valor (possivelmente antigo) não é guardado.
+ *
+ * Métricas em cache.near.* (é um {@link MeterBinder}).
+ */
+public class TrackingNearCache implements MeterBinder, RedisConnectionStateListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrackingNearCache.class);
+
+    private final String[] prefixes;
+    private final Map<String, Object> entries;
+
+    private RedisClient client;
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean tracking;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter invalidations;
+
+    public TrackingNearCache(String[] prefixes, int maxEntries) {
+        this.prefixes = prefixes.clone();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Abre a conexão dedicada (RESP3 é obrigatório para receber as push messages na mesma
+     * conexão) e liga o tracking.
+     */
+    public void start(ClientResources clientResources, RedisURI redisUri, ClientOptions clientOptions) {
+        client = RedisClient.create(clientResources, redisUri);
+        client.setOptions(clientOptions.mutate().protocolVersion(ProtocolVersion.RESP3).build());
+        client.addListener(this);
+        StatefulRedisConnection<String, String> conn = client.connect(StringCodec.UTF8);
+        conn.addListener(this::onPushMessage);
+        conn.sync().clientTracking(trackingArgs());
+        connection = conn;
+        onTrackingEnabled();
+        logger.info("Near cache enabled with Redis client tracking for prefixes {}", List.of(prefixes));
+    }
+
+    public void stop() {
+        tracking = false;
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    public boolean isTracked(String key) {
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serve a chave do heap quando rastreada; caso contrário (ou em miss) usa o loader
+     * e guarda o resultado se nenhuma invalidação ocorreu durante a carga.
+     */
+    public <T> Optional<T> get(String key, Class<T> valueType, Supplier<Optional<T>> loader) {
+        if (!tracking || !isTracked(key)) {
+            return loader.get();
+        }
+
+        Object marker = new Object();
+        synchronized (entries) {
+            Object local = entries.get(key);
+            if (local instanceof Loaded loaded && valueType.isInstance(loaded.value())) {
+                increment(hits);
+                return Optional.of(valueType.cast(copyOf(loaded.value())));
+            }
+            entries.put(key, marker);
+        }
+        increment(misses);
+
+        Optional<T> loaded = loader.get();
+        synchronized (entries) {
+            if (entries.get(key) == marker) {
+                if (loaded.isPresent() && tracking) {
+                    entries.put(key, new Loaded(copyOf(loaded.get())));
+                } else {
+                    entries.remove(key);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        // Conteúdo nulo = FLUSHDB/FLUSHALL no servidor
+        if (keys instanceof List<?> list) {
+            synchronized (entries) {
+                for (Object key : list) {
+                    entries.remove(String.valueOf(key));
+                }
+            }
+            if (invalidations != null) {
+                invalidations.increment(list.size());
+            }
+        } else {
+            invalidateAll();
+        }
+    }
+
+    void onTrackingEnabled() {
+        invalidateAll();
+        tracking = true;
+    }
+
+    void onTrackingLost() {
+        tracking = false;
+        invalidateAll();
+    }
+
+    @Override
+    public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+        StatefulRedisConnection<String, String> conn = connection;
+        if (conn == null || handler != conn) {
+            return;
+        }
+        // Reconexão: o servidor esqueceu o tracking; religa de forma assíncrona (thread de I/O)
+        conn.async().clientTracking(trackingArgs()).whenComplete((ok, error) -> {
+            if (error != null) {
+                logger.warn("Failed to re-enable Redis client tracking; near cache stays bypassed: {}", error.getMessage());
+            } else {
+                onTrackingEnabled();
+            }
+        });
+    }
+
+    @Override
+    public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+        if (handler == connection) {
+            onTrackingLost();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.near.size", this, TrackingNearCache::size)
+                .description("Entradas no near cache local")
+                .register(registry);
+        Gauge.builder("cache.near.tracking", this, nc -> nc.tracking ? 1 : 0)
+                .description("1 quando o tracking do Redis está ativo e o near cache serve leituras")
+                .register(registry);
+        hits = Counter.builder("cache.near.requests").tag("result", "hit")
+                .description("Leituras servidas pelo near cache").register(registry);
+        misses = Counter.builder("cache.near.requests").tag("result", "miss")
+                .description("Leituras rastreadas que foram ao Redis").register(registry);
+        invalidations = Counter.builder("cache.near.invalidations")
+                .description("Chaves invalidadas por push messages do Redis").register(registry);
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(prefixes);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Arrays são mutáveis: cada leitor recebe sua própria cópia.
+     */
+    private static Object copyOf(Object value) {
+        return value instanceof Object[] array ? array.clone() : value;
+    }
+
+    private record Loaded(Object value) {
+    }
+}
@@ -1,8 +1,11 @@
 package br.com.ml.mktplace.orders.adapter.outbound.http;
 
+import br.com.ml.mktplace.orders.adapter.outbound.resilience.ResilientExecutor;
+import br.com.ml.mktplace.orders.domain.model.ExternalServiceException;
 import br.com.ml.mktplace.orders.domain.port.DistributionCenterService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -15,6 +18,9 @@ import java.util.Comparator;
  * ÚNICA implementação mock de {@link DistributionCenterService}.
  * Remove totalmente a dependência de HTTP/WireMock para centros de distribuição.
  * Retorna um subconjunto aleatório (1..N, limitado a 5) de códigos estáticos a cada chamada.
+ *
+ * A chamada passa pelo {@link ResilientExecutor} da dependência; rejeições (circuito aberto,
+ * limite de concorrência) falham rápido com {@link ExternalServiceException}.
  */
 @Component
 public class DistributionCenterMockService implements DistributionCenterService {
@@ -23,8 +29,21 @@ public class DistributionCenterMockService implements DistributionCenterService
     private static final List<String> STATIC_CODES = List.of("SP-001", "RJ-001", "MG-001", "PR-001", "BA-001");
     private static final Random RANDOM = new Random();
 
+    private final ResilientExecutor resilience;
+
+    public DistributionCenterMockService(@Qualifier("distributionCenterResilience") ResilientExecutor resilience) {
+        this.resilience = resilience;
+    }
+
     @Override
     public List<String> findDistributionCentersByItem(String itemId) {
+        return resilience.execute(() -> pickCodes(itemId), cause -> {
+            throw new ExternalServiceException("DistributionCenterService",
+                    "Distribution center lookup unavailable for item " + itemId, cause);
+        });
+    }
+
+    private List<String> pickCodes(String itemId) {
         int max = Math.min(5, STATIC_CODES.size());
         int count = 1 + RANDOM.nextInt(max); // 1..max
         ArrayList<String> shuffled = new ArrayList<>(STATIC_CODES);
@@ -1,5 +1,6 @@
 package br.com.ml.mktplace.orders.adapter.outbound.messaging;
 
+import br.com.ml.mktplace.orders.adapter.config.jfr.KafkaMessageEvent;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.adapter.config.metrics.OrdersMetricsBinder;
@@ -7,7 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Counter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,8 +17,14 @@ import java.time.Instant;
 import org.slf4j.MDC;
 import org.springframework.kafka.core.KafkaTemplate;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Event publisher implementation that logs events.
@@ -32,6 +39,9 @@ public class KafkaEventPublisher implements EventPublisher {
     private final String topicPrefix;
     private final OrdersMetricsBinder metricsBinder;
     private final MeterRegistry meterRegistry;
+    // Counters pré-resolvidos por tipo de evento (conjunto fechado de tipos)
+    private final ConcurrentMap<String, Counter> publishedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> errorCounters = new ConcurrentHashMap<>();
     @Autowired(required = false)
     private KafkaTemplate<String, Object> orderEventsKafkaTemplate; // Optional: only present when Kafka infra enabled
     
@@ -96,6 +106,47 @@ public class KafkaEventPublisher implements EventPublisher {
     incrementKafkaCounter("ORDER_CREATED");
     }
     
+    /**
+     * Publica ORDER_CREATED para um lote: os envios são enfileirados no producer
+     * (linger/batch do Kafka agrupa os records) e um único flush aguarda o lote.
+     * Falhas são contadas pelos futures de envio depois do flush, não só pelas exceções síncronas.
+     */
+    @Override
+    public void publishOrdersCreated(List<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+        
+        Map<String, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (Order order : orders) {
+            sends.put(order.getId(), send(createEventData("ORDER_CREATED", order)));
+            incrementKafkaCounter("ORDER_CREATED");
+        }
+        if (orderEventsKafkaTemplate != null) {
+            try {
+                orderEventsKafkaTemplate.flush();
+            } catch (Exception flushEx) {
+                logger.error("Failed to flush ORDER_CREATED batch to Kafka (non-fatal)", flushEx);
+            }
+        }
+        // Após o flush todo envio aceito está concluído; o que não concluiu não foi confirmado pelo broker
+        Set<String> failed = new LinkedHashSet<>();
+        sends.forEach((orderId, future) -> {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                failed.add(orderId);
+            }
+        });
+        if (failed.isEmpty()) {
+            logger.info("Published ORDER_CREATED batch - size: {}", orders.size());
+        } else {
+            logger.warn("Published ORDER_CREATED batch - size: {}, kafkaFailures: {}, failedOrders: {}",
+                    orders.size(), failed.size(), failed);
+        }
+    }
+    
     @Override
     public void publishDomainEvent(String eventType, Object eventData) {
         if (eventType == null || eventType.trim().isEmpty()) {
@@ -147,16 +198,8 @@ public class KafkaEventPublisher implements EventPublisher {
             // For now, we just log the event
             logger.info("Event published successfully: {}", eventData.get("eventType"));
             // If Kafka template is available (integration tests with Testcontainers), send to default events topic
-            if (orderEventsKafkaTemplate != null) {
-                try {
-                    Object keyObj = eventData.get("aggregateId");
-                    String nonNullKey = keyObj != null ? keyObj.toString() : "UNKNOWN";
-                    orderEventsKafkaTemplate.sendDefault(nonNullKey, eventData);
-                    logger.info("Event dispatched to Kafka default topic '{}' with key {}", orderEventsKafkaTemplate.getDefaultTopic(), nonNullKey);
-                } catch (Exception sendEx) {
-                    logger.error("Failed to send event to Kafka (non-fatal) {}", eventData.get("eventType"), sendEx);
-                    incrementKafkaErrorCounter(eventData.get("eventType"));
-                }
+            if (sendToKafka(eventData) && orderEventsKafkaTemplate != null) {
+                logger.info("Event dispatched to Kafka default topic '{}'", orderEventsKafkaTemplate.getDefaultTopic());
             }
             
         } catch (Exception e) {
@@ -166,17 +209,62 @@ public class KafkaEventPublisher implements EventPublisher {
         }
     }
 
+    /**
+     * Envia para o tópico default quando o KafkaTemplate está disponível. Falhas não são fatais.
+     *
+     * @return false somente se o envio falhou
+     */
+    private boolean sendToKafka(Map<String, Object> eventData) {
+        return !send(eventData).isCompletedExceptionally();
+    }
+
+    /**
+     * Envia sem aguardar a confirmação do broker: exceção síncrona vira um future já falho e a
+     * falha assíncrona conta no counter de erros quando o future conclui
+     */
+    private CompletableFuture<?> send(Map<String, Object> eventData) {
+        if (orderEventsKafkaTemplate == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        KafkaMessageEvent event = new KafkaMessageEvent();
+        event.begin();
+        Object keyObj = eventData.get("aggregateId");
+        String nonNullKey = keyObj != null ? keyObj.toString() : "UNKNOWN";
+        Object eventType = eventData.get("eventType");
+        try {
+            CompletableFuture<?> future = orderEventsKafkaTemplate.sendDefault(nonNullKey, eventData);
+            event.complete(KafkaMessageEvent.PUBLISH, orderEventsKafkaTemplate.getDefaultTopic(),
+                    String.valueOf(eventType), nonNullKey, true);
+            return future.whenComplete((result, ackEx) -> {
+                if (ackEx != null) {
+                    logger.error("Kafka did not acknowledge event (non-fatal) {} for {}", eventType, nonNullKey, ackEx);
+                    incrementKafkaErrorCounter(eventType);
+                }
+            });
+        } catch (Exception sendEx) {
+            event.complete(KafkaMessageEvent.PUBLISH, orderEventsKafkaTemplate.getDefaultTopic(),
+                    String.valueOf(eventType), nonNullKey, false);
+            logger.error("Failed to send event to Kafka (non-fatal) {}", eventType, sendEx);
+            incrementKafkaErrorCounter(eventType);
+            return CompletableFuture.failedFuture(sendEx);
+        }
+    }
+
     private void incrementKafkaCounter(Object eventType) {
         try {
             String type = eventType == null ? "UNKNOWN" : eventType.toString();
-            meterRegistry.counter("kafka.events.published.total", List.of(Tag.of("type", type))).increment();
+            publishedCounters.computeIfAbsent(type, t -> counter("kafka.events.published.total", t)).increment();
         } catch (Exception ignored) { }
     }
 
     private void incrementKafkaErrorCounter(Object eventType) {
         try {
             String type = eventType == null ? "UNKNOWN" : eventType.toString();
-            meterRegistry.counter("kafka.events.errors.total", List.of(Tag.of("type", type))).increment();
+            errorCounters.computeIfAbsent(type, t -> counter("kafka.events.errors.total", t)).increment();
         } catch (Exception ignored) { }
     }
+
+    private Counter counter(String name, String type) {
+        return Counter.builder(name).tag("type", type).register(meterRegistry);
+    }
 }
\ No newline at end of file
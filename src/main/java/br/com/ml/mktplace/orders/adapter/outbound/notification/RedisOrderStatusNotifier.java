@@ -0,0 +1,150 @@
+package br.com.ml.mktplace.orders.adapter.outbound.notification;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Notificador de status de pedidos: entrega local em processo + fan-out entre pods via Redis pub/sub.
+ *
+ * A mudança é entregue de imediato aos listeners desta instância e publicada no canal
+ * {@link #CHANNEL} como {@code <instância>|<pedido>|<status>}; cada pod entrega as mensagens
+ * das outras instâncias aos seus listeners (a própria é ignorada). Pub/sub não tem garantia de
+ * entrega: quem espera deve reler o pedido no timeout. Sem Redis ({@code redisTemplate} nulo)
+ * a entrega é só local.
+ *
+ * Os listeners por pedido rodam no {@code dispatcher}, nunca na thread do processamento ou do
+ * container Redis; os listeners globais ({@link #subscribeAll}) rodam na própria thread.
+ */
+public class RedisOrderStatusNotifier implements OrderStatusNotifier, MessageListener {
+
+    public static final String CHANNEL = "orders:status-changes";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisOrderStatusNotifier.class);
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final Executor dispatcher;
+    private final String instanceId;
+    private final ConcurrentMap<String, Set<Consumer<OrderStatus>>> listeners = new ConcurrentHashMap<>();
+    private final Set<BiConsumer<String, OrderStatus>> globalListeners = new CopyOnWriteArraySet<>();
+
+    public RedisOrderStatusNotifier(StringRedisTemplate redisTemplate, Executor dispatcher, String instanceId) {
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = dispatcher;
+        this.instanceId = instanceId;
+    }
+
+    @Override
+    public void statusChanged(String orderId, OrderStatus status) {
+        if (orderId == null || status == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(orderId, status);
+                }
+            });
+        } else {
+            publish(orderId, status);
+        }
+    }
+
+    @Override
+    public Subscription subscribe(String orderId, Consumer<OrderStatus> listener) {
+        listeners.compute(orderId, (id, current) -> {
+            Set<Consumer<OrderStatus>> set = current != null ? current : new CopyOnWriteArraySet<>();
+            set.add(listener);
+            return set;
+        });
+        return () -> listeners.computeIfPresent(orderId, (id, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    @Override
+    public Subscription subscribeAll(BiConsumer<String, OrderStatus> listener) {
+        globalListeners.add(listener);
+        return () -> globalListeners.remove(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = body.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            log.debug("Ignoring malformed order status message: {}", body);
+            return;
+        }
+        if (body.regionMatches(0, instanceId, 0, first) && first == instanceId.length()) {
+            return; // já entregue localmente
+        }
+        String orderId = body.substring(first + 1, second);
+        if (globalListeners.isEmpty() && !listeners.containsKey(orderId)) {
+            return;
+        }
+        try {
+            deliver(orderId, OrderStatus.valueOf(body.substring(second + 1)));
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring order status message with unknown status: {}", body);
+        }
+    }
+
+    int subscribedOrders() {
+        return listeners.size();
+    }
+
+    private void publish(String orderId, OrderStatus status) {
+        deliver(orderId, status);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + orderId + SEPARATOR + status.name());
+        } catch (Exception e) {
+            // Outros pods perdem a notificação e respondem no timeout com o estado relido
+            log.warn("Failed to publish status change of order {} to Redis: {}", orderId, e.getMessage());
+        }
+    }
+
+    private void deliver(String orderId, OrderStatus status) {
+        for (BiConsumer<String, OrderStatus> listener : globalListeners) {
+            try {
+                listener.accept(orderId, status);
+            } catch (RuntimeException e) {
+                log.warn("Order status listener failed for order {}: {}", orderId, e.getMessage());
+            }
+        }
+        Set<Consumer<OrderStatus>> current = listeners.get(orderId);
+        if (current == null) {
+            return;
+        }
+        for (Consumer<OrderStatus> listener : current) {
+            try {
+                dispatcher.execute(() -> listener.accept(status));
+            } catch (RejectedExecutionException e) {
+                log.debug("Status notification for order {} rejected: {}", orderId, e.getMessage());
+            }
+        }
+    }
+}
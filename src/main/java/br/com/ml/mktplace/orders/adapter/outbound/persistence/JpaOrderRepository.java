@@ -1,18 +1,36 @@
 package br.com.ml.mktplace.orders.adapter.outbound.persistence;
 
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.AddressDocument;
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.OrderEntity;
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.mapper.OrderEntityMapper;
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.repository.JpaOrderEntityRepository;
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.type.JsonbFormatMapper;
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.type.UlidUuidType;
 import br.com.ml.mktplace.orders.domain.model.Address;
 import br.com.ml.mktplace.orders.domain.model.DistributionCenter;
+import br.com.ml.mktplace.orders.domain.model.MonotonicUlid;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderNotFoundException;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
 import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JPA implementation of OrderRepository port.
@@ -21,12 +39,38 @@ import java.util.Optional;
 @Component
 public class JpaOrderRepository implements OrderRepository {
 
+    private static final ObjectReader ADDRESS_READER = JsonbFormatMapper.OBJECT_MAPPER.readerFor(AddressDocument.class);
+
+    /**
+     * Claims PROCESSING orders whose lease expired, oldest lease first, and renews their lease in
+     * the same statement. SKIP LOCKED makes concurrent sweepers (one per pod) claim disjoint sets;
+     * the predicate matches the partial index idx_orders_processing_lease (V8).
+     */
+    static final String CLAIM_EXPIRED_LEASES_SQL = """
+        UPDATE orders SET processing_lease_until = now() + make_interval(secs => :leaseSeconds)
+        WHERE id IN (
+            SELECT id FROM orders
+            WHERE status = 'PROCESSING' AND processing_lease_until < now()
+            ORDER BY processing_lease_until
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """;
+
     private final JpaOrderEntityRepository jpaRepository;
     private final OrderEntityMapper mapper;
+    private final Duration processingLease;
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public JpaOrderRepository(JpaOrderEntityRepository jpaRepository, OrderEntityMapper mapper) {
+    public JpaOrderRepository(
+            JpaOrderEntityRepository jpaRepository,
+            OrderEntityMapper mapper,
+            @Value("${app.orders.sweeper.lease-timeout:PT5M}") Duration processingLease) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.processingLease = processingLease;
     }
 
     @Override
@@ -36,15 +80,48 @@ public class JpaOrderRepository implements OrderRepository {
         }
         
         OrderEntity entity = mapper.toEntity(order);
+        // Lease renewed on every PROCESSING save, cleared once the order leaves PROCESSING
+        entity.setProcessingLeaseUntil(order.getStatus() == OrderStatus.PROCESSING
+                ? Instant.now().plus(processingLease)
+                : null);
         OrderEntity savedEntity = jpaRepository.save(entity);
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * Inserts new orders with {@code persist} instead of {@code save}: ULID ids are assigned,
+     * so {@code save} would merge (one SELECT per order). With hibernate.jdbc.batch_size and
+     * reWriteBatchedInserts the INSERTs for orders and items go out as multi-row statements.
+     * Must run inside the caller's transaction.
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("Orders cannot be null");
+        }
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        
+        List<OrderEntity> entities = orders.stream()
+                .map(mapper::toEntity)
+                .toList();
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Order> findById(String orderId) {
         if (orderId == null || orderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
+        // Keys are stored as uuid: anything that is not a ULID cannot exist
+        if (!UlidUuidType.isConvertible(orderId)) {
+            return Optional.empty();
+        }
         
         return jpaRepository.findById(orderId)
                 .map(mapper::toDomain);
@@ -70,10 +147,150 @@ public class JpaOrderRepository implements OrderRepository {
         if (orderId == null || orderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
+        if (!UlidUuidType.isConvertible(orderId)) {
+            return false;
+        }
         
         return jpaRepository.existsById(orderId);
     }
 
+    /**
+     * Orders in a given status created since {@code since}.
+     * Passes the partition key (ULID lower bound of {@code since}) so the planner prunes old months.
+     */
+    public List<Order> findByStatusCreatedSince(OrderStatus status, Instant since) {
+        if (status == null || since == null) {
+            throw new IllegalArgumentException("Status and since cannot be null");
+        }
+        return jpaRepository.findByStatusFromId(status, minIdFor(since)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Ids of orders in a lifecycle status (RECEIVED, PROCESSING or FAILED) created before a cutoff,
+     * oldest first. Served by the partial index idx_orders_active_created_at.
+     */
+    @Override
+    public List<String> findActiveOrderIds(OrderStatus status, Instant createdBefore, int limit) {
+        if (status == null || status == OrderStatus.PROCESSED) {
+            throw new IllegalArgumentException("Status must be one of RECEIVED, PROCESSING, FAILED");
+        }
+        if (createdBefore == null) {
+            throw new IllegalArgumentException("Cutoff cannot be null");
+        }
+        return toUlids(jpaRepository.findActiveOrderIds(status.name(), createdBefore, limit));
+    }
+
+    /**
+     * Keyset page of a customer's order ids, ascending (ULID order = creation order).
+     *
+     * @param afterId last id of the previous page, or null for the first page
+     */
+    @Override
+    public List<String> findCustomerOrderIds(String customerId, String afterId, int limit) {
+        if (customerId == null || customerId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Customer ID cannot be null or empty");
+        }
+        UUID after = afterId == null ? new UUID(0L, 0L) : UlidUuidType.toUuid(afterId);
+        return toUlids(jpaRepository.findCustomerOrderIds(customerId, after, limit));
+    }
+
+    /**
+     * Ids of orders containing the given item.
+     */
+    @Override
+    public List<String> findOrderIdsByItemId(String itemId, int limit) {
+        if (itemId == null || itemId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Item ID cannot be null or empty");
+        }
+        return toUlids(jpaRepository.findOrderIdsByItemId(itemId, limit));
+    }
+
+    @Override
+    public List<String> findFailedOrderIds(Instant createdFrom, Instant createdTo, String afterId, int limit) {
+        if (createdFrom == null || createdTo == null || !createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("Range start must be before range end");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        UUID after = afterId == null ? new UUID(0L, 0L) : UlidUuidType.toUuid(afterId);
+        return toUlids(jpaRepository.findFailedOrderIds(
+                UlidUuidType.toUuid(minIdFor(createdFrom)),
+                UlidUuidType.toUuid(minIdFor(createdTo)),
+                after,
+                limit));
+    }
+
+    @Override
+    public List<OrderStatusSnapshot> findStatuses(Collection<String> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+        // Keys are stored as uuid: anything that is not a ULID cannot exist
+        UUID[] ids = orderIds.stream()
+                .filter(UlidUuidType::isConvertible)
+                .map(UlidUuidType::toUuid)
+                .toArray(UUID[]::new);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return jpaRepository.findOrderStatuses(ids).stream()
+                .map(row -> new OrderStatusSnapshot(
+                        UlidUuidType.toUlid((UUID) row[0]),
+                        OrderStatus.valueOf((String) row[1]),
+                        toInstant(row[2])))
+                .toList();
+    }
+
+    private static Instant toInstant(Object value) {
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return null;
+    }
+
+    /**
+     * Claims up to {@code limit} orders stuck in PROCESSING (lease expired) for this caller.
+     * Runs and commits in its own transaction so the renewed lease is visible to other pods
+     * before the orders are reprocessed.
+     *
+     * @return ids of the claimed orders
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<String> claimStuckOrders(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        @SuppressWarnings("unchecked")
+        List<UUID> ids = entityManager.createNativeQuery(CLAIM_EXPIRED_LEASES_SQL, UUID.class)
+                .setParameter("leaseSeconds", processingLease.toSeconds())
+                .setParameter("limit", limit)
+                .getResultList();
+        return toUlids(ids);
+    }
+
+    private static List<String> toUlids(List<UUID> ids) {
+        return ids.stream()
+                .map(UlidUuidType::toUlid)
+                .toList();
+    }
+
+    /**
+     * Smallest ULID for a timestamp (random part zeroed): lower bound for partition pruning.
+     */
+    static String minIdFor(Instant since) {
+        return MonotonicUlid.encode(Math.max(0L, since.toEpochMilli()), 0L, 0L);
+    }
+
     /**
      * Additional method using PostGIS spatial queries.
      * Find orders near a specific location within a radius.
@@ -111,27 +328,19 @@ public class JpaOrderRepository implements OrderRepository {
             String addressJson = (String) r[2];
             double longitude = ((Number) r[3]).doubleValue();
             double latitude = ((Number) r[4]).doubleValue();
-            // Reconstruir Address a partir de JSON armazenado e coordenadas
+            Address.Coordinates coords = new Address.Coordinates(
+                    java.math.BigDecimal.valueOf(latitude),
+                    java.math.BigDecimal.valueOf(longitude)
+            );
+            // Reconstruir Address a partir do JSON armazenado (leitor tipado compartilhado) e coordenadas
             try {
-                com.fasterxml.jackson.databind.ObjectMapper om = new com.fasterxml.jackson.databind.ObjectMapper();
-                com.fasterxml.jackson.databind.JsonNode node = om.readTree(addressJson);
-                String street = node.get("street").asText();
-                String city = node.get("city").asText();
-                String state = node.get("state").asText();
-                String country = node.get("country").asText();
-                com.fasterxml.jackson.databind.JsonNode postalOrZipNode = node.get("postalCode");
-                if (postalOrZipNode == null) postalOrZipNode = node.get("zipCode");
-                String postal = postalOrZipNode != null ? postalOrZipNode.asText() : "00000-000";
-                Address.Coordinates coords = new Address.Coordinates(
-                        java.math.BigDecimal.valueOf(latitude),
-                        java.math.BigDecimal.valueOf(longitude)
-                );
-                Address addr = new Address(street, "0", city, state, country, postal, coords);
+                AddressDocument document = ADDRESS_READER.readValue(addressJson);
+                String postal = document.zipCode() != null ? document.zipCode() : "00000-000";
+                Address addr = new Address(document.street(), "0", document.city(), document.state(), document.country(), postal, coords);
                 return new DistributionCenter(code, name, addr);
             } catch (Exception e) {
                 // Fallback mínimo em caso de JSON inesperado
-        Address addr = new Address("Unknown", "0", "Unknown", "Unknown", "Unknown", "00000-000",
-            new Address.Coordinates(java.math.BigDecimal.valueOf(latitude), java.math.BigDecimal.valueOf(longitude)));
+                Address addr = new Address("Unknown", "0", "Unknown", "Unknown", "Unknown", "00000-000", coords);
                 return new DistributionCenter(code, name, addr);
             }
         }).toList();
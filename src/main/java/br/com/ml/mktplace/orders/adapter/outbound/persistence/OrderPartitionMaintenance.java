@@ -0,0 +1,101 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * Manutenção das partições mensais de orders/order_items (migration V6).
+ *
+ * - Garante partições futuras ({@code create_order_partitions}) na subida e diariamente. Se o job
+ *   atrasar, os INSERTs caem na partição DEFAULT (V10); a próxima execução começa pelo mês do pedido
+ *   mais antigo em orders_default e move essas linhas para a partição mensal criada
+ * - Opcionalmente arquiva meses antigos ({@code archive_order_partitions}) no schema orders_archive
+ *   quando {@code app.orders.partitions.retention-months} > 0
+ * - Subida e cron disparam em todos os pods ao mesmo tempo: cada etapa toma
+ *   {@code pg_try_advisory_xact_lock} na própria transação e é pulada se outro pod já a executa
+ */
+@Component
+@ConditionalOnProperty(name = "app.orders.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionMaintenance {
+    
+    private static final Logger logger = LoggerFactory.getLogger(OrderPartitionMaintenance.class);
+    
+    static final String CREATE_PARTITIONS_SQL = "SELECT create_order_partitions("
+            + "COALESCE((SELECT ulid_uuid_timestamp(min(id)) FROM orders_default), now()), ?)";
+    static final String ARCHIVE_PARTITIONS_SQL = "SELECT archive_order_partitions(?)";
+    static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    // "ORDRPART" em ASCII; liberado no fim da transação da etapa
+    static final long MAINTENANCE_LOCK_KEY = 0x4F52445250415254L;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    
+    public OrderPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.orders.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${app.orders.partitions.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Pool usa autoCommit=false: cada etapa roda em sua própria transação (senão o DDL seria revertido)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+    
+    @Scheduled(cron = "${app.orders.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            Optional<Integer> created = runExclusively(CREATE_PARTITIONS_SQL, monthsAhead);
+            if (created.isEmpty()) {
+                logger.info("Order partition maintenance skipped - another instance holds the lock");
+                return;
+            }
+            logger.info("Order partitions ensured - monthsAhead: {}, created: {}", monthsAhead, created.get());
+        } catch (Exception e) {
+            logger.error("Failed to create order partitions", e);
+        }
+        
+        if (retentionMonths > 0) {
+            try {
+                runExclusively(ARCHIVE_PARTITIONS_SQL, retentionMonths).ifPresentOrElse(
+                        archived -> logger.info("Order partitions archived - retentionMonths: {}, archived: {}", retentionMonths, archived),
+                        () -> logger.info("Order partition archiving skipped - another instance holds the lock"));
+            } catch (Exception e) {
+                logger.error("Failed to archive order partitions", e);
+            }
+        }
+    }
+    
+    /**
+     * Executa a etapa na sua transação só se conseguir o advisory lock (não bloqueia)
+     * 
+     * @return resultado da função, ou vazio se outro pod está executando a manutenção
+     */
+    private Optional<Integer> runExclusively(String sql, int argument) {
+        return transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(TRY_LOCK_SQL, Boolean.class, MAINTENANCE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                return Optional.<Integer>empty();
+            }
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, Integer.class, argument));
+        });
+    }
+}
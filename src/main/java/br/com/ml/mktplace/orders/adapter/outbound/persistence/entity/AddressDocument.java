@@ -0,0 +1,51 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence.entity;
+
+import br.com.ml.mktplace.orders.domain.model.Address;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * JSONB document for addresses (orders.delivery_address, distribution_centers.address).
+ * Mapped by Hibernate straight from/to the column; tolerant to the legacy layouts
+ * ({@code postalCode} instead of {@code zipCode}, missing {@code number}/{@code coordinates}).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AddressDocument(
+        String street,
+        String number,
+        String city,
+        String state,
+        String country,
+        @JsonAlias("postalCode") String zipCode,
+        CoordinatesDocument coordinates
+) {
+    
+    public record CoordinatesDocument(BigDecimal latitude, BigDecimal longitude) {}
+    
+    public static AddressDocument from(Address address) {
+        return new AddressDocument(
+                address.street(),
+                address.number(),
+                address.city(),
+                address.state(),
+                address.country(),
+                address.zipCode(),
+                new CoordinatesDocument(address.coordinates().latitude(), address.coordinates().longitude()));
+    }
+    
+    /**
+     * Converts to the domain value object.
+     */
+    public Address toDomain() {
+        if (zipCode == null) {
+            throw new IllegalArgumentException("Address JSON missing zipCode/postalCode field");
+        }
+        if (coordinates == null || coordinates.latitude() == null || coordinates.longitude() == null) {
+            throw new IllegalArgumentException("Address JSON missing coordinates (latitude/longitude)");
+        }
+        return new Address(street, number != null ? number : "0", city, state, country, zipCode,
+                new Address.Coordinates(coordinates.latitude(), coordinates.longitude()));
+    }
+}
@@ -1,8 +1,10 @@
 package br.com.ml.mktplace.orders.adapter.outbound.persistence.entity;
 
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.type.UlidUuidType;
 import br.com.ml.mktplace.orders.domain.model.OrderStatus;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Type;
 import org.hibernate.type.SqlTypes;
 import org.locationtech.jts.geom.Point;
 
@@ -16,14 +18,15 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "orders", indexes = {
-    @Index(name = "idx_orders_customer_id", columnList = "customer_id"),
-    @Index(name = "idx_orders_status", columnList = "status"),
+    @Index(name = "idx_orders_customer_id_id", columnList = "customer_id, id"),
     @Index(name = "idx_orders_created_at", columnList = "created_at")
 })
 public class OrderEntity {
 
+    // ULID stored as native uuid (16 bytes); the attribute keeps the 26-char ULID text
     @Id
-    @Column(name = "id", length = 26, nullable = false)
+    @Type(UlidUuidType.class)
+    @Column(name = "id", columnDefinition = "uuid", nullable = false)
     private String id;
 
     @Column(name = "customer_id", length = 26, nullable = false)
@@ -31,7 +34,7 @@ public class OrderEntity {
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "delivery_address", columnDefinition = "jsonb", nullable = false)
-    private String deliveryAddressJson;
+    private AddressDocument deliveryAddress;
 
     @Column(name = "delivery_coordinates", columnDefinition = "geometry(Point,4326)")
     private Point deliveryCoordinates;
@@ -46,6 +49,10 @@ public class OrderEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // Set while PROCESSING; once expired the order is reclaimed by the stuck-order sweeper (V8)
+    @Column(name = "processing_lease_until")
+    private Instant processingLeaseUntil;
+
     @OneToMany(
         mappedBy = "order", 
         cascade = CascadeType.ALL, 
@@ -58,11 +65,11 @@ public class OrderEntity {
     protected OrderEntity() {
     }
 
-    public OrderEntity(String id, String customerId, String deliveryAddressJson, 
+    public OrderEntity(String id, String customerId, AddressDocument deliveryAddress, 
                       Point deliveryCoordinates, OrderStatus status, Instant createdAt) {
         this.id = id;
         this.customerId = customerId;
-        this.deliveryAddressJson = deliveryAddressJson;
+        this.deliveryAddress = deliveryAddress;
         this.deliveryCoordinates = deliveryCoordinates;
         this.status = status;
         this.createdAt = createdAt;
@@ -91,12 +98,12 @@ public class OrderEntity {
         this.customerId = customerId;
     }
 
-    public String getDeliveryAddressJson() {
-        return deliveryAddressJson;
+    public AddressDocument getDeliveryAddress() {
+        return deliveryAddress;
     }
 
-    public void setDeliveryAddressJson(String deliveryAddressJson) {
-        this.deliveryAddressJson = deliveryAddressJson;
+    public void setDeliveryAddress(AddressDocument deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
     }
 
     public Point getDeliveryCoordinates() {
@@ -132,6 +139,14 @@ public class OrderEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Instant getProcessingLeaseUntil() {
+        return processingLeaseUntil;
+    }
+
+    public void setProcessingLeaseUntil(Instant processingLeaseUntil) {
+        this.processingLeaseUntil = processingLeaseUntil;
+    }
+
     public List<OrderItemEntity> getItems() {
         return items;
     }
@@ -1,10 +1,12 @@
 package br.com.ml.mktplace.orders.adapter.outbound.persistence.entity;
 
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,12 +16,14 @@ import java.util.Objects;
 @Entity
 @Table(name = "order_items", indexes = {
     @Index(name = "idx_order_items_order_id", columnList = "order_id"),
-    @Index(name = "idx_order_items_item_id", columnList = "item_id")
+    @Index(name = "idx_order_items_item_id_order_id", columnList = "item_id, order_id")
 })
 public class OrderItemEntity {
 
+    // SEQUENCE (not IDENTITY) so Hibernate can batch item INSERTs; ids are pooled 50 at a time (V4 migration)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_id_seq")
+    @SequenceGenerator(name = "order_items_id_seq", sequenceName = "order_items_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -38,7 +42,7 @@ public class OrderItemEntity {
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "available_distribution_centers", columnDefinition = "jsonb")
-    private String availableDistributionCentersJson;
+    private List<NearbyDistributionCenter> availableDistributionCenters;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -102,12 +106,12 @@ public class OrderItemEntity {
         this.assignedDistributionCenter = assignedDistributionCenter;
     }
 
-    public String getAvailableDistributionCentersJson() {
-        return availableDistributionCentersJson;
+    public List<NearbyDistributionCenter> getAvailableDistributionCenters() {
+        return availableDistributionCenters;
     }
 
-    public void setAvailableDistributionCentersJson(String availableDistributionCentersJson) {
-        this.availableDistributionCentersJson = availableDistributionCentersJson;
+    public void setAvailableDistributionCenters(List<NearbyDistributionCenter> availableDistributionCenters) {
+        this.availableDistributionCenters = availableDistributionCenters;
     }
 
     public Instant getCreatedAt() {
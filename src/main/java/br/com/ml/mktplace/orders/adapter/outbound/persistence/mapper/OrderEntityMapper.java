@@ -1,15 +1,12 @@
 package br.com.ml.mktplace.orders.adapter.outbound.persistence.mapper;
 
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.AddressDocument;
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.OrderEntity;
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.OrderItemEntity;
 import br.com.ml.mktplace.orders.domain.model.Address;
 import br.com.ml.mktplace.orders.domain.model.DistributionCenter;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderItem;
-import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
@@ -22,16 +19,14 @@ import java.util.stream.Collectors;
 
 /**
  * Mapper class to convert between JPA entities and domain objects.
- * Handles JSON serialization/deserialization and PostGIS geometry conversion.
+ * JSONB columns are typed documents (mapped by Hibernate); handles PostGIS geometry conversion.
  */
 @Component
 public class OrderEntityMapper {
 
-    private final ObjectMapper objectMapper;
     private final GeometryFactory geometryFactory;
 
     public OrderEntityMapper() {
-        this.objectMapper = new ObjectMapper();
         this.geometryFactory = new GeometryFactory();
     }
 
@@ -39,54 +34,45 @@ public class OrderEntityMapper {
      * Converts Order domain object to OrderEntity for persistence.
      */
     public OrderEntity toEntity(Order order) {
-        try {
-            String addressJson = serializeAddress(order.getDeliveryAddress());
-            Point coordinates = createPoint(order.getDeliveryAddress().coordinates());
-            
-            OrderEntity entity = new OrderEntity(
-                order.getId(),
-                order.getCustomerId(),
-                addressJson,
-                coordinates,
-                order.getStatus(),
-                order.getCreatedAt() != null ? order.getCreatedAt() : Instant.now()
-            );
+        Point coordinates = createPoint(order.getDeliveryAddress().coordinates());
+        
+        OrderEntity entity = new OrderEntity(
+            order.getId(),
+            order.getCustomerId(),
+            AddressDocument.from(order.getDeliveryAddress()),
+            coordinates,
+            order.getStatus(),
+            order.getCreatedAt() != null ? order.getCreatedAt() : Instant.now()
+        );
 
-            List<OrderItemEntity> itemEntities = order.getItems().stream()
-                .map(item -> toOrderItemEntity(item, entity))
-                .collect(Collectors.toList());
-            
-            entity.setItems(itemEntities);
-            
-            return entity;
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize address to JSON", e);
-        }
+        List<OrderItemEntity> itemEntities = order.getItems().stream()
+            .map(item -> toOrderItemEntity(item, entity))
+            .collect(Collectors.toList());
+        
+        entity.setItems(itemEntities);
+        
+        return entity;
     }
 
     /**
      * Converts OrderEntity to Order domain object.
      */
     public Order toDomain(OrderEntity entity) {
-        try {
-            Address address = deserializeAddress(entity.getDeliveryAddressJson());
-            
-            List<OrderItem> items = entity.getItems().stream()
-                .map(this::toOrderItemDomain)
-                .collect(Collectors.toList());
+        Address address = entity.getDeliveryAddress().toDomain();
+        
+        List<OrderItem> items = entity.getItems().stream()
+            .map(this::toOrderItemDomain)
+            .collect(Collectors.toList());
 
-            // Using the existing constructor with all parameters
-            return new Order(
-                entity.getId(),
-                entity.getCustomerId(),
-                items,
-                address,
-                entity.getStatus(),
-                entity.getCreatedAt()
-            );
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize address from JSON", e);
-        }
+        // Using the existing constructor with all parameters
+        return new Order(
+            entity.getId(),
+            entity.getCustomerId(),
+            items,
+            address,
+            entity.getStatus(),
+            entity.getCreatedAt()
+        );
     }
 
     /**
@@ -103,22 +89,9 @@ public class OrderEntityMapper {
             item.getQuantity(),
             assignedDCCode
         );
-        // Persistir lista ordenada de CDs disponíveis (se houver)
-        try {
-            if (!item.getAvailableDistributionCenters().isEmpty()) {
-                var arr = item.getAvailableDistributionCenters().stream()
-                        .map(n -> {
-                            com.fasterxml.jackson.databind.node.ObjectNode node = objectMapper.createObjectNode();
-                            node.put("code", n.code());
-                            node.put("distanceKm", n.distanceKm());
-                            return node;
-                        })
-                        .collect(java.util.stream.Collectors.toList());
-                String json = objectMapper.writeValueAsString(arr);
-                entity.setAvailableDistributionCentersJson(json);
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize availableDistributionCenters", e);
+        // Persistir lista ordenada de CDs disponíveis (se houver); mapeada direto para jsonb
+        if (!item.getAvailableDistributionCenters().isEmpty()) {
+            entity.setAvailableDistributionCenters(List.copyOf(item.getAvailableDistributionCenters()));
         }
         return entity;
     }
@@ -136,21 +109,8 @@ public class OrderEntityMapper {
             item.assignDistributionCenter(dc);
         }
         // Carregar lista ordenada de CDs disponíveis (se houver)
-        try {
-            if (entity.getAvailableDistributionCentersJson() != null) {
-                var root = objectMapper.readTree(entity.getAvailableDistributionCentersJson());
-                if (root.isArray()) {
-                    java.util.List<NearbyDistributionCenter> list = new java.util.ArrayList<>();
-                    for (JsonNode n : root) {
-                        String code = n.get("code").asText();
-                        double dist = n.get("distanceKm").asDouble();
-                        list.add(new NearbyDistributionCenter(code, dist));
-                    }
-                    item.setAvailableDistributionCenters(list);
-                }
-            }
-        } catch (Exception e) {
-            // Não falhar carregamento do pedido por JSON malformado; seguir sem a lista
+        if (entity.getAvailableDistributionCenters() != null) {
+            item.setAvailableDistributionCenters(entity.getAvailableDistributionCenters());
         }
         
         return item;
@@ -175,47 +135,6 @@ public class OrderEntityMapper {
         return new DistributionCenter(code, "DC " + code, minimalAddress);
     }
 
-    /**
-     * Serializes Address to JSON string.
-     */
-    private String serializeAddress(Address address) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(address);
-    }
-
-    /**
-     * Deserializes JSON string to Address object.
-     */
-    private Address deserializeAddress(String json) throws JsonProcessingException {
-        JsonNode node = objectMapper.readTree(json);
-        
-        String street = node.get("street").asText();
-    String number = node.has("number") ? node.get("number").asText() : "0";
-    String city = node.get("city").asText();
-        String state = node.get("state").asText();
-        String country = node.get("country").asText();
-        // O JSON armazenado pode ter sido gerado a partir do record Address cujo campo é 'zipCode'.
-        // O código original buscava 'postalCode', causando NPE. Fallback para 'zipCode'.
-        JsonNode postalOrZipNode = node.get("postalCode");
-        if (postalOrZipNode == null) {
-            postalOrZipNode = node.get("zipCode");
-        }
-        if (postalOrZipNode == null) {
-            throw new IllegalArgumentException("Address JSON missing zipCode/postalCode field");
-        }
-        String postalCode = postalOrZipNode.asText();
-        
-        JsonNode coordinatesNode = node.get("coordinates");
-        if (coordinatesNode == null || coordinatesNode.get("latitude") == null || coordinatesNode.get("longitude") == null) {
-            throw new IllegalArgumentException("Address JSON missing coordinates (latitude/longitude)");
-        }
-        Address.Coordinates coordinates = new Address.Coordinates(
-            new BigDecimal(coordinatesNode.get("latitude").asText()),
-            new BigDecimal(coordinatesNode.get("longitude").asText())
-        );
-        
-    return new Address(street, number, city, state, country, postalCode, coordinates);
-    }
-
     /**
      * Creates JTS Point from Address coordinates.
      */
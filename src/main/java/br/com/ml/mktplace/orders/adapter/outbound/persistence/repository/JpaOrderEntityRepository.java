@@ -1,13 +1,16 @@
 package br.com.ml.mktplace.orders.adapter.outbound.persistence.repository;
 
 import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.OrderEntity;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.lang.NonNull;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Spring Data JPA repository for OrderEntity.
@@ -16,6 +19,63 @@ import java.util.List;
 @Repository
 public interface JpaOrderEntityRepository extends JpaRepository<OrderEntity, String> {
 
+    /**
+     * Ids of orders in a lifecycle status created before a cutoff, oldest first.
+     * The literal status list matches the partial index predicate (V7), so the planner can
+     * use idx_orders_active_created_at regardless of the bound value: index-only scan.
+     */
+    String ACTIVE_ORDER_IDS_SQL = """
+        SELECT o.id FROM orders o
+        WHERE o.status IN ('RECEIVED', 'PROCESSING', 'FAILED')
+          AND o.status = :status
+          AND o.created_at < :createdBefore
+        ORDER BY o.created_at
+        LIMIT :limit
+        """;
+
+    /**
+     * Keyset page of a customer's order ids (idx_orders_customer_id_id): index-only scan.
+     */
+    String CUSTOMER_ORDER_IDS_SQL = """
+        SELECT o.id FROM orders o
+        WHERE o.customer_id = :customerId
+          AND o.id > :afterId
+        ORDER BY o.id
+        LIMIT :limit
+        """;
+
+    /**
+     * Ids of orders containing an item (idx_order_items_item_id_order_id): index-only scan.
+     */
+    String ITEM_ORDER_IDS_SQL = """
+        SELECT DISTINCT oi.order_id FROM order_items oi
+        WHERE oi.item_id = :itemId
+        LIMIT :limit
+        """;
+
+    /**
+     * Keyset page of FAILED order ids in an id range (ULID = creation time). The range is on the
+     * partition key, so only the partitions of the requested months are scanned, in PK order.
+     */
+    String FAILED_ORDER_IDS_SQL = """
+        SELECT o.id FROM orders o
+        WHERE o.status = 'FAILED'
+          AND o.id >= :fromId
+          AND o.id < :toId
+          AND o.id > :afterId
+        ORDER BY o.id
+        LIMIT :limit
+        """;
+
+    /**
+     * Status and last update of a set of orders (idx_orders_id_status, V9): index-only scan,
+     * no items, address or geometry loaded.
+     */
+    String ORDER_STATUSES_SQL = """
+        SELECT o.id, o.status, o.updated_at FROM orders o
+        WHERE o.id = ANY(:ids)
+        """;
+
     /**
      * Check if an order exists by ID.
      */
@@ -49,6 +109,44 @@ public interface JpaOrderEntityRepository extends JpaRepository<OrderEntity, Str
     @Query("SELECT o FROM OrderEntity o WHERE o.status = :status")
     List<OrderEntity> findByStatus(@Param("status") String status);
 
+    /**
+     * Find orders by status created at or after the given ULID lower bound.
+     * The id predicate is the partition key, so only recent partitions are scanned.
+     */
+    @Query("SELECT o FROM OrderEntity o WHERE o.status = :status AND o.id >= :minId")
+    List<OrderEntity> findByStatusFromId(@Param("status") OrderStatus status, @Param("minId") String minId);
+
+    @Query(value = ACTIVE_ORDER_IDS_SQL, nativeQuery = true)
+    List<UUID> findActiveOrderIds(
+            @Param("status") String status,
+            @Param("createdBefore") Instant createdBefore,
+            @Param("limit") int limit
+    );
+
+    @Query(value = CUSTOMER_ORDER_IDS_SQL, nativeQuery = true)
+    List<UUID> findCustomerOrderIds(
+            @Param("customerId") String customerId,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = ITEM_ORDER_IDS_SQL, nativeQuery = true)
+    List<UUID> findOrderIdsByItemId(
+            @Param("itemId") String itemId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = ORDER_STATUSES_SQL, nativeQuery = true)
+    List<Object[]> findOrderStatuses(@Param("ids") UUID[] ids);
+
+    @Query(value = FAILED_ORDER_IDS_SQL, nativeQuery = true)
+    List<UUID> findFailedOrderIds(
+            @Param("fromId") UUID fromId,
+            @Param("toId") UUID toId,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
+
     /**
      * Retorna códigos de CDs e distâncias (em km) para um conjunto de códigos dado,
      * calculadas a partir de um ponto (latitude/longitude) usando PostGIS, ordenadas do mais próximo ao mais distante.
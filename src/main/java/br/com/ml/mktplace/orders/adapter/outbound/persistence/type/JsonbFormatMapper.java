@@ -0,0 +1,38 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence.type;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.format.FormatMapper;
+import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
+
+/**
+ * Hibernate JSON format mapper ({@code hibernate.type.json_format_mapper}) backed by a single,
+ * pre-configured ObjectMapper. JSONB columns are read/written directly as typed records;
+ * no intermediate JsonNode trees.
+ */
+public class JsonbFormatMapper implements FormatMapper {
+    
+    /**
+     * Shared mapper for persistence documents; also used for native-query JSON columns.
+     */
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    
+    private final FormatMapper delegate = new JacksonJsonFormatMapper(OBJECT_MAPPER);
+    
+    @Override
+    public <T> T fromString(CharSequence charSequence, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+        return delegate.fromString(charSequence, javaType, wrapperOptions);
+    }
+    
+    @Override
+    public <T> String toString(T value, JavaType<T> javaType, WrapperOptions wrapperOptions) {
+        return delegate.toString(value, javaType, wrapperOptions);
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence.type;
+
+import br.com.ml.mktplace.orders.domain.model.MonotonicUlid;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hibernate type that stores a ULID (Crockford Base32, 26 chars) as a native PostgreSQL {@code uuid}.
+ *
+ * The entity attribute stays a String, so domain and REST keep the ULID text while the
+ * database uses 16-byte keys (smaller B-tree indexes, cheaper FK joins). Both are 128-bit
+ * values and the conversion is lossless and order-preserving.
+ */
+public class UlidUuidType implements UserType<String> {
+    
+    private static final byte[] DECODE = new byte[128];
+    
+    static {
+        java.util.Arrays.fill(DECODE, (byte) -1);
+        String alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+    
+    /**
+     * @return true if the value is a canonical (uppercase) ULID that fits in 128 bits
+     */
+    public static boolean isConvertible(String ulid) {
+        if (ulid == null || ulid.length() != 26 || ulid.charAt(0) > '7') {
+            return false;
+        }
+        for (int i = 0; i < 26; i++) {
+            char c = ulid.charAt(i);
+            if (c >= DECODE.length || DECODE[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public static UUID toUuid(String ulid) {
+        if (!isConvertible(ulid)) {
+            throw new IllegalArgumentException("Invalid ULID: " + ulid);
+        }
+        long high = 0L;
+        long low = 0L;
+        for (int i = 0; i < 26; i++) {
+            high = (high << 5) | (low >>> 59);
+            low = (low << 5) | DECODE[ulid.charAt(i)];
+        }
+        return new UUID(high, low);
+    }
+    
+    public static String toUlid(UUID uuid) {
+        long high = uuid.getMostSignificantBits();
+        return MonotonicUlid.encode(high >>> 16, high & 0xFFFFL, uuid.getLeastSignificantBits());
+    }
+    
+    @Override
+    public int getSqlType() {
+        return SqlTypes.UUID;
+    }
+    
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+    
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+    
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+    
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        UUID uuid = rs.getObject(position, UUID.class);
+        return uuid == null ? null : toUlid(uuid);
+    }
+    
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (value == null) {
+            st.setNull(index, java.sql.Types.OTHER);
+        } else {
+            st.setObject(index, toUuid(value));
+        }
+    }
+    
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+    
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+    
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+    
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+}
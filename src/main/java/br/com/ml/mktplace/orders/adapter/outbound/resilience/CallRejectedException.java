@@ -0,0 +1,28 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+/**
+ * Raised (and passed to fallbacks) when a call is short-circuited before reaching the dependency.
+ */
+public class CallRejectedException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN, LIMIT_EXCEEDED
+    }
+
+    private final String dependency;
+    private final Reason reason;
+
+    public CallRejectedException(String dependency, Reason reason) {
+        super("Call to [" + dependency + "] rejected: " + reason, null, false, false);
+        this.dependency = dependency;
+        this.reason = reason;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
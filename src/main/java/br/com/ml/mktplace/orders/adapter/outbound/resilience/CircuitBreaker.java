@@ -0,0 +1,139 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker (ADR-011).
+ *
+ * CLOSED: outcomes of the last {@code windowSize} calls are kept in a ring buffer; once the
+ * window is full and the failure rate reaches the threshold the circuit OPENs.
+ * OPEN: every call is rejected until {@code openDurationNanos} has elapsed.
+ * HALF_OPEN: up to {@code halfOpenPermittedCalls} trial calls are let through; all must
+ * succeed to close the circuit, any failure re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+
+        public int gaugeValue() {
+            return gaugeValue;
+        }
+    }
+
+    private final int failureRateThreshold;
+    private final boolean[] window;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAt;
+    private int halfOpenStarted;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int failureRateThreshold, int windowSize, long openDurationNanos, int halfOpenPermittedCalls) {
+        this(failureRateThreshold, windowSize, openDurationNanos, halfOpenPermittedCalls, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureRateThreshold, int windowSize, long openDurationNanos, int halfOpenPermittedCalls, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if a call is permitted; callers that get true must report the outcome via {@link #onResult}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenStarted >= halfOpenPermittedCalls) {
+                return false;
+            }
+            halfOpenStarted++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a permission obtained via {@link #tryAcquirePermission} that ended up not being used
+     * (call rejected by a later stage), so half-open trial slots are not leaked.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenStarted > 0) {
+            halfOpenStarted--;
+        }
+    }
+
+    public synchronized void onResult(boolean success) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (!success) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSucceeded >= halfOpenPermittedCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                if (windowCount == window.length) {
+                    if (window[windowIndex]) windowFailures--;
+                } else {
+                    windowCount++;
+                }
+                window[windowIndex] = !success;
+                if (!success) windowFailures++;
+                windowIndex = (windowIndex + 1) % window.length;
+                if (windowCount == window.length && windowFailures * 100 >= failureRateThreshold * window.length) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            default -> {
+                // Result from a call started before the circuit opened; ignore.
+            }
+        }
+    }
+
+    private void transitionTo(State target) {
+        state = target;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        halfOpenStarted = 0;
+        halfOpenSucceeded = 0;
+        java.util.Arrays.fill(window, false);
+        if (target == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Failure rate (0..100) over the current CLOSED window, or -1 while the window is not full.
+     */
+    public synchronized double getFailureRate() {
+        if (state != State.CLOSED || windowCount < window.length) {
+            return -1;
+        }
+        return windowFailures * 100.0 / window.length;
+    }
+}
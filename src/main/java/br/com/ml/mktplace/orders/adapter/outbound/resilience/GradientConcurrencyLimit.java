@@ -0,0 +1,100 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit based on the gradient between a long-term RTT baseline
+ * and the most recent RTT sample (same idea as Netflix concurrency-limits Gradient2).
+ *
+ * When the dependency slows down the gradient drops below 1 and the limit shrinks, so
+ * fewer callers pile up waiting on it; when latency recovers the limit grows again by
+ * roughly sqrt(limit) per sample. Dropped calls (errors/timeouts) apply a multiplicative decrease.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * Tries to reserve a slot under the current limit.
+     * @return true if the caller may proceed (and must later call {@link #release})
+     */
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and feeds the observed round-trip time into the limit estimation.
+     *
+     * @param rttNanos duration of the call
+     * @param dropped whether the call failed (error/timeout) and should trigger a backoff
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inflightAtStart = inflight.getAndDecrement();
+        onSample(rttNanos, inflightAtStart, dropped);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart, boolean dropped) {
+        double limit = estimatedLimit;
+        if (dropped) {
+            estimatedLimit = clamp(limit * BACKOFF_RATIO);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * (2.0 / (LONG_WINDOW + 1));
+        }
+
+        // App-limited: not enough load to learn anything about the upper bound.
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueSize;
+        estimatedLimit = clamp(limit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+}
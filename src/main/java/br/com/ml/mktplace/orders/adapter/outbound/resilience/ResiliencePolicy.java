@@ -0,0 +1,71 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+import java.time.Duration;
+
+/**
+ * Parâmetros de resiliência por dependência externa.
+ *
+ * Defaults do circuit breaker seguem o ADR-011 (50% de falhas em 10 chamadas,
+ * 30s aberto, 3 chamadas de teste em half-open).
+ *
+ * @param maxConcurrentCalls teto de chamadas simultâneas (o limite adaptativo nunca passa disso)
+ * @param initialLimit limite adaptativo inicial
+ * @param minLimit limite adaptativo mínimo
+ * @param rttTolerance tolerância do gradiente (latência curta pode ser até N x a longa sem reduzir o limite)
+ * @param smoothing fator de suavização aplicado a cada novo limite (0..1)
+ * @param failureRateThreshold percentual de falhas (0..100) que abre o circuito
+ * @param slidingWindowSize número de chamadas avaliadas pelo circuit breaker
+ * @param openStateDuration tempo em que o circuito permanece aberto
+ * @param halfOpenPermittedCalls chamadas de teste permitidas em half-open
+ * @param slowCallThreshold chamadas mais lentas que isso contam como falha para o circuit breaker
+ */
+public record ResiliencePolicy(
+        int maxConcurrentCalls,
+        int initialLimit,
+        int minLimit,
+        double rttTolerance,
+        double smoothing,
+        int failureRateThreshold,
+        int slidingWindowSize,
+        Duration openStateDuration,
+        int halfOpenPermittedCalls,
+        Duration slowCallThreshold
+) {
+
+    public ResiliencePolicy {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+        }
+        if (minLimit <= 0 || minLimit > maxConcurrentCalls) {
+            throw new IllegalArgumentException("minLimit must be between 1 and maxConcurrentCalls");
+        }
+        if (initialLimit < minLimit || initialLimit > maxConcurrentCalls) {
+            throw new IllegalArgumentException("initialLimit must be between minLimit and maxConcurrentCalls");
+        }
+        if (rttTolerance < 1.0) {
+            throw new IllegalArgumentException("rttTolerance must be >= 1.0");
+        }
+        if (smoothing <= 0.0 || smoothing > 1.0) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 100]");
+        }
+        if (slidingWindowSize <= 0 || halfOpenPermittedCalls <= 0) {
+            throw new IllegalArgumentException("slidingWindowSize and halfOpenPermittedCalls must be positive");
+        }
+        if (openStateDuration == null || openStateDuration.isNegative()) {
+            throw new IllegalArgumentException("openStateDuration must be non-negative");
+        }
+        if (slowCallThreshold == null || slowCallThreshold.isNegative() || slowCallThreshold.isZero()) {
+            throw new IllegalArgumentException("slowCallThreshold must be positive");
+        }
+    }
+
+    /**
+     * Política padrão (ADR-011) usada quando nenhuma configuração é fornecida.
+     */
+    public static ResiliencePolicy defaults() {
+        return new ResiliencePolicy(20, 10, 1, 2.0, 0.2, 50, 10, Duration.ofSeconds(30), 3, Duration.ofSeconds(5));
+    }
+}
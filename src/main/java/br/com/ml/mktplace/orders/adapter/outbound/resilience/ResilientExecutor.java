@@ -0,0 +1,125 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resilience wrapper for a single external dependency.
+ *
+ * Each call goes through, in order: circuit breaker -> adaptive concurrency limit. The limit
+ * never exceeds {@link ResiliencePolicy#maxConcurrentCalls()}, so it also acts as the per-dependency
+ * bulkhead (a separate semaphore with the same ceiling could never trip first). Any rejection fails fast into the fallback without
+ * touching the dependency, so a slow dependency cannot hold request threads (and the
+ * DB connections they own) hostage.
+ *
+ * Registered as a {@link MeterBinder}; state is exported under {@code resilience.*}
+ * tagged by {@code dependency}.
+ */
+public class ResilientExecutor implements MeterBinder {
+
+    private final String dependency;
+    private final CircuitBreaker circuitBreaker;
+    private final GradientConcurrencyLimit limit;
+    private final long slowCallThresholdNanos;
+    private final Map<CallRejectedException.Reason, Counter> rejectedCounters = new EnumMap<>(CallRejectedException.Reason.class);
+
+    public ResilientExecutor(String dependency, ResiliencePolicy policy) {
+        this.dependency = dependency;
+        this.circuitBreaker = new CircuitBreaker(
+                policy.failureRateThreshold(),
+                policy.slidingWindowSize(),
+                policy.openStateDuration().toNanos(),
+                policy.halfOpenPermittedCalls());
+        this.limit = new GradientConcurrencyLimit(
+                policy.initialLimit(),
+                policy.minLimit(),
+                policy.maxConcurrentCalls(),
+                policy.rttTolerance(),
+                policy.smoothing());
+        this.slowCallThresholdNanos = policy.slowCallThreshold().toNanos();
+    }
+
+    /**
+     * Executes the call under the resilience policy.
+     *
+     * @param call the protected call; any exception it throws counts as a failure
+     * @param fallback invoked with the rejection or failure cause; may rethrow
+     */
+    public <T> T execute(Supplier<T> call, Function<Throwable, T> fallback) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return reject(CallRejectedException.Reason.CIRCUIT_OPEN, fallback);
+        }
+        if (!limit.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            return reject(CallRejectedException.Reason.LIMIT_EXCEEDED, fallback);
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } catch (RuntimeException e) {
+            return fallback.apply(e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            limit.release(elapsed, failed);
+            circuitBreaker.onResult(!failed && elapsed < slowCallThresholdNanos);
+        }
+    }
+
+    private <T> T reject(CallRejectedException.Reason reason, Function<Throwable, T> fallback) {
+        Counter counter = rejectedCounters.get(reason);
+        if (counter != null) {
+            counter.increment();
+        }
+        return fallback.apply(new CallRejectedException(dependency, reason));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("resilience.concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+                .description("Limite adaptativo de concorrência atual")
+                .tag("dependency", dependency)
+                .register(registry);
+        Gauge.builder("resilience.concurrency.inflight", limit, GradientConcurrencyLimit::getInflight)
+                .description("Chamadas em andamento para a dependência")
+                .tag("dependency", dependency)
+                .register(registry);
+        Gauge.builder("resilience.circuit.state", circuitBreaker, cb -> cb.getState().gaugeValue())
+                .description("Estado do circuit breaker (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .tag("dependency", dependency)
+                .register(registry);
+        Gauge.builder("resilience.circuit.failure.rate", circuitBreaker, CircuitBreaker::getFailureRate)
+                .description("Taxa de falhas (%) na janela do circuit breaker; -1 enquanto a janela não está cheia")
+                .tag("dependency", dependency)
+                .register(registry);
+        for (CallRejectedException.Reason reason : CallRejectedException.Reason.values()) {
+            rejectedCounters.put(reason, Counter.builder("resilience.calls.rejected")
+                    .description("Chamadas rejeitadas sem atingir a dependência")
+                    .tag("dependency", dependency)
+                    .tag("reason", reason.name())
+                    .register(registry));
+        }
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getConcurrencyLimit() {
+        return limit.getLimit();
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+/**
+ * Codificação geohash (base32) de um ponto.
+ *
+ * Precisão 6 ~ célula de 1,2 km x 0,6 km: pontos de entrega de um mesmo bairro caem na mesma
+ * célula, o que permite materializar resultados por região (ex.: ranking de CDs por proximidade).
+ */
+public final class Geohash {
+    
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    public static final int MAX_PRECISION = 12;
+    
+    private Geohash() {
+    }
+    
+    /**
+     * @param precision número de caracteres (1..12)
+     * @throws IllegalArgumentException se as coordenadas ou a precisão forem inválidas
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between 1 and " + MAX_PRECISION);
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + "," + longitude);
+        }
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        for (int i = 0; i < precision; i++) {
+            int index = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                index <<= 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (longitude >= mid) {
+                        index |= 1;
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        index |= 1;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+            hash[i] = BASE32[index];
+        }
+        return new String(hash);
+    }
+}
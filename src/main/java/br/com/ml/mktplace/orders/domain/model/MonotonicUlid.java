@@ -0,0 +1,134 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de ULID monotônico e lock-free.
+ *
+ * - 48 bits de timestamp (ms) + 80 bits aleatórios, codificados direto em char[] (Crockford Base32)
+ * - Dentro do mesmo milissegundo o componente aleatório é incrementado, garantindo ordenação
+ *   estrita (inclusive se o relógio regredir, o último timestamp emitido é mantido)
+ * - Entropia por thread ({@link ThreadLocalRandom}): não há SecureRandom compartilhado
+ * - O estado é trocado via CAS; lotes reservam uma faixa contígua com um único CAS e usam o
+ *   timestamp real (nenhum milissegundo é inventado)
+ *
+ * Usado tanto pelo construtor de {@link Order} quanto pelo adapter de IDGenerator.
+ */
+public final class MonotonicUlid {
+    
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+    private static final long MAX_RANDOM_HIGH = 0xFFFFL;
+    private static final long LOWER_40_BITS = (1L << 40) - 1;
+    
+    private static final MonotonicUlid SHARED = new MonotonicUlid(System::currentTimeMillis);
+    
+    private record State(long millis, long randomHigh, long randomLow) {}
+    
+    private final AtomicReference<State> last = new AtomicReference<>(new State(-1L, 0L, 0L));
+    private final LongSupplier clock;
+    
+    MonotonicUlid(LongSupplier clock) {
+        this.clock = clock;
+    }
+    
+    /**
+     * Instância compartilhada pela aplicação (monotonicidade vale entre todos os chamadores)
+     */
+    public static MonotonicUlid shared() {
+        return SHARED;
+    }
+    
+    /**
+     * Próximo ULID da instância compartilhada
+     */
+    public static String nextUlid() {
+        return SHARED.next();
+    }
+    
+    public String next() {
+        State state = reserve(1);
+        return encode(state.millis(), state.randomHigh(), state.randomLow());
+    }
+    
+    /**
+     * Reserva {@code count} ULIDs consecutivos (mesmo timestamp, aleatório incrementado)
+     *
+     * @throws IllegalArgumentException se count for menor ou igual a zero
+     */
+    public String[] next(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be greater than zero");
+        }
+        State first = reserve(count);
+        String[] ids = new String[count];
+        long high = first.randomHigh();
+        long low = first.randomLow();
+        for (int i = 0; i < count; i++) {
+            ids[i] = encode(first.millis(), high, low);
+            if (++low == 0L) {
+                high++;
+            }
+        }
+        return ids;
+    }
+    
+    private State reserve(int count) {
+        while (true) {
+            State previous = last.get();
+            long now = clock.getAsLong();
+            if (now < 0 || now > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Timestamp out of ULID range: " + now);
+            }
+            State first;
+            if (now > previous.millis()) {
+                // Novo milissegundo: semente aleatória com o bit mais alto zerado (2^79 de folga para incrementos)
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                first = new State(now, random.nextLong() & (MAX_RANDOM_HIGH >>> 1), random.nextLong());
+            } else {
+                first = increment(previous, 1);
+            }
+            State end = count == 1 ? first : increment(first, count - 1);
+            if (last.compareAndSet(previous, end)) {
+                return first;
+            }
+        }
+    }
+    
+    private static State increment(State state, long delta) {
+        long low = state.randomLow() + delta;
+        long high = state.randomHigh();
+        if (Long.compareUnsigned(low, state.randomLow()) < 0) {
+            high++;
+        }
+        if (high > MAX_RANDOM_HIGH) {
+            throw new IllegalStateException("ULID random component exhausted for millisecond " + state.millis());
+        }
+        return new State(state.millis(), high, low);
+    }
+    
+    /**
+     * Codifica timestamp (48 bits) + aleatório (16 bits altos, 64 bits baixos) em 26 caracteres
+     */
+    public static String encode(long millis, long randomHigh, long randomLow) {
+        char[] chars = new char[26];
+        long value = millis;
+        for (int i = 9; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        value = (randomHigh << 24) | (randomLow >>> 40);
+        for (int i = 17; i >= 10; i--) {
+            chars[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        value = randomLow & LOWER_40_BITS;
+        for (int i = 25; i >= 18; i--) {
+            chars[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -1,6 +1,5 @@
 package br.com.ml.mktplace.orders.domain.model;
 
-import com.github.f4b6a3.ulid.UlidCreator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -44,7 +43,7 @@ public class Order {
      * Construtor para criar um novo pedido
      */
     public Order(String customerId, List<OrderItem> items, Address deliveryAddress) {
-        this.id = UlidCreator.getUlid().toString();
+        this.id = MonotonicUlid.nextUlid();
         this.customerId = Objects.requireNonNull(customerId, "Customer ID cannot be null");
         this.items = validateAndCopyItems(items);
         this.deliveryAddress = Objects.requireNonNull(deliveryAddress, "Delivery address cannot be null");
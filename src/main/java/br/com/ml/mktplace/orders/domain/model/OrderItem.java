@@ -68,8 +68,11 @@ public class OrderItem {
         return assignedDistributionCenter;
     }
 
+    /**
+     * Lista imutável (copiada em {@link #setAvailableDistributionCenters}); não precisa de nova cópia por leitura.
+     */
     public java.util.List<NearbyDistributionCenter> getAvailableDistributionCenters() {
-        return availableDistributionCenters == null ? java.util.List.of() : java.util.List.copyOf(availableDistributionCenters);
+        return availableDistributionCenters == null ? java.util.List.of() : availableDistributionCenters;
     }
     
     @Override
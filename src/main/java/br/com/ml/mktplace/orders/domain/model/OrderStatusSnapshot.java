@@ -0,0 +1,22 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Visão compacta do estado de um pedido (sem itens nem endereço), para consultas de status.
+ *
+ * @param orderId identificador do pedido
+ * @param status status atual
+ * @param updatedAt instante da última alteração persistida
+ */
+public record OrderStatusSnapshot(String orderId, OrderStatus status, Instant updatedAt) {
+
+    public OrderStatusSnapshot {
+        if (orderId == null || orderId.isBlank()) {
+            throw new IllegalArgumentException("Order ID cannot be null or empty");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Registro de latência de um processamento de pedido, quebrado por estágio.
+ * Estágios executados por item (disponibilidade, catálogo, ranking, seleção) são acumulados.
+ * Usado por uma única thread durante o processamento; após {@link #finish} é somente leitura.
+ * Cada execução de estágio também é repassada ao {@link ProcessingObserver} informado (ex.: eventos JFR).
+ */
+public class ProcessingTrace {
+
+    public enum Stage {
+        GEOCODING, AVAILABILITY, DC_CATALOG, RANKING, SELECTION, SAVE, PUBLISH
+    }
+
+    public enum Outcome {
+        SUCCESS, ERROR
+    }
+
+    private final String orderId;
+    private final ProcessingObserver observer;
+    private final Instant startedAt;
+    private final long startNanos;
+    private final Map<Stage, Long> stageNanos = new EnumMap<>(Stage.class);
+    private final Map<Stage, Outcome> stageOutcomes = new EnumMap<>(Stage.class);
+    private long totalNanos = -1;
+    private OrderStatus finalStatus;
+
+    public ProcessingTrace(String orderId) {
+        this(orderId, ProcessingObserver.NONE);
+    }
+
+    public ProcessingTrace(String orderId, ProcessingObserver observer) {
+        this.orderId = Objects.requireNonNull(orderId, "Order ID cannot be null");
+        this.observer = Objects.requireNonNull(observer, "Observer cannot be null");
+        this.startedAt = Instant.now();
+        this.startNanos = System.nanoTime();
+    }
+
+    public <T> T time(Stage stage, Supplier<T> call) {
+        ProcessingObserver.StageScope scope = observer.stageStarted(orderId, stage);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            Outcome outcome = success ? Outcome.SUCCESS : Outcome.ERROR;
+            record(stage, System.nanoTime() - start, outcome);
+            scope.completed(outcome);
+        }
+    }
+
+    public void time(Stage stage, Runnable call) {
+        time(stage, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public void record(Stage stage, long nanos, Outcome outcome) {
+        stageNanos.merge(stage, nanos, Long::sum);
+        // Um erro em qualquer execução do estágio marca o estágio como ERROR
+        stageOutcomes.merge(stage, outcome, (previous, current) -> previous == Outcome.ERROR ? previous : current);
+    }
+
+    public void finish(OrderStatus finalStatus) {
+        if (totalNanos < 0) {
+            this.totalNanos = System.nanoTime() - startNanos;
+            this.finalStatus = finalStatus;
+        }
+    }
+
+    public boolean isFinished() {
+        return totalNanos >= 0;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public OrderStatus getFinalStatus() {
+        return finalStatus;
+    }
+
+    public Map<Stage, Long> getStageNanos() {
+        return Collections.unmodifiableMap(stageNanos);
+    }
+
+    public Map<Stage, Outcome> getStageOutcomes() {
+        return Collections.unmodifiableMap(stageOutcomes);
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job de reprocessamento em massa de pedidos FAILED.
+ * Contadores são atualizados concorrentemente pelos workers; leituras são snapshots.
+ */
+public class ReprocessJob {
+    
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+    
+    private final String id;
+    private final Instant createdFrom;
+    private final Instant createdTo;
+    private final Instant startedAt;
+    private final AtomicLong matched = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+    
+    public ReprocessJob(Instant createdFrom, Instant createdTo) {
+        this.id = MonotonicUlid.nextUlid();
+        this.createdFrom = Objects.requireNonNull(createdFrom, "Range start cannot be null");
+        this.createdTo = Objects.requireNonNull(createdTo, "Range end cannot be null");
+        if (!createdFrom.isBefore(createdTo)) {
+            throw new IllegalArgumentException("Range start must be before range end");
+        }
+        this.startedAt = Instant.now();
+    }
+    
+    public void recordMatched(int count) {
+        matched.addAndGet(count);
+    }
+    
+    public void recordSuccess() {
+        succeeded.incrementAndGet();
+    }
+    
+    public void recordFailure() {
+        failed.incrementAndGet();
+    }
+    
+    public void complete() {
+        finish(Status.COMPLETED, null);
+    }
+    
+    public void fail(String error) {
+        finish(Status.FAILED, error);
+    }
+    
+    private void finish(Status finalStatus, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = finalStatus;
+    }
+    
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+    
+    // Getters
+    public String getId() {
+        return id;
+    }
+    
+    public Instant getCreatedFrom() {
+        return createdFrom;
+    }
+    
+    public Instant getCreatedTo() {
+        return createdTo;
+    }
+    
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+    
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public String getError() {
+        return error;
+    }
+    
+    public long getMatched() {
+        return matched.get();
+    }
+    
+    public long getSucceeded() {
+        return succeeded.get();
+    }
+    
+    public long getFailed() {
+        return failed.get();
+    }
+    
+    /**
+     * Pedidos já reprocessados (com sucesso ou não)
+     */
+    public long getCompleted() {
+        return succeeded.get() + failed.get();
+    }
+}
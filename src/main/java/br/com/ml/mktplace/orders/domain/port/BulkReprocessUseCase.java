@@ -0,0 +1,33 @@
+package br.com.ml.mktplace.orders.domain.port;
+
+import br.com.ml.mktplace.orders.domain.model.ReprocessJob;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Porta de entrada para reprocessamento em massa de pedidos FAILED
+ * (ex.: replay após indisponibilidade do geocoding ou do serviço de CDs)
+ */
+public interface BulkReprocessUseCase {
+    
+    /**
+     * Inicia, em background, o reprocessamento dos pedidos FAILED criados no intervalo
+     * [createdFrom, createdTo). Os IDs são lidos em páginas (keyset) e reprocessados com
+     * concorrência e vazão limitadas.
+     * 
+     * @param createdFrom início do intervalo (inclusivo); null = desde o primeiro pedido
+     * @param createdTo fim do intervalo (exclusivo); null = instante atual
+     * @return o job iniciado, para acompanhamento do progresso
+     * @throws IllegalArgumentException se o intervalo for inválido
+     */
+    ReprocessJob startReprocess(Instant createdFrom, Instant createdTo);
+    
+    /**
+     * Busca um job de reprocessamento pelo seu identificador
+     * 
+     * @param jobId o ID do job
+     * @return Optional contendo o job se encontrado
+     */
+    Optional<ReprocessJob> findJob(String jobId);
+}
@@ -1,10 +1,16 @@
 package br.com.ml.mktplace.orders.domain.port;
 
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
+
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * Porta de saída para operações de cache
+ * Porta de saída para operações de cache.
+ *
+ * As operações por item/ranking deixam o formato das chaves (prefixos, versão, hash tags do Redis
+ * Cluster) com o adapter; o domínio informa apenas os identificadores.
  */
 public interface CacheService {
     
@@ -66,4 +72,44 @@ public interface CacheService {
      * @throws IllegalArgumentException se key for null ou vazia
      */
     boolean exists(String key);
+
+    /**
+     * Códigos dos CDs com o item disponível, conforme cacheados
+     * 
+     * @param itemId o ID do item
+     * @return Optional contendo os códigos se encontrados no cache
+     * @throws IllegalArgumentException se itemId for null ou vazio
+     */
+    Optional<List<String>> getItemAvailability(String itemId);
+    
+    /**
+     * Armazena os códigos dos CDs com o item disponível
+     * 
+     * @param itemId o ID do item
+     * @param distributionCenterCodes códigos dos CDs
+     * @param ttl tempo de vida do cache
+     * @throws IllegalArgumentException se itemId for null ou vazio, ou ttl for negativo
+     */
+    void putItemAvailability(String itemId, List<String> distributionCenterCodes, Duration ttl);
+    
+    /**
+     * Ranking de CDs por proximidade materializado para um conjunto de disponibilidade e uma célula geográfica
+     * 
+     * @param availabilityVersion versão do conjunto de CDs disponíveis
+     * @param cell célula geográfica do ponto de entrega (ex: geohash)
+     * @return Optional contendo o ranking, na ordem armazenada, se encontrado no cache
+     * @throws IllegalArgumentException se availabilityVersion ou cell forem null ou vazios
+     */
+    Optional<List<NearbyDistributionCenter>> getDistributionCenterRanking(String availabilityVersion, String cell);
+    
+    /**
+     * Armazena o ranking de CDs por proximidade de um conjunto de disponibilidade e uma célula geográfica
+     * 
+     * @param availabilityVersion versão do conjunto de CDs disponíveis
+     * @param cell célula geográfica do ponto de entrega (ex: geohash)
+     * @param ranking CDs ordenados por distância
+     * @param ttl tempo de vida do cache
+     * @throws IllegalArgumentException se availabilityVersion ou cell forem null ou vazios, ou ttl for negativo
+     */
+    void putDistributionCenterRanking(String availabilityVersion, String cell, List<NearbyDistributionCenter> ranking, Duration ttl);
 }
\ No newline at end of file
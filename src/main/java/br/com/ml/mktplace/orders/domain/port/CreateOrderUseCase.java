@@ -22,6 +22,17 @@ public interface CreateOrderUseCase {
      */
     Order createOrder(String customerId, List<OrderItem> items, Address deliveryAddress);
     
+    /**
+     * Cria vários pedidos em lote.
+     * Cada comando é validado de forma independente: comandos inválidos são rejeitados
+     * sem impedir a criação dos demais (falha parcial).
+     * 
+     * @param commands comandos de criação (ao menos um)
+     * @return um resultado por comando, na mesma ordem da entrada
+     * @throws IllegalArgumentException se a lista for null ou vazia
+     */
+    List<CreateOrderResult> createOrders(List<CreateOrderCommand> commands);
+    
     /**
      * Dados de entrada para criação de pedido
      */
@@ -42,4 +53,24 @@ public interface CreateOrderUseCase {
             }
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Resultado da criação de um pedido dentro de um lote
+     */
+    record CreateOrderResult(
+        Order order,
+        String error
+    ) {
+        public static CreateOrderResult created(Order order) {
+            return new CreateOrderResult(order, null);
+        }
+        
+        public static CreateOrderResult rejected(String error) {
+            return new CreateOrderResult(null, error);
+        }
+        
+        public boolean isCreated() {
+            return order != null;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package br.com.ml.mktplace.orders.domain.port;
 
 import br.com.ml.mktplace.orders.domain.model.Order;
 
+import java.util.List;
+
 /**
  * Porta de saída para publicação de eventos de domínio
  */
@@ -42,6 +44,14 @@ public interface EventPublisher {
      */
     void publishOrderCreated(Order order);
     
+    /**
+     * Publica eventos de pedido criado para vários pedidos em um único lote do producer
+     * 
+     * @param orders os pedidos criados
+     * @throws IllegalArgumentException se orders for null
+     */
+    void publishOrdersCreated(List<Order> orders);
+    
     /**
      * Publica evento genérico de domínio
      * 
@@ -2,7 +2,11 @@ package br.com.ml.mktplace.orders.domain.port;
 
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderNotFoundException;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +24,15 @@ public interface OrderRepository {
      */
     Order save(Order order);
     
+    /**
+     * Insere novos pedidos em lote, em uma única ida ao banco por lote de INSERTs
+     * 
+     * @param orders pedidos novos a serem inseridos
+     * @return os pedidos salvos, na mesma ordem da entrada
+     * @throws IllegalArgumentException se a lista for null
+     */
+    List<Order> saveAll(List<Order> orders);
+    
     /**
      * Busca um pedido pelo seu identificador
      * 
@@ -55,4 +68,68 @@ public interface OrderRepository {
      */
     boolean existsById(String orderId);
     
+    /**
+     * IDs de pedidos em um status de ciclo de vida (RECEIVED, PROCESSING ou FAILED) criados antes do
+     * corte informado, do mais antigo para o mais novo
+     * 
+     * @param status status do pedido (PROCESSED não é aceito)
+     * @param createdBefore corte de criação (exclusivo)
+     * @param limit quantidade máxima de IDs
+     * @return IDs encontrados
+     * @throws IllegalArgumentException se o status for null ou PROCESSED, ou o corte for null
+     */
+    List<String> findActiveOrderIds(OrderStatus status, Instant createdBefore, int limit);
+    
+    /**
+     * Página de IDs de pedidos de um cliente, em ordem crescente de ID, para paginação por keyset
+     * 
+     * @param customerId o ID do cliente
+     * @param afterId último ID da página anterior, ou null na primeira página
+     * @param limit tamanho máximo da página
+     * @return IDs encontrados (vazio quando não há mais páginas)
+     * @throws IllegalArgumentException se o ID do cliente for null ou vazio
+     */
+    List<String> findCustomerOrderIds(String customerId, String afterId, int limit);
+    
+    /**
+     * IDs de pedidos que contêm o item informado
+     * 
+     * @param itemId o ID do item
+     * @param limit quantidade máxima de IDs
+     * @return IDs encontrados
+     * @throws IllegalArgumentException se o ID do item for null ou vazio
+     */
+    List<String> findOrderIdsByItemId(String itemId, int limit);
+    
+    /**
+     * Página de IDs de pedidos FAILED criados no intervalo [createdFrom, createdTo), em ordem
+     * crescente de ID (ULID = ordem de criação), para paginação por keyset
+     * 
+     * @param createdFrom início do intervalo (inclusivo)
+     * @param createdTo fim do intervalo (exclusivo)
+     * @param afterId último ID da página anterior, ou null na primeira página
+     * @param limit tamanho máximo da página
+     * @return IDs encontrados (vazio quando não há mais páginas)
+     * @throws IllegalArgumentException se o intervalo ou o limite forem inválidos
+     */
+    List<String> findFailedOrderIds(Instant createdFrom, Instant createdTo, String afterId, int limit);
+    
+    /**
+     * Status e última alteração dos pedidos informados, sem carregar itens nem endereço
+     * 
+     * @param orderIds IDs dos pedidos
+     * @return um snapshot por pedido encontrado (IDs inexistentes são omitidos; ordem não garantida)
+     */
+    List<OrderStatusSnapshot> findStatuses(Collection<String> orderIds);
+    
+    /**
+     * Reivindica até {@code limit} pedidos presos em PROCESSING (lease expirado) para quem chama,
+     * renovando o lease. Confirma numa transação própria, então pods concorrentes recebem
+     * conjuntos disjuntos antes do reprocessamento
+     * 
+     * @param limit tamanho máximo do lote
+     * @return IDs dos pedidos reivindicados
+     */
+    List<String> claimStuckOrders(int limit);
+    
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package br.com.ml.mktplace.orders.domain.port;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Porta para sinalizar mudanças de status de pedidos a quem está aguardando
+ * (long-polling e SSE), inclusive em outras instâncias do serviço.
+ */
+public interface OrderStatusNotifier {
+
+    /**
+     * Sinaliza que o pedido passou para {@code status}. Dentro de uma transação, a notificação
+     * só é entregue após o commit, para que quem for notificado já leia o novo estado.
+     */
+    void statusChanged(String orderId, OrderStatus status);
+
+    /**
+     * Registra um listener para as mudanças de status de um pedido. O listener é chamado fora
+     * da thread que fez a mudança e deve ser removido com {@link Subscription#close()}.
+     */
+    Subscription subscribe(String orderId, Consumer<OrderStatus> listener);
+
+    /**
+     * Registra um listener para as mudanças de todos os pedidos (ex.: invalidação de caches).
+     * Chamado na própria thread da notificação: deve ser barato e não bloquear.
+     */
+    Subscription subscribeAll(BiConsumer<String, OrderStatus> listener);
+
+    interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
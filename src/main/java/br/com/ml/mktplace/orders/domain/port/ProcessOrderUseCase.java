@@ -34,6 +34,18 @@ public interface ProcessOrderUseCase {
      */
     Order reprocessOrder(String orderId);
     
+    /**
+     * Retoma um pedido que ficou preso em PROCESSING (lease expirado, ex.: pod encerrado no meio
+     * do processamento). Pedidos que já saíram de PROCESSING são retornados sem efeitos colaterais.
+     * 
+     * @param orderId identificador do pedido reivindicado pelo sweeper
+     * @return o pedido processado (ou o estado atual, se não estava mais em PROCESSING)
+     * @throws OrderNotFoundException se o pedido não for encontrado
+     * @throws IllegalArgumentException se orderId for null ou vazio
+     * @throws ProcessOrderException se houver falha no processamento
+     */
+    Order recoverStuckOrder(String orderId);
+    
     /**
      * Resultado do processamento de pedido
      */
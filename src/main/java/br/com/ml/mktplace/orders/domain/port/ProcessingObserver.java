@@ -0,0 +1,51 @@
+package br.com.ml.mktplace.orders.domain.port;
+
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+
+/**
+ * Porta para observar execuções do processamento de pedidos (ex.: eventos JFR) sem que o domínio
+ * dependa da tecnologia de observabilidade. Cada início devolve um escopo que deve ser concluído
+ * na mesma thread, ao fim da execução.
+ */
+public interface ProcessingObserver {
+
+    /**
+     * Observador que não registra nada (testes e ambientes sem observabilidade)
+     */
+    ProcessingObserver NONE = new ProcessingObserver() {
+
+        @Override
+        public StageScope stageStarted(String orderId, ProcessingTrace.Stage stage) {
+            return outcome -> { };
+        }
+
+        @Override
+        public RankingScope rankingStarted() {
+            return (candidates, source) -> { };
+        }
+    };
+
+    /**
+     * Início de uma execução de estágio (estágios por item se repetem no mesmo pedido)
+     */
+    StageScope stageStarted(String orderId, ProcessingTrace.Stage stage);
+
+    /**
+     * Início da ordenação por distância dos CDs candidatos de um item
+     */
+    RankingScope rankingStarted();
+
+    interface StageScope {
+
+        void completed(ProcessingTrace.Outcome outcome);
+    }
+
+    interface RankingScope {
+
+        /**
+         * @param candidates quantidade de CDs ordenados
+         * @param source origem do ranking: cache, postgis ou haversine
+         */
+        void completed(int candidates, String source);
+    }
+}
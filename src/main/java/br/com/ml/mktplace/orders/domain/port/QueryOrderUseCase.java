@@ -3,6 +3,7 @@ package br.com.ml.mktplace.orders.domain.port;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderNotFoundException;
 import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
 
 import java.util.List;
 import java.util.Optional;
@@ -57,6 +58,31 @@ public interface QueryOrderUseCase {
      */
     boolean orderExists(String orderId);
     
+    /**
+     * Máximo de IDs por consulta de status em lote
+     */
+    int MAX_STATUS_BATCH = 1000;
+    
+    /**
+     * Busca apenas o status de um pedido (consulta compacta, sem itens)
+     * 
+     * @param orderId identificador do pedido
+     * @return status e última alteração do pedido
+     * @throws OrderNotFoundException se o pedido não for encontrado
+     * @throws IllegalArgumentException se orderId for null ou vazio
+     */
+    OrderStatusSnapshot getOrderStatusRequired(String orderId);
+    
+    /**
+     * Busca o status de vários pedidos em uma única consulta
+     * 
+     * @param orderIds identificadores dos pedidos (até {@link #MAX_STATUS_BATCH}; repetidos são ignorados,
+     *                 vazios ou inválidos contam como não encontrados)
+     * @return snapshots dos pedidos encontrados, na ordem dos IDs informados
+     * @throws IllegalArgumentException se a lista for null, vazia ou maior que o limite
+     */
+    List<OrderStatusSnapshot> getOrderStatuses(List<String> orderIds);
+    
     /**
      * Critérios de busca para pedidos
      */
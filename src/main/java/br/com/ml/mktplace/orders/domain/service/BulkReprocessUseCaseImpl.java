@@ -0,0 +1,173 @@
+package br.com.ml.mktplace.orders.domain.service;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.domain.model.ReprocessJob;
+import br.com.ml.mktplace.orders.domain.port.BulkReprocessUseCase;
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implementation of BulkReprocessUseCase.
+ *
+ * Um driver por job lê os IDs FAILED em páginas (keyset por ID) e os entrega aos workers:
+ * - Concorrência limitada por job (semáforo) - cada reprocessamento ocupa uma conexão e chama APIs externas
+ * - Vazão limitada (espaçamento fixo entre submissões) para não derrubar de novo a dependência recém-recuperada
+ * - Progresso no próprio job (recurso de status) e em métricas orders.reprocess.bulk.*
+ *
+ * Jobs ficam em memória (por instância); jobs finalizados há mais de {@link #FINISHED_JOB_RETENTION} são descartados.
+ */
+public class BulkReprocessUseCaseImpl implements BulkReprocessUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkReprocessUseCaseImpl.class);
+    static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(24);
+
+    /**
+     * Limites de execução de um job
+     *
+     * @param concurrency reprocessamentos simultâneos por job
+     * @param pageSize IDs lidos por página
+     * @param maxPerSecond reprocessamentos iniciados por segundo
+     */
+    public record Limits(int concurrency, int pageSize, double maxPerSecond) {
+        public Limits {
+            if (concurrency <= 0 || pageSize <= 0 || maxPerSecond <= 0) {
+                throw new IllegalArgumentException("Bulk reprocess limits must be positive");
+            }
+        }
+    }
+
+    private final OrderRepository orderRepository;
+    private final ProcessOrderUseCase processOrderUseCase;
+    private final ObservabilityMetrics observabilityMetrics;
+    private final Executor driverExecutor;
+    private final ExecutorService workerExecutor;
+    private final Limits limits;
+    private final Map<String, ReprocessJob> jobs = new ConcurrentHashMap<>();
+
+    public BulkReprocessUseCaseImpl(
+            OrderRepository orderRepository,
+            ProcessOrderUseCase processOrderUseCase,
+            ObservabilityMetrics observabilityMetrics,
+            Executor driverExecutor,
+            ExecutorService workerExecutor,
+            Limits limits) {
+        this.orderRepository = orderRepository;
+        this.processOrderUseCase = processOrderUseCase;
+        this.observabilityMetrics = observabilityMetrics;
+        this.driverExecutor = driverExecutor;
+        this.workerExecutor = workerExecutor;
+        this.limits = limits;
+    }
+
+    @Override
+    public ReprocessJob startReprocess(Instant createdFrom, Instant createdTo) {
+        ReprocessJob job = new ReprocessJob(
+                createdFrom != null ? createdFrom : Instant.EPOCH,
+                createdTo != null ? createdTo : Instant.now());
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+        observabilityMetrics.bulkReprocessJobStarted();
+        log.info("Bulk reprocess job {} started - range: [{}, {})", job.getId(), job.getCreatedFrom(), job.getCreatedTo());
+        driverExecutor.execute(() -> run(job));
+        return job;
+    }
+
+    @Override
+    public Optional<ReprocessJob> findJob(String jobId) {
+        if (jobId == null || jobId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Job ID cannot be null or empty");
+        }
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(ReprocessJob job) {
+        Semaphore permits = new Semaphore(limits.concurrency());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limits.maxPerSecond());
+        long nextStart = System.nanoTime();
+        try {
+            String afterId = null;
+            List<String> page;
+            do {
+                page = orderRepository.findFailedOrderIds(job.getCreatedFrom(), job.getCreatedTo(), afterId, limits.pageSize());
+                job.recordMatched(page.size());
+                observabilityMetrics.incrementBulkReprocess("matched", page.size());
+                for (String orderId : page) {
+                    nextStart = pace(nextStart, intervalNanos);
+                    permits.acquire();
+                    workerExecutor.execute(() -> {
+                        try {
+                            reprocess(job, orderId);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1);
+                }
+            } while (page.size() == limits.pageSize());
+            // Aguarda os reprocessamentos em andamento
+            permits.acquire(limits.concurrency());
+            job.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (Exception e) {
+            log.error("Bulk reprocess job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            observabilityMetrics.bulkReprocessJobFinished();
+            log.info("Bulk reprocess job {} finished - status: {}, matched: {}, succeeded: {}, failed: {}",
+                    job.getId(), job.getStatus(), job.getMatched(), job.getSucceeded(), job.getFailed());
+        }
+    }
+
+    private void reprocess(ReprocessJob job, String orderId) {
+        try {
+            processOrderUseCase.reprocessOrder(orderId);
+            job.recordSuccess();
+            observabilityMetrics.incrementBulkReprocess("succeeded", 1);
+        } catch (Exception e) {
+            job.recordFailure();
+            observabilityMetrics.incrementBulkReprocess("failed", 1);
+            log.warn("Bulk reprocess job {} - order {} failed: {}", job.getId(), orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * Espera até o próximo horário de início permitido; retorna o horário seguinte
+     */
+    private static long pace(long nextStart, long intervalNanos) {
+        long wait = nextStart - System.nanoTime();
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+        return Math.max(nextStart, System.nanoTime() - intervalNanos) + intervalNanos;
+    }
+
+    /**
+     * Encerra o pool de workers (novas submissões são recusadas)
+     */
+    public void shutdown() {
+        workerExecutor.shutdown();
+    }
+
+    private void evictFinishedJobs() {
+        Instant cutoff = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
@@ -5,9 +5,12 @@ import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
 import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.domain.port.IDGenerator;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,6 +18,7 @@ import java.util.List;
  * Handles order creation, validation, persistence, and event publishing.
  */
 @Service
+@Observed(name = "orders.use-case")
 @Transactional
 public class CreateOrderUseCaseImpl implements CreateOrderUseCase {
 
@@ -51,6 +55,63 @@ public class CreateOrderUseCaseImpl implements CreateOrderUseCase {
         return savedOrder;
     }
     
+    @Override
+    public List<CreateOrderResult> createOrders(List<CreateOrderCommand> commands) {
+        if (commands == null || commands.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one order");
+        }
+        
+        // Validate each order independently; invalid ones are rejected individually
+        int size = commands.size();
+        String[] errors = new String[size];
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            errors[i] = validationError(commands.get(i));
+            if (errors[i] == null) validCount++;
+        }
+        
+        CreateOrderResult[] results = new CreateOrderResult[size];
+        if (validCount > 0) {
+            // One ID reservation, one batched insert and one producer batch for the whole request
+            String[] ids = idGenerator.generateMultiple(validCount);
+            Instant now = Instant.now();
+            List<Order> orders = new ArrayList<>(validCount);
+            for (int i = 0, next = 0; i < size; i++) {
+                if (errors[i] == null) {
+                    CreateOrderCommand command = commands.get(i);
+                    orders.add(new Order(ids[next++], command.customerId(), command.items(), command.deliveryAddress(), OrderStatus.RECEIVED, now));
+                }
+            }
+            
+            List<Order> savedOrders = orderRepository.saveAll(orders);
+            eventPublisher.publishOrdersCreated(savedOrders);
+            
+            for (int i = 0, next = 0; i < size; i++) {
+                if (errors[i] == null) {
+                    results[i] = CreateOrderResult.created(savedOrders.get(next++));
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                results[i] = CreateOrderResult.rejected(errors[i]);
+            }
+        }
+        return List.of(results);
+    }
+    
+    private String validationError(CreateOrderCommand command) {
+        if (command == null) {
+            return "Order is required";
+        }
+        try {
+            validateInputs(command.customerId(), command.items(), command.deliveryAddress());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+    
     private void validateInputs(String customerId, List<OrderItem> items, Address deliveryAddress) {
         if (customerId == null || customerId.trim().isEmpty()) {
             throw new IllegalArgumentException("Customer ID is required");
@@ -49,7 +49,9 @@ public class DistributionCenterSelectionService {
                     center.getCoordinates().longitude().doubleValue()
             );
 
-            log.debug("Distance avaliada center={} distanceKm={}", center.code(), String.format("%.3f", distance));
+            if (log.isDebugEnabled()) {
+                log.debug("Distance avaliada center={} distanceKm={}", center.code(), formatKm(distance));
+            }
 
             if (distance < minDistance) {
                 minDistance = distance;
@@ -57,9 +59,11 @@ public class DistributionCenterSelectionService {
             }
         }
 
-    log.info("CD mais próximo selecionado center={} distanceKm={}",
-        closestCenter != null ? closestCenter.code() : "NONE",
-                String.format("%.3f", minDistance));
+        // Chamado uma vez por item: o chamador já registra a seleção (amostrada); aqui só em DEBUG
+        if (log.isDebugEnabled()) {
+            log.debug("CD mais próximo selecionado center={} distanceKm={}",
+                    closestCenter != null ? closestCenter.code() : "NONE", formatKm(minDistance));
+        }
         
         if (closestCenter == null) {
             throw new IllegalStateException("Could not select any distribution center");
@@ -92,4 +96,8 @@ public class DistributionCenterSelectionService {
         
         return EARTH_RADIUS_KM * c;
     }
+
+    private static String formatKm(double distance) {
+        return String.format("%.3f", distance);
+    }
 }
\ No newline at end of file
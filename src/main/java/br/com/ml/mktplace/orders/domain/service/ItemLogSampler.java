@@ -0,0 +1,24 @@
+package br.com.ml.mktplace.orders.domain.service;
+
+/**
+ * Amostragem de logs por item de pedido.
+ *
+ * Pedidos grandes (100+ itens) geravam uma linha INFO por item; agora só os primeiros itens e
+ * depois um a cada {@link #EVERY_NTH} são logados em INFO. O restante fica em DEBUG, e o pedido
+ * ganha uma linha de resumo ao final do processamento.
+ */
+final class ItemLogSampler {
+
+    static final int FIRST_ITEMS = 3;
+    static final int EVERY_NTH = 50;
+
+    private ItemLogSampler() {
+    }
+
+    /**
+     * @param itemIndex posição do item no pedido (base 0)
+     */
+    static boolean sampled(int itemIndex) {
+        return itemIndex < FIRST_ITEMS || (itemIndex + 1) % EVERY_NTH == 0;
+    }
+}
@@ -8,10 +8,13 @@ import br.com.ml.mktplace.orders.domain.port.DistributionCenterService;
 import br.com.ml.mktplace.orders.domain.port.CacheService;
 import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.domain.port.GeocodingService;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,9 +22,14 @@ import java.util.Optional;
 /**
  * Implementation of ProcessOrderUseCase following hexagonal architecture principles.
  * Handles order processing, distribution center selection, and order updating.
+ *
+ * Não há transação envolvendo o processamento inteiro: cada leitura e cada mudança de status roda
+ * numa transação curta ({@link #saveAndNotify}), então PROCESSING e o lease ficam visíveis (sweeper,
+ * long-polling/SSE) enquanto as chamadas externas rodam, e FAILED é gravado mesmo quando o
+ * processamento termina com exceção.
  */
 @Service
-@Transactional
+@Observed(name = "orders.use-case")
 public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
 
     private final OrderRepository orderRepository;
@@ -33,7 +41,12 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
     @org.springframework.beans.factory.annotation.Autowired(required = false)
     private br.com.ml.mktplace.orders.adapter.outbound.persistence.JpaOrderRepository jpaOrderRepository;
     private final ObservabilityMetrics observabilityMetrics;
+    private final OrderStatusNotifier statusNotifier;
+    private final ProcessingObserver processingObserver;
+    private final TransactionOperations transactions;
     private static final Logger log = LoggerFactory.getLogger(ProcessOrderUseCaseImpl.class);
+    private static final int RANKING_GEOHASH_PRECISION = 6;
+    private static final java.time.Duration RANKING_CACHE_TTL = java.time.Duration.ofMinutes(30);
 
     public ProcessOrderUseCaseImpl(
             OrderRepository orderRepository,
@@ -42,7 +55,10 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
             EventPublisher eventPublisher,
             DistributionCenterSelectionService selectionService,
             GeocodingService geocodingService,
-            ObservabilityMetrics observabilityMetrics) {
+            ObservabilityMetrics observabilityMetrics,
+            OrderStatusNotifier statusNotifier,
+            ProcessingObserver processingObserver,
+            TransactionOperations transactions) {
         this.orderRepository = orderRepository;
         this.distributionCenterService = distributionCenterService;
         this.cacheService = cacheService;
@@ -50,6 +66,9 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         this.selectionService = selectionService;
         this.geocodingService = geocodingService;
         this.observabilityMetrics = observabilityMetrics;
+        this.statusNotifier = statusNotifier;
+        this.processingObserver = processingObserver;
+        this.transactions = transactions;
     }
 
     @Override
@@ -76,8 +95,16 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
                 return order; // return current state without side-effects
             }
             
-            // Process order
-            return observabilityMetrics.recordProcessing(() -> performOrderProcessing(order));
+            // Process order (primeira passada: conta para a latência ponta a ponta / SLO)
+            Order processed;
+            try {
+                processed = observabilityMetrics.recordProcessing(() -> performOrderProcessing(order));
+            } catch (RuntimeException e) {
+                observabilityMetrics.recordOrderCompletion(order.getCreatedAt(), OrderStatus.FAILED);
+                throw e;
+            }
+            observabilityMetrics.recordOrderCompletion(order.getCreatedAt(), processed.getStatus());
+            return processed;
             
         } catch (OrderNotFoundException | ProcessOrderException e) {
             throw e;
@@ -101,12 +128,8 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
                 throw new ProcessOrderException(orderId, "Order cannot be reprocessed. Current status: " + order.getStatus());
             }
             
-            // Reset order status
-            order.changeStatus(OrderStatus.RECEIVED);
-            Order updatedOrder = orderRepository.save(order);
-            
-            // Process order
-            return observabilityMetrics.recordProcessing(() -> performOrderProcessing(updatedOrder));
+            // No separate reset save: processing persists PROCESSING right away
+            return observabilityMetrics.recordProcessing(() -> performOrderProcessing(order));
             
         } catch (OrderNotFoundException | ProcessOrderException e) {
             throw e;
@@ -117,18 +140,56 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         }
     }
     
+    @Override
+    public Order recoverStuckOrder(String orderId) {
+        validateOrderId(orderId);
+        
+        try {
+            Order order = findOrder(orderId);
+            
+            // Claimed by the sweeper but finished meanwhile (lease was too short): nothing to do
+            if (order.getStatus() != OrderStatus.PROCESSING) {
+                log.debug("Skipping recovery for order {} with status {}", orderId, order.getStatus());
+                return order;
+            }
+            
+            log.info("Recovering order {} stuck in PROCESSING", orderId);
+            return observabilityMetrics.recordProcessing(() -> performOrderProcessing(order));
+            
+        } catch (OrderNotFoundException | ProcessOrderException e) {
+            throw e;
+        } catch (Exception e) {
+            String errorMessage = "Unexpected error during recovery";
+            eventPublisher.publishOrderFailed(findOrderSafely(orderId), errorMessage, e);
+            throw new ProcessOrderException(orderId, errorMessage, e);
+        }
+    }
+    
     private Order performOrderProcessing(Order order) {
+        ProcessingTrace trace = new ProcessingTrace(order.getId(), processingObserver);
+        try {
+            Order processed = performOrderProcessing(order, trace);
+            trace.finish(processed.getStatus());
+            return processed;
+        } finally {
+            trace.finish(OrderStatus.FAILED);
+            observabilityMetrics.recordTrace(trace);
+        }
+    }
+
+    private Order performOrderProcessing(Order order, ProcessingTrace trace) {
         try {
             // Resolve geocoding if needed (coordinates zero -> attempt fetch)
             if (needsGeocoding(order.getDeliveryAddress())) {
-                var coords = geocodingService.geocode(
-                        order.getDeliveryAddress().street(),
-                        order.getDeliveryAddress().number(),
-                        order.getDeliveryAddress().city(),
-                        order.getDeliveryAddress().state(),
-                        order.getDeliveryAddress().country(),
-                        order.getDeliveryAddress().zipCode()
-                );
+                Address address = order.getDeliveryAddress();
+                var coords = trace.time(ProcessingTrace.Stage.GEOCODING, () -> geocodingService.geocode(
+                        address.street(),
+                        address.number(),
+                        address.city(),
+                        address.state(),
+                        address.country(),
+                        address.zipCode()
+                ));
                 if (coords != null) {
                     // Create new order instance with enriched address (immutable pattern)
                     order = rebuildOrderWithAddress(order, new Address(
@@ -145,7 +206,8 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
 
             // Change status to processing
             order.changeStatus(OrderStatus.PROCESSING);
-            orderRepository.save(order);
+            Order processing = order;
+            trace.time(ProcessingTrace.Stage.SAVE, () -> saveAndNotify(processing));
             
             // Para cada item: buscar CDs disponíveis para o item (com cache por itemId),
             // calcular distâncias usando PostGIS e armazenar lista ordenada por proximidade.
@@ -155,7 +217,7 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
 
             for (OrderItem item : order.getItems()) {
                 try {
-                    List<DistributionCenter> itemCenters = getAvailableDistributionCentersForItem(item.getItemId());
+                    List<DistributionCenter> itemCenters = getAvailableDistributionCentersForItem(item.getItemId(), trace);
                     if (itemCenters.isEmpty()) {
                         throw new ExternalServiceException("DistributionCenterService", "No distribution centers available for item " + item.getItemId());
                     }
@@ -164,28 +226,23 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
                     double lat = order.getDeliveryAddress().coordinates().latitude().doubleValue();
                     double lon = order.getDeliveryAddress().coordinates().longitude().doubleValue();
 
-                    // Ordenar por distância via banco (PostGIS) para os códigos retornados pela API
-                    List<String> codes = itemCenters.stream().map(DistributionCenter::code).toList();
-                    java.util.List<br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter> nearby;
-                    if (jpaOrderRepository != null) {
-                        nearby = jpaOrderRepository.findNearbyDistributionCentersOrdered(lat, lon, codes);
-                    } else {
-                        // Fallback: ordenar em memória usando Haversine
-                        nearby = new java.util.ArrayList<>();
-                        for (DistributionCenter dc : itemCenters) {
-                            double d = estimateDistanceKm(order.getDeliveryAddress(), dc);
-                            nearby.add(new br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter(dc.code(), d));
-                        }
-                        nearby.sort(java.util.Comparator.comparingDouble(br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter::distanceKm));
-                    }
+                    // Ranking por proximidade: cache por (disponibilidade, célula) ou PostGIS
+                    Address deliveryAddress = order.getDeliveryAddress();
+                    List<NearbyDistributionCenter> nearby = trace.time(ProcessingTrace.Stage.RANKING,
+                            () -> rankDistributionCenters(itemCenters, deliveryAddress, lat, lon));
                     // Persistimos no agregado em memória (será refletido na resposta via mapeadores/DTO se necessário)
                     item.setAvailableDistributionCenters(nearby);
 
                     // Seleciona o mais próximo entre os disponíveis (fallback: serviço local de seleção)
-                    DistributionCenter selectedCenter = selectionService.selectDistributionCenter(itemCenters, order.getDeliveryAddress());
+                    DistributionCenter selectedCenter = trace.time(ProcessingTrace.Stage.SELECTION,
+                            () -> selectionService.selectDistributionCenter(itemCenters, deliveryAddress));
                     item.assignDistributionCenter(selectedCenter);
                     observabilityMetrics.incrementDcSelection(selectedCenter.code());
-                    log.info("CD selecionado para item {} pedido {} -> {}", item.getItemId(), order.getId(), selectedCenter.code());
+                    if (ItemLogSampler.sampled(itemsProcessed)) {
+                        log.info("CD selecionado para item {} pedido {} -> {}", item.getItemId(), order.getId(), selectedCenter.code());
+                    } else if (log.isDebugEnabled()) {
+                        log.debug("CD selecionado para item {} pedido {} -> {}", item.getItemId(), order.getId(), selectedCenter.code());
+                    }
                     itemsProcessed++;
                 } catch (ExternalServiceException e) {
                     // Preserve legacy behavior: bubble up external service failures to fail the whole order
@@ -208,13 +265,15 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
             }
             
             order.changeStatus(finalStatus);
-            Order processedOrder = orderRepository.save(order);
+            log.info("Itens processados para pedido {}: {} de {} -> {}", order.getId(), itemsProcessed, order.getItems().size(), finalStatus);
+            Order toSave = order;
+            Order processedOrder = trace.time(ProcessingTrace.Stage.SAVE, () -> saveAndNotify(toSave));
             
             // Publish events
             if (finalStatus == OrderStatus.PROCESSED) {
-                eventPublisher.publishOrderProcessed(processedOrder);
+                trace.time(ProcessingTrace.Stage.PUBLISH, () -> eventPublisher.publishOrderProcessed(processedOrder));
             } else if (finalStatus == OrderStatus.FAILED) {
-                eventPublisher.publishOrderFailed(processedOrder, "Failed to process any items");
+                trace.time(ProcessingTrace.Stage.PUBLISH, () -> eventPublisher.publishOrderFailed(processedOrder, "Failed to process any items"));
             }
             
             return processedOrder;
@@ -222,12 +281,83 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         } catch (ExternalServiceException e) {
             // Handle external service failures
             order.changeStatus(OrderStatus.FAILED);
-            Order failedOrder = orderRepository.save(order);
-            eventPublisher.publishOrderFailed(failedOrder, "Distribution center service unavailable", e);
+            Order toFail = order;
+            Order failedOrder = trace.time(ProcessingTrace.Stage.SAVE, () -> saveAndNotify(toFail));
+            trace.time(ProcessingTrace.Stage.PUBLISH, () -> eventPublisher.publishOrderFailed(failedOrder, "Distribution center service unavailable", e));
             throw new ProcessOrderException(order.getId(), "Distribution center service unavailable", e);
         }
     }
 
+    /**
+     * Ranking dos CDs por proximidade, materializado por (versão da disponibilidade, célula geohash).
+     * Para um SKU popular o conjunto de CDs é o mesmo e os pontos de entrega se concentram em poucas
+     * células: o ranking calculado (código e distância via PostGIS) é reaproveitado como está para toda a
+     * célula, então a distância é a do primeiro ponto ranqueado nela (célula geohash-6 ≈ 1,2 x 0,6 km).
+     * A versão é um digest do conjunto de códigos, então mudança de disponibilidade gera outra chave.
+     */
+    private List<NearbyDistributionCenter> rankDistributionCenters(List<DistributionCenter> centers, Address address,
+                                                                   double lat, double lon) {
+        ProcessingObserver.RankingScope scope = processingObserver.rankingStarted();
+        String version = availabilityVersion(centers);
+        String cell = Geohash.encode(lat, lon, RANKING_GEOHASH_PRECISION);
+        Optional<List<NearbyDistributionCenter>> cached = cacheService.getDistributionCenterRanking(version, cell);
+        if (cached.isPresent() && coversExactly(cached.get(), centers)) {
+            scope.completed(centers.size(), "cache");
+            return cached.get();
+        }
+
+        List<NearbyDistributionCenter> ranked;
+        if (jpaOrderRepository != null) {
+            // Ordenar por distância via banco (PostGIS) para os códigos retornados pela API
+            List<String> codes = centers.stream().map(DistributionCenter::code).toList();
+            ranked = jpaOrderRepository.findNearbyDistributionCentersOrdered(lat, lon, codes);
+        } else {
+            // Fallback: ordenar em memória usando Haversine
+            ranked = new java.util.ArrayList<>();
+            for (DistributionCenter dc : centers) {
+                ranked.add(new NearbyDistributionCenter(dc.code(), estimateDistanceKm(address, dc)));
+            }
+            ranked.sort(java.util.Comparator.comparingDouble(NearbyDistributionCenter::distanceKm));
+        }
+        cacheService.putDistributionCenterRanking(version, cell, ranked, RANKING_CACHE_TTL);
+        scope.completed(centers.size(), jpaOrderRepository != null ? "postgis" : "haversine");
+        return ranked;
+    }
+
+    /**
+     * Ranking em cache que não cobre exatamente os CDs informados (entrada corrompida) é tratado como miss
+     */
+    private static boolean coversExactly(List<NearbyDistributionCenter> ranking, List<DistributionCenter> centers) {
+        if (ranking.size() != centers.size()) {
+            return false;
+        }
+        java.util.Set<String> codes = new java.util.HashSet<>();
+        for (DistributionCenter dc : centers) {
+            codes.add(dc.code());
+        }
+        for (NearbyDistributionCenter entry : ranking) {
+            if (entry == null || !codes.remove(entry.code())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Prefixo de 64 bits do SHA-256 dos códigos ordenados: colisão entre conjuntos diferentes é
+     * desprezível, ao contrário de {@code String.hashCode} (32 bits, colisões triviais)
+     */
+    static String availabilityVersion(List<DistributionCenter> centers) {
+        String codes = centers.stream().map(DistributionCenter::code).sorted().collect(java.util.stream.Collectors.joining(","));
+        try {
+            byte[] digest = java.security.MessageDigest.getInstance("SHA-256")
+                    .digest(codes.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            return java.util.HexFormat.of().formatHex(digest, 0, 8);
+        } catch (java.security.NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private boolean needsGeocoding(Address address) {
         return address.coordinates().latitude().compareTo(java.math.BigDecimal.ZERO) == 0 &&
                address.coordinates().longitude().compareTo(java.math.BigDecimal.ZERO) == 0;
@@ -259,24 +389,13 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         return R * c;
     }
     
-    private List<DistributionCenter> getAvailableDistributionCentersForItem(String itemId) {
+    private List<DistributionCenter> getAvailableDistributionCentersForItem(String itemId, ProcessingTrace trace) {
         // Cache por item: códigos de CDs que possuem o item disponível
-        String cacheKey = "item-dc-availability:v2:" + itemId;
-        Optional<String[]> cachedArrayOpt = cacheService.get(cacheKey, String[].class);
-        List<String> codes;
-        if (cachedArrayOpt.isPresent() && cachedArrayOpt.get().length > 0) {
-            codes = java.util.Arrays.asList(cachedArrayOpt.get());
-        } else {
-            // Tenta por item (única forma permitida pela API externa)
-            List<String> byItem = distributionCenterService.findDistributionCentersByItem(itemId);
-            codes = (byItem == null) ? java.util.List.of() : byItem;
-            cacheService.put(cacheKey, codes.toArray(String[]::new), java.time.Duration.ofMinutes(5));
-        }
+        List<String> codes = trace.time(ProcessingTrace.Stage.AVAILABILITY, () -> availableDistributionCenterCodes(itemId));
 
         // Carrega os detalhes completos na base local
         if (jpaOrderRepository != null) {
-            return ((br.com.ml.mktplace.orders.adapter.outbound.persistence.JpaOrderRepository) jpaOrderRepository)
-                    .findDistributionCentersByCodes(codes);
+            return trace.time(ProcessingTrace.Stage.DC_CATALOG, () -> jpaOrderRepository.findDistributionCentersByCodes(codes));
         }
         // Fallback: materializa mínimos se repositório JPA não disponível (ex.: testes unitários puros)
         java.util.List<DistributionCenter> minimal = new java.util.ArrayList<>();
@@ -290,14 +409,38 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         return minimal;
     }
     
+    private List<String> availableDistributionCenterCodes(String itemId) {
+        Optional<List<String>> cached = cacheService.getItemAvailability(itemId);
+        if (cached.isPresent() && !cached.get().isEmpty()) {
+            return cached.get();
+        }
+        // Tenta por item (única forma permitida pela API externa)
+        List<String> byItem = distributionCenterService.findDistributionCentersByItem(itemId);
+        List<String> codes = (byItem == null) ? java.util.List.of() : byItem;
+        cacheService.putItemAvailability(itemId, codes, java.time.Duration.ofMinutes(5));
+        return codes;
+    }
+    
     private void validateOrderId(String orderId) {
         if (orderId == null || orderId.trim().isEmpty()) {
             throw new IllegalArgumentException("Order ID cannot be null or empty");
         }
     }
     
+    /**
+     * Grava o pedido e sinaliza o novo status numa transação própria, confirmada antes de seguir;
+     * o notificador entrega o sinal no commit
+     */
+    private Order saveAndNotify(Order order) {
+        return transactions.execute(tx -> {
+            Order saved = orderRepository.save(order);
+            statusNotifier.statusChanged(order.getId(), order.getStatus());
+            return saved;
+        });
+    }
+    
     private Order findOrder(String orderId) {
-        Optional<Order> orderOpt = orderRepository.findById(orderId);
+        Optional<Order> orderOpt = transactions.execute(tx -> orderRepository.findById(orderId));
         if (orderOpt.isEmpty()) {
             throw new OrderNotFoundException(orderId);
         }
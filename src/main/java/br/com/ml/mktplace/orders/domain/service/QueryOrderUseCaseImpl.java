@@ -3,19 +3,28 @@ package br.com.ml.mktplace.orders.domain.service;
 import br.com.ml.mktplace.orders.domain.model.Order;
 import br.com.ml.mktplace.orders.domain.model.OrderNotFoundException;
 import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
 import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of QueryOrderUseCase following hexagonal architecture principles.
  * Handles order queries and search operations.
  */
 @Service
+@Observed(name = "orders.use-case")
 @Transactional(readOnly = true)
 public class QueryOrderUseCaseImpl implements QueryOrderUseCase {
 
@@ -60,6 +69,42 @@ public class QueryOrderUseCaseImpl implements QueryOrderUseCase {
         return orderRepository.existsById(orderId);
     }
 
+    @Override
+    public OrderStatusSnapshot getOrderStatusRequired(String orderId) {
+        validateOrderId(orderId);
+        List<OrderStatusSnapshot> found = orderRepository.findStatuses(List.of(orderId));
+        if (found.isEmpty()) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public List<OrderStatusSnapshot> getOrderStatuses(List<String> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("Order IDs cannot be null or empty");
+        }
+        if (orderIds.size() > MAX_STATUS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_STATUS_BATCH + " order IDs per request");
+        }
+        // ID vazio não invalida o lote: fica de fora da consulta e volta como não encontrado
+        Set<String> unique = new LinkedHashSet<>(orderIds.size() * 2);
+        for (String orderId : orderIds) {
+            if (orderId != null && !orderId.isBlank()) {
+                unique.add(orderId);
+            }
+        }
+        if (unique.isEmpty()) {
+            return List.of();
+        }
+        Map<String, OrderStatusSnapshot> byId = orderRepository.findStatuses(unique).stream()
+                .collect(Collectors.toMap(OrderStatusSnapshot::orderId, Function.identity(), (a, b) -> a));
+        return unique.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     public OrderSearchResult searchOrders(OrderSearchCriteria criteria) {
         if (criteria == null) {
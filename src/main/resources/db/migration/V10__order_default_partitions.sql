@@ -0,0 +1,72 @@
+-- DEFAULT partitions for orders / order_items (safety net for V6 monthly partitioning)
+-- Without them an INSERT for a month that has no partition yet (maintenance scheduler late or failing)
+-- fails outright. Rows that land here are moved to their monthly partition by create_order_partitions()
+-- as soon as that month is created; OrderPartitionMaintenance starts from the oldest id in
+-- orders_default, so a missed month is recovered on the next run (startup or daily cron).
+--
+-- Manual recovery (same thing the maintenance job does):
+--   SELECT create_order_partitions(
+--       COALESCE((SELECT ulid_uuid_timestamp(min(id)) FROM orders_default), now()), 3);
+
+CREATE TABLE IF NOT EXISTS orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE IF NOT EXISTS order_items_default PARTITION OF order_items DEFAULT;
+
+-- Same contract as V6, but a month whose rows are already in the DEFAULT partitions is handled:
+-- those rows are set aside, the monthly partitions are created (Postgres refuses to create a range
+-- partition while the DEFAULT one holds rows for it) and the rows are reinserted, all in the caller's
+-- transaction.
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month TIMESTAMPTZ, months_ahead INT) RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_month AT TIME ZONE 'UTC');
+    last_month TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => months_ahead);
+    lower_bound UUID;
+    upper_bound UUID;
+    suffix TEXT;
+    moved_orders INT;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        suffix := to_char(month_start, 'YYYY_MM');
+        lower_bound := ulid_uuid_lower_bound(month_start AT TIME ZONE 'UTC');
+        upper_bound := ulid_uuid_lower_bound((month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        IF to_regclass('orders_' || suffix) IS NULL OR to_regclass('order_items_' || suffix) IS NULL THEN
+            CREATE TEMP TABLE IF NOT EXISTS moved_default_orders (LIKE orders) ON COMMIT DROP;
+            CREATE TEMP TABLE IF NOT EXISTS moved_default_order_items (LIKE order_items) ON COMMIT DROP;
+            TRUNCATE moved_default_orders, moved_default_order_items;
+
+            -- Items first: they reference the orders being moved
+            WITH moved AS (
+                DELETE FROM order_items_default WHERE order_id >= lower_bound AND order_id < upper_bound RETURNING *
+            )
+            INSERT INTO moved_default_order_items SELECT * FROM moved;
+            WITH moved AS (
+                DELETE FROM orders_default WHERE id >= lower_bound AND id < upper_bound RETURNING *
+            )
+            INSERT INTO moved_default_orders SELECT * FROM moved;
+            GET DIAGNOSTICS moved_orders = ROW_COUNT;
+
+            IF to_regclass('orders_' || suffix) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                               'orders_' || suffix, lower_bound, upper_bound);
+                created := created + 1;
+            END IF;
+            IF to_regclass('order_items_' || suffix) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                               'order_items_' || suffix, lower_bound, upper_bound);
+            END IF;
+
+            INSERT INTO orders SELECT * FROM moved_default_orders;
+            INSERT INTO order_items SELECT * FROM moved_default_order_items;
+            IF moved_orders > 0 THEN
+                RAISE NOTICE 'Moved % orders from orders_default into orders_%', moved_orders, suffix;
+            END IF;
+        END IF;
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON TABLE orders_default IS 'Catch-all partition for months without a partition yet; drained by create_order_partitions';
+COMMENT ON TABLE order_items_default IS 'Catch-all partition for order_items; drained together with orders_default';
+COMMENT ON FUNCTION create_order_partitions(TIMESTAMPTZ, INT) IS 'Creates monthly orders/order_items partitions up to N months ahead, moving matching rows out of the DEFAULT partitions (idempotent)';
@@ -0,0 +1,6 @@
+-- Allow Hibernate to batch order_items INSERTs (batch order ingestion)
+-- The entity switches from IDENTITY to a pooled SEQUENCE generator (allocationSize = 50),
+-- so the backing sequence of the BIGSERIAL column must advance in steps of 50.
+ALTER SEQUENCE order_items_id_seq INCREMENT BY 50;
+
+COMMENT ON SEQUENCE order_items_id_seq IS 'Pooled id sequence for order_items (increment must match Hibernate allocationSize)';
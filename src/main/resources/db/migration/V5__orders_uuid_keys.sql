@@ -0,0 +1,43 @@
+-- Store ULID order identifiers as native uuid (ADR-008)
+-- orders.id / order_items.order_id move from VARCHAR(26) to 16-byte uuid keys: smaller B-tree
+-- indexes and cheaper FK joins. ULID and uuid are both 128-bit; the conversion is lossless and
+-- preserves ordering. The application maps uuid <-> ULID text (UlidUuidType), so the API is unchanged.
+-- customer_id is not a ULID (free-form customer reference) and stays as text.
+
+-- Crockford Base32 ULID -> uuid (also handy for ad-hoc queries by ULID)
+CREATE OR REPLACE FUNCTION ulid_to_uuid(ulid TEXT) RETURNS UUID AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    bits TEXT := '';
+    hex TEXT := '';
+    pos INT;
+BEGIN
+    IF length(ulid) <> 26 THEN
+        RAISE EXCEPTION 'Invalid ULID: %', ulid;
+    END IF;
+    FOR i IN 1..26 LOOP
+        pos := strpos(alphabet, upper(substr(ulid, i, 1))) - 1;
+        IF pos < 0 THEN
+            RAISE EXCEPTION 'Invalid ULID: %', ulid;
+        END IF;
+        bits := bits || pos::BIT(5)::TEXT;
+    END LOOP;
+    -- 26 x 5 = 130 bits; the 2 leading bits are always zero for valid ULIDs
+    bits := substr(bits, 3);
+    FOR i IN 0..31 LOOP
+        hex := hex || to_hex(substr(bits, i * 4 + 1, 4)::BIT(4)::INT);
+    END LOOP;
+    RETURN hex::UUID;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE STRICT;
+
+ALTER TABLE order_items DROP CONSTRAINT IF EXISTS order_items_order_id_fkey;
+
+ALTER TABLE orders ALTER COLUMN id TYPE UUID USING ulid_to_uuid(id);
+ALTER TABLE order_items ALTER COLUMN order_id TYPE UUID USING ulid_to_uuid(order_id);
+
+ALTER TABLE order_items
+    ADD CONSTRAINT order_items_order_id_fkey FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE;
+
+COMMENT ON COLUMN orders.id IS 'ULID stored as uuid (128-bit, time-ordered)';
+COMMENT ON FUNCTION ulid_to_uuid(TEXT) IS 'Converts a Crockford Base32 ULID to its uuid representation';
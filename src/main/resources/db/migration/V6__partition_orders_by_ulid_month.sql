@@ -0,0 +1,173 @@
+-- Monthly range partitioning of orders / order_items (ADR-001, ADR-008)
+-- Partition key is the ULID itself (uuid since V5): its 48 most significant bits are the creation
+-- timestamp, so a month is a contiguous uuid range. Keeping the key = primary key means:
+--   * PK(id) and the FK order_items.order_id -> orders.id stay valid on partitioned tables
+--   * lookups by order id (hot path) and item loads by order_id prune to a single partition
+--   * time-window queries prune by passing an id lower bound derived from the timestamp
+-- Future partitions are created by create_order_partitions() (called here and by the application
+-- scheduler); archive_order_partitions() detaches old months into the orders_archive schema.
+
+-- Helpers ----------------------------------------------------------------------------------------
+
+-- Smallest ULID/uuid for a timestamp: 48-bit epoch millis followed by 80 zero bits
+CREATE OR REPLACE FUNCTION ulid_uuid_lower_bound(ts TIMESTAMPTZ) RETURNS UUID AS $$
+    SELECT (lpad(to_hex((extract(epoch FROM ts) * 1000)::BIGINT), 12, '0') || '00000000000000000000')::UUID;
+$$ LANGUAGE sql IMMUTABLE STRICT;
+
+-- Creation timestamp embedded in a ULID/uuid
+CREATE OR REPLACE FUNCTION ulid_uuid_timestamp(id UUID) RETURNS TIMESTAMPTZ AS $$
+    SELECT to_timestamp(('x' || substr(replace(id::TEXT, '-', ''), 1, 12))::BIT(48)::BIGINT / 1000.0);
+$$ LANGUAGE sql IMMUTABLE STRICT;
+
+-- Creates monthly partitions (UTC months) for orders and order_items from from_month up to
+-- months_ahead months after the current one. Idempotent; returns the number of months created.
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month TIMESTAMPTZ, months_ahead INT) RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_month AT TIME ZONE 'UTC');
+    last_month TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') + make_interval(months => months_ahead);
+    lower_bound UUID;
+    upper_bound UUID;
+    suffix TEXT;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        suffix := to_char(month_start, 'YYYY_MM');
+        lower_bound := ulid_uuid_lower_bound(month_start AT TIME ZONE 'UTC');
+        upper_bound := ulid_uuid_lower_bound((month_start + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        IF to_regclass('orders_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                           'orders_' || suffix, lower_bound, upper_bound);
+            created := created + 1;
+        END IF;
+        IF to_regclass('order_items_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                           'order_items_' || suffix, lower_bound, upper_bound);
+        END IF;
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Detaches partitions of months that ended more than retain_months ago and moves them to the
+-- orders_archive schema (order_items first, so no FK still points at the orders partition).
+-- Returns the number of months archived.
+CREATE OR REPLACE FUNCTION archive_order_partitions(retain_months INT) RETURNS INT AS $$
+DECLARE
+    cutoff TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') - make_interval(months => retain_months);
+    part RECORD;
+    fk RECORD;
+    items_table TEXT;
+    archived INT := 0;
+BEGIN
+    IF retain_months < 1 THEN
+        RAISE EXCEPTION 'retain_months must be >= 1';
+    END IF;
+    CREATE SCHEMA IF NOT EXISTS orders_archive;
+    FOR part IN
+        SELECT c.relname AS name, to_date(substr(c.relname, 8), 'YYYY_MM')::TIMESTAMP AS month_start
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'orders'::regclass
+          AND c.relname ~ '^orders_[0-9]{4}_[0-9]{2}$'
+        ORDER BY c.relname
+    LOOP
+        CONTINUE WHEN part.month_start + INTERVAL '1 month' > cutoff;
+        items_table := 'order_items_' || substr(part.name, 8);
+        IF to_regclass(items_table) IS NOT NULL THEN
+            EXECUTE format('ALTER TABLE order_items DETACH PARTITION %I', items_table);
+            FOR fk IN SELECT conname FROM pg_constraint WHERE conrelid = to_regclass(items_table) AND contype = 'f' LOOP
+                EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', items_table, fk.conname);
+            END LOOP;
+            EXECUTE format('ALTER TABLE %I SET SCHEMA orders_archive', items_table);
+        END IF;
+        EXECUTE format('ALTER TABLE orders DETACH PARTITION %I', part.name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA orders_archive', part.name);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Move the existing tables out of the way -------------------------------------------------------
+
+ALTER SEQUENCE order_items_id_seq OWNED BY NONE;
+ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+ALTER INDEX orders_pkey RENAME TO orders_unpartitioned_pkey;
+ALTER INDEX order_items_pkey RENAME TO order_items_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_orders_customer_id;
+DROP INDEX IF EXISTS idx_orders_status;
+DROP INDEX IF EXISTS idx_orders_created_at;
+DROP INDEX IF EXISTS idx_orders_delivery_coordinates;
+DROP INDEX IF EXISTS idx_order_items_order_id;
+DROP INDEX IF EXISTS idx_order_items_item_id;
+DROP TRIGGER IF EXISTS update_orders_updated_at ON orders_unpartitioned;
+
+-- Partitioned tables -----------------------------------------------------------------------------
+
+CREATE TABLE orders (
+    id UUID NOT NULL,
+    customer_id VARCHAR(26) NOT NULL,
+    delivery_address JSONB NOT NULL,
+    delivery_coordinates GEOMETRY(POINT, 4326),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT orders_pkey PRIMARY KEY (id),
+    CONSTRAINT orders_status_check CHECK (status IN ('RECEIVED', 'PROCESSING', 'PROCESSED', 'FAILED'))
+) PARTITION BY RANGE (id);
+
+-- order_id is part of the PK because unique constraints on partitioned tables must include the key
+CREATE TABLE order_items (
+    id BIGINT NOT NULL DEFAULT nextval('order_items_id_seq'),
+    order_id UUID NOT NULL REFERENCES orders(id) ON DELETE CASCADE,
+    item_id VARCHAR(50) NOT NULL,
+    quantity INTEGER NOT NULL,
+    assigned_distribution_center VARCHAR(20),
+    available_distribution_centers JSONB,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id),
+    CONSTRAINT order_items_quantity_positive CHECK (quantity > 0)
+) PARTITION BY RANGE (order_id);
+
+ALTER SEQUENCE order_items_id_seq OWNED BY order_items.id;
+
+-- Partitions from the oldest existing order up to 3 months ahead
+SELECT create_order_partitions(
+    COALESCE((SELECT ulid_uuid_timestamp(min(id)) FROM orders_unpartitioned), now()),
+    3);
+
+-- Copy data and drop the old heap tables ---------------------------------------------------------
+
+INSERT INTO orders (id, customer_id, delivery_address, delivery_coordinates, status, created_at, updated_at)
+SELECT id, customer_id, delivery_address, delivery_coordinates, status, created_at, updated_at
+FROM orders_unpartitioned;
+
+INSERT INTO order_items (id, order_id, item_id, quantity, assigned_distribution_center, available_distribution_centers, created_at)
+SELECT id, order_id, item_id, quantity, assigned_distribution_center, available_distribution_centers, created_at
+FROM order_items_unpartitioned;
+
+DROP TABLE order_items_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- Indexes (created on the parent, propagated to every partition) --------------------------------
+
+CREATE INDEX idx_orders_customer_id ON orders(customer_id);
+CREATE INDEX idx_orders_status ON orders(status);
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_orders_delivery_coordinates ON orders USING GIST(delivery_coordinates);
+CREATE INDEX idx_order_items_order_id ON order_items(order_id);
+CREATE INDEX idx_order_items_item_id ON order_items(item_id);
+
+CREATE TRIGGER update_orders_updated_at
+    BEFORE UPDATE ON orders
+    FOR EACH ROW
+    EXECUTE FUNCTION update_updated_at_column();
+
+COMMENT ON TABLE orders IS 'Main orders table, range-partitioned by month on the ULID id (see create_order_partitions)';
+COMMENT ON TABLE order_items IS 'Items within each order, range-partitioned by month on order_id (same bounds as orders)';
+COMMENT ON COLUMN orders.id IS 'ULID stored as uuid (128-bit, time-ordered); partition key';
+COMMENT ON COLUMN order_items.available_distribution_centers IS 'Ordered list of nearby DCs for this item (array of {code, distanceKm})';
+COMMENT ON FUNCTION create_order_partitions(TIMESTAMPTZ, INT) IS 'Creates monthly orders/order_items partitions up to N months ahead (idempotent)';
+COMMENT ON FUNCTION archive_order_partitions(INT) IS 'Detaches partitions older than N months into schema orders_archive';
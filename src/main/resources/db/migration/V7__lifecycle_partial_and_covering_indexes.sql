@@ -0,0 +1,22 @@
+-- Indexes tuned for the order lifecycle queries
+-- Almost every row ends in PROCESSED and is never queried by status again; operational queries
+-- only look at RECEIVED / PROCESSING / FAILED. A partial index keeps just those rows (small and hot)
+-- and INCLUDEs id/status so lifecycle queries are index-only. Created on the partitioned parents
+-- (V6), so every monthly partition gets its own copy.
+
+-- Lifecycle: orders still in flight or failed, oldest first (replaces the full status index)
+CREATE INDEX idx_orders_active_created_at ON orders(created_at) INCLUDE (id, status)
+    WHERE status IN ('RECEIVED', 'PROCESSING', 'FAILED');
+DROP INDEX IF EXISTS idx_orders_status;
+
+-- Orders containing an item: covering, no heap access to resolve order_id
+CREATE INDEX idx_order_items_item_id_order_id ON order_items(item_id) INCLUDE (order_id);
+DROP INDEX IF EXISTS idx_order_items_item_id;
+
+-- Keyset pagination of a customer's orders: (customer_id, id) supersedes the single-column index
+CREATE INDEX idx_orders_customer_id_id ON orders(customer_id, id);
+DROP INDEX IF EXISTS idx_orders_customer_id;
+
+COMMENT ON INDEX idx_orders_active_created_at IS 'Partial index for lifecycle queries (RECEIVED/PROCESSING/FAILED); index-only';
+COMMENT ON INDEX idx_order_items_item_id_order_id IS 'Covering index item_id -> order_id; index-only';
+COMMENT ON INDEX idx_orders_customer_id_id IS 'Keyset pagination of orders per customer; index-only';
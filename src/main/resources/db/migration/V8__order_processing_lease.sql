@@ -0,0 +1,15 @@
+-- Processing lease for stuck-order recovery
+-- An order saved as PROCESSING gets processing_lease_until = now + lease timeout; if the pod dies
+-- before the final status is written, the lease expires and a sweeper claims the order with
+-- FOR UPDATE SKIP LOCKED (many pods, no double claiming) and reprocesses it.
+
+ALTER TABLE orders ADD COLUMN processing_lease_until TIMESTAMP WITH TIME ZONE;
+
+-- Orders already in PROCESSING predate the lease: expire them now so the first sweep picks them up
+UPDATE orders SET processing_lease_until = now() WHERE status = 'PROCESSING';
+
+-- Only PROCESSING rows are indexed: the sweeper query never touches the (large) finished set
+CREATE INDEX idx_orders_processing_lease ON orders(processing_lease_until)
+    WHERE status = 'PROCESSING';
+
+COMMENT ON COLUMN orders.processing_lease_until IS 'Lease expiry while PROCESSING; expired leases are reclaimed by the stuck-order sweeper';
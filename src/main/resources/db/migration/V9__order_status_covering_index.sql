@@ -0,0 +1,8 @@
+-- Compact status reads (GET /v1/orders/{id}/status, POST /v1/orders/statuses)
+-- The PK index only holds id, so a status lookup visits the heap row with its jsonb address and
+-- geometry. Covering id -> (status, updated_at) lets id = ANY(...) lookups run as index-only
+-- scans; each monthly partition (V6) gets its own copy and lookups prune by id.
+
+CREATE INDEX idx_orders_id_status ON orders(id) INCLUDE (status, updated_at);
+
+COMMENT ON INDEX idx_orders_id_status IS 'Covering index id -> status, updated_at for status-only reads; index-only';
@@ -7,6 +7,7 @@ import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.domain.port.IDGenerator;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
 import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
 import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
 import br.com.ml.mktplace.orders.domain.service.CreateOrderUseCaseImpl;
 import br.com.ml.mktplace.orders.domain.service.DistributionCenterSelectionService;
@@ -18,9 +19,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import org.springframework.transaction.support.TransactionOperations;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Testes unitários para ApplicationConfig.
@@ -51,6 +60,9 @@ class ApplicationConfigTest {
 
     @Mock
     private br.com.ml.mktplace.orders.domain.port.GeocodingService mockGeocodingService;
+
+    @Mock
+    private br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier mockStatusNotifier;
     
     private ApplicationConfig applicationConfig;
 
@@ -89,7 +101,10 @@ class ApplicationConfigTest {
             mockEventPublisher,
             mockSelectionService,
             mockGeocodingService,
-            mockObservabilityMetrics
+            mockObservabilityMetrics,
+            mockStatusNotifier,
+            ProcessingObserver.NONE,
+            TransactionOperations.withoutTransaction()
         );
         
         // Then
@@ -172,7 +187,7 @@ class ApplicationConfigTest {
         assertNotNull(queryUseCase);
         
         ProcessOrderUseCase processUseCase = applicationConfig.processOrderUseCase(
-            null, null, null, null, null, null, null
+            null, null, null, null, null, null, null, null, null, null
         );
         assertNotNull(processUseCase);
     }
@@ -191,7 +206,9 @@ class ApplicationConfigTest {
         
         ProcessOrderUseCase processUseCase = applicationConfig.processOrderUseCase(
             mockOrderRepository, mockDistributionCenterService, 
-            mockCacheService, mockEventPublisher, selectionService, mockGeocodingService, mockObservabilityMetrics
+            mockCacheService, mockEventPublisher, selectionService, mockGeocodingService, mockObservabilityMetrics, mockStatusNotifier,
+            ProcessingObserver.NONE,
+            TransactionOperations.withoutTransaction()
         );
         
         QueryOrderUseCase queryUseCase = applicationConfig.queryOrderUseCase(
@@ -210,4 +227,35 @@ class ApplicationConfigTest {
         assertThat(queryUseCase).isInstanceOf(QueryOrderUseCaseImpl.class);
         assertThat(selectionService).isInstanceOf(DistributionCenterSelectionService.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should start bulk reprocess jobs as root observations tagged with the request span")
+    void shouldStartBulkReprocessJobAsRootObservation() {
+        // Given
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(context -> true);
+        Tracer tracer = mock(Tracer.class);
+        Span requestSpan = mock(Span.class);
+        TraceContext requestContext = mock(TraceContext.class);
+        when(tracer.currentSpan()).thenReturn(requestSpan);
+        when(requestSpan.context()).thenReturn(requestContext);
+        when(requestContext.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+        when(requestContext.spanId()).thenReturn("00f067aa0ba902b7");
+        Observation request = Observation.start("http.server.requests", registry);
+        
+        // When
+        Observation job;
+        try (Observation.Scope scope = request.openScope()) {
+            job = ApplicationConfig.bulkReprocessJobObservation(registry, tracer);
+        } finally {
+            request.stop();
+        }
+        
+        // Then
+        assertThat(job.getContext().getParentObservation()).isNull();
+        assertThat(job.getContext().getHighCardinalityKeyValue("request.trace.id").getValue())
+            .isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(job.getContext().getHighCardinalityKeyValue("request.span.id").getValue())
+            .isEqualTo("00f067aa0ba902b7");
+    }
+}
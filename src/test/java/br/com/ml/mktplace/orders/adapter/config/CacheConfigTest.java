@@ -1,14 +1,31 @@
 package br.com.ml.mktplace.orders.adapter.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -18,6 +35,7 @@ import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
 
 /**
  * Testes unitários para CacheConfig.
@@ -29,6 +47,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 class CacheConfigTest {
 
     private CacheConfig cacheConfig;
+    private LettuceClientConfiguration clientConfiguration;
 
     @BeforeEach
     void setUp() {
@@ -44,13 +63,20 @@ class CacheConfigTest {
         ReflectionTestUtils.setField(cacheConfig, "maxIdle", 8);
         ReflectionTestUtils.setField(cacheConfig, "minIdle", 2);
         ReflectionTestUtils.setField(cacheConfig, "timeout", 5000L);
+        ReflectionTestUtils.setField(cacheConfig, "connectTimeout", 2000L);
+        ReflectionTestUtils.setField(cacheConfig, "pipelineFlushThreshold", 64);
+        ReflectionTestUtils.setField(cacheConfig, "clusterNodes", "");
+        ReflectionTestUtils.setField(cacheConfig, "topologyRefreshPeriod", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(cacheConfig, "readFrom", "");
+        
+        clientConfiguration = cacheConfig.lettuceClientConfiguration(mock(ClientResources.class));
     }
 
     @Test
     @DisplayName("Should create RedisConnectionFactory with correct configuration")
     void shouldCreateRedisConnectionFactoryWithCorrectConfiguration() {
         // When
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // Then
         assertNotNull(connectionFactory);
@@ -68,7 +94,7 @@ class CacheConfigTest {
     @DisplayName("Should create RedisTemplate with correct serializers")
     void shouldCreateRedisTemplateWithCorrectSerializers() {
         // Given
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // When
         RedisTemplate<String, Object> redisTemplate = cacheConfig.redisTemplate(connectionFactory);
@@ -100,7 +126,7 @@ class CacheConfigTest {
         ReflectionTestUtils.setField(cacheConfig, "redisPassword", "");
         
         // When
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // Then
         assertNotNull(connectionFactory);
@@ -117,7 +143,7 @@ class CacheConfigTest {
         ReflectionTestUtils.setField(cacheConfig, "redisPassword", null);
         
         // When
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // Then
         assertNotNull(connectionFactory);
@@ -130,7 +156,7 @@ class CacheConfigTest {
         ReflectionTestUtils.setField(cacheConfig, "redisPassword", "mypassword");
         
         // When
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // Then
         assertNotNull(connectionFactory);
@@ -140,15 +166,141 @@ class CacheConfigTest {
     }
 
     @Test
-    @DisplayName("Should configure connection validation")
-    void shouldConfigureConnectionValidation() {
+    @DisplayName("Should share the native connection without per-use validation")
+    void shouldShareNativeConnectionWithoutValidation() {
         // When
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
+        
+        // Then
+        LettuceConnectionFactory lettuceFactory = (LettuceConnectionFactory) connectionFactory;
+        assertThat(lettuceFactory.getValidateConnection()).isFalse();
+        assertThat(lettuceFactory.getShareNativeConnection()).isTrue();
+        assertThat(lettuceFactory.getClientConfiguration()).isSameAs(clientConfiguration);
+    }
+
+    @Test
+    @DisplayName("Should apply pool, command timeout and socket options to the Lettuce client")
+    void shouldApplyClientOptions() {
+        // Then
+        assertThat(clientConfiguration).isInstanceOf(LettucePoolingClientConfiguration.class);
+        GenericObjectPoolConfig<?> poolConfig = ((LettucePoolingClientConfiguration) clientConfiguration).getPoolConfig();
+        assertThat(poolConfig.getMaxTotal()).isEqualTo(20);
+        assertThat(poolConfig.getMaxIdle()).isEqualTo(8);
+        assertThat(poolConfig.getMinIdle()).isEqualTo(2);
+        assertThat(clientConfiguration.getCommandTimeout()).isEqualTo(Duration.ofMillis(5000));
+        
+        ClientOptions clientOptions = clientConfiguration.getClientOptions().orElseThrow();
+        SocketOptions socketOptions = clientOptions.getSocketOptions();
+        assertThat(socketOptions.isKeepAlive()).isTrue();
+        assertThat(socketOptions.isTcpNoDelay()).isTrue();
+        assertThat(socketOptions.getConnectTimeout()).isEqualTo(Duration.ofMillis(2000));
+        assertThat(clientOptions.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+    }
+
+    @Test
+    @DisplayName("Should expose Lettuce pool usage as Micrometer gauges")
+    @SuppressWarnings("unchecked")
+    void shouldExposePoolMetrics() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GenericObjectPoolConfig<Object> poolConfig = (GenericObjectPoolConfig<Object>)
+                (GenericObjectPoolConfig<?>) ((LettucePoolingClientConfiguration) clientConfiguration).getPoolConfig();
+        
+        try (CommonsObjectPool2Metrics metrics = cacheConfig.redisPoolMetrics();
+             GenericObjectPool<Object> pool = new GenericObjectPool<>(new BasePooledObjectFactory<>() {
+                 @Override
+                 public Object create() {
+                     return new Object();
+                 }
+                 
+                 @Override
+                 public PooledObject<Object> wrap(Object obj) {
+                     return new DefaultPooledObject<>(obj);
+                 }
+             }, poolConfig)) {
+            metrics.bindTo(registry);
+            
+            // When
+            pool.borrowObject();
+            
+            // Then
+            assertThat(registry.get("commons.pool2.num.active").tag("client", "lettuce")
+                    .tag("name", pool.getJmxName().getKeyProperty("name")).gauge().value()).isEqualTo(1.0);
+            assertThat(pool.getJmxName().getKeyProperty("name")).startsWith("redis-lettuce-pool");
+        }
+    }
+
+    @Test
+    @DisplayName("Should enable topology refresh and replica reads when cluster nodes are configured")
+    void shouldConfigureClusterClientOptions() {
+        // Given
+        ReflectionTestUtils.setField(cacheConfig, "clusterNodes", "redis-1:6379,redis-2:6379");
+        ReflectionTestUtils.setField(cacheConfig, "readFrom", "REPLICA_PREFERRED");
+        
+        // When
+        LettuceClientConfiguration clusterClient = cacheConfig.lettuceClientConfiguration(mock(ClientResources.class));
+        
+        // Then
+        assertThat(clusterClient.getReadFrom()).contains(ReadFrom.REPLICA_PREFERRED);
+        ClientOptions clientOptions = clusterClient.getClientOptions().orElseThrow();
+        assertThat(clientOptions).isInstanceOf(ClusterClientOptions.class);
+        ClusterTopologyRefreshOptions refresh = ((ClusterClientOptions) clientOptions).getTopologyRefreshOptions();
+        assertThat(refresh.isPeriodicRefreshEnabled()).isTrue();
+        assertThat(refresh.getRefreshPeriod()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(refresh.getAdaptiveRefreshTriggers()).isNotEmpty();
+        assertThat(clientOptions.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+    }
+
+    @Test
+    @DisplayName("Should keep standalone client options and primary reads without cluster nodes")
+    void shouldKeepStandaloneClientOptionsWithoutClusterNodes() {
+        // Given
+        ReflectionTestUtils.setField(cacheConfig, "readFrom", "REPLICA_PREFERRED");
+        
+        // When
+        LettuceClientConfiguration standaloneClient = cacheConfig.lettuceClientConfiguration(mock(ClientResources.class));
+        
+        // Then
+        assertThat(standaloneClient.getClientOptions().orElseThrow()).isNotInstanceOf(ClusterClientOptions.class);
+        assertThat(standaloneClient.getReadFrom()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should build production cluster connection factory from configured nodes")
+    void shouldBuildProductionClusterConnectionFactory() {
+        // Given
+        CacheConfig.ProductionCacheConfig prodConfig = new CacheConfig.ProductionCacheConfig();
+        
+        // When
+        RedisConnectionFactory connectionFactory = prodConfig.productionRedisConnectionFactory(
+                clientConfiguration, "redis-1:6379, redis-2:6380", 5, "localhost", 6379, "secret", 64);
+        
+        // Then
+        LettuceConnectionFactory lettuceFactory = (LettuceConnectionFactory) connectionFactory;
+        RedisClusterConfiguration cluster = lettuceFactory.getClusterConfiguration();
+        assertThat(cluster).isNotNull();
+        assertThat(cluster.getClusterNodes()).extracting(RedisNode::asString)
+                .containsExactlyInAnyOrder("redis-1:6379", "redis-2:6380");
+        assertThat(cluster.getMaxRedirects()).isEqualTo(5);
+        assertThat(cluster.getPassword()).isEqualTo(RedisPassword.of("secret"));
+        assertThat(lettuceFactory.getShareNativeConnection()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should build production standalone connection factory without cluster nodes")
+    void shouldBuildProductionStandaloneConnectionFactory() {
+        // Given
+        CacheConfig.ProductionCacheConfig prodConfig = new CacheConfig.ProductionCacheConfig();
+        
+        // When
+        RedisConnectionFactory connectionFactory = prodConfig.productionRedisConnectionFactory(
+                clientConfiguration, "", 3, "redis-prod", 6380, "", 64);
         
         // Then
-        assertNotNull(connectionFactory);
         LettuceConnectionFactory lettuceFactory = (LettuceConnectionFactory) connectionFactory;
-        assertThat(lettuceFactory.getValidateConnection()).isTrue();
+        assertThat(lettuceFactory.getClusterConfiguration()).isNull();
+        assertThat(lettuceFactory.getStandaloneConfiguration().getHostName()).isEqualTo("redis-prod");
+        assertThat(lettuceFactory.getStandaloneConfiguration().getPort()).isEqualTo(6380);
     }
 
     @Test
@@ -183,7 +335,7 @@ class CacheConfigTest {
     @DisplayName("Should configure RedisTemplate with default serializer enabled")
     void shouldConfigureRedisTemplateWithDefaultSerializerEnabled() {
         // Given
-        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory();
+        RedisConnectionFactory connectionFactory = cacheConfig.redisConnectionFactory(clientConfiguration);
         
         // When
         RedisTemplate<String, Object> redisTemplate = cacheConfig.redisTemplate(connectionFactory);
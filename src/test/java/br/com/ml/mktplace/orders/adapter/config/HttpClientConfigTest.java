@@ -2,6 +2,7 @@ package br.com.ml.mktplace.orders.adapter.config;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,7 +48,7 @@ class HttpClientConfigTest {
     @DisplayName("Should create RestTemplate with correct configuration")
     void shouldCreateRestTemplateWithCorrectConfiguration() {
         // When
-        RestTemplate restTemplate = httpClientConfig.restTemplate(meterRegistry);
+        RestTemplate restTemplate = httpClientConfig.restTemplate(meterRegistry, ObservationRegistry.NOOP);
         
         // Then
         assertNotNull(restTemplate);
@@ -85,7 +86,7 @@ class HttpClientConfigTest {
     @DisplayName("Should create Distribution Center RestTemplate")
     void shouldCreateDistributionCenterRestTemplate() {
         // When
-        RestTemplate restTemplate = httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry);
+        RestTemplate restTemplate = httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry, ObservationRegistry.NOOP);
         
         // Then
         assertNotNull(restTemplate);
@@ -170,8 +171,8 @@ class HttpClientConfigTest {
     @DisplayName("Should create different beans for different methods")
     void shouldCreateDifferentBeansForDifferentMethods() {
         // When
-        RestTemplate defaultTemplate = httpClientConfig.restTemplate(meterRegistry);
-        RestTemplate dcTemplate = httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry);
+        RestTemplate defaultTemplate = httpClientConfig.restTemplate(meterRegistry, ObservationRegistry.NOOP);
+        RestTemplate dcTemplate = httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry, ObservationRegistry.NOOP);
         
         HttpClientConfig.DevelopmentHttpConfig devConfig = new HttpClientConfig.DevelopmentHttpConfig();
         HttpClientConfig.ProductionHttpConfig prodConfig = new HttpClientConfig.ProductionHttpConfig();
@@ -230,10 +231,10 @@ class HttpClientConfigTest {
         HttpClientConfig.ProductionHttpConfig prodConfig = new HttpClientConfig.ProductionHttpConfig();
         
         // When & Then - All should create beans without throwing exceptions
-        assertNotNull(httpClientConfig.restTemplate(meterRegistry));
+        assertNotNull(httpClientConfig.restTemplate(meterRegistry, ObservationRegistry.NOOP));
         assertNotNull(httpClientConfig.clientHttpRequestFactory());
         assertNotNull(httpClientConfig.httpRetryTemplate());
-        assertNotNull(httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry));
+        assertNotNull(httpClientConfig.distributionCenterRestTemplate(3000, 5000, meterRegistry, ObservationRegistry.NOOP));
         assertNotNull(httpClientConfig.distributionCenterRetryTemplate(5, 500L));
         
         assertNotNull(devConfig.developmentRestTemplate());
@@ -0,0 +1,34 @@
+package br.com.ml.mktplace.orders.adapter.config.jfr;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JfrRecordingSettings Tests")
+class JfrRecordingSettingsTest {
+
+    @Test
+    @DisplayName("Should keep environment variables and system properties out of recordings")
+    void shouldDisableInitialEnvironmentEvents() {
+        Map<String, String> settings = JfrRecordingSettings.tuned(Duration.ZERO, Duration.ofMillis(1));
+
+        assertThat(settings)
+                .containsEntry("jdk.InitialEnvironmentVariable#enabled", "false")
+                .containsEntry("jdk.InitialSystemProperty#enabled", "false");
+    }
+
+    @Test
+    @DisplayName("Should enable order pipeline events with their thresholds")
+    void shouldEnablePipelineEvents() {
+        Map<String, String> settings = JfrRecordingSettings.tuned(Duration.ZERO, Duration.ofMillis(1));
+
+        assertThat(settings)
+                .containsEntry("br.com.ml.mktplace.orders.OrderStage#enabled", "true")
+                .containsEntry("br.com.ml.mktplace.orders.OrderStage#threshold", "0 ms")
+                .containsEntry("br.com.ml.mktplace.orders.CacheOperation#threshold", "1 ms");
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.ml.mktplace.orders.adapter.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoggingMetricsBinder Tests")
+class LoggingMetricsBinderTest {
+
+    @Test
+    @DisplayName("Should drop events without blocking when the ring buffer is full and expose the drop count")
+    void shouldCountDroppedEvents() throws InterruptedException {
+        LoggerContext context = new LoggerContext();
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingAppender delegate = new BlockingAppender(release);
+        delegate.setContext(context);
+        delegate.start();
+
+        LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+        async.setContext(context);
+        async.setName("ASYNC_TEST_" + System.nanoTime());
+        async.setRingBufferSize(4);
+        async.setAppendTimeout(ch.qos.logback.core.util.Duration.buildByMilliseconds(0));
+        async.addListener(new DroppedLogEventsListener());
+        async.addAppender(delegate);
+        async.start();
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                async.doAppend(new LoggingEvent("test", context.getLogger("test"), Level.INFO, "item " + i, null, null));
+            }
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            new LoggingMetricsBinder().bindTo(registry);
+
+            FunctionCounter dropped = registry.get(LoggingMetricsBinder.LOG_EVENTS_DROPPED)
+                    .tag("appender", async.getName())
+                    .functionCounter();
+            assertThat(dropped.count()).isGreaterThan(0);
+        } finally {
+            release.countDown();
+            async.stop();
+        }
+    }
+
+    private static final class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch release;
+
+        BlockingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheMetrics Tests")
+class CacheMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private CacheMetrics cacheMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should derive bounded keyspace tags from key prefixes")
+    void shouldDeriveKeyspace() {
+        assertThat(CacheMetrics.keyspace("order:{01HQ}")).isEqualTo("order");
+        assertThat(CacheMetrics.keyspace("item-dc-availability:v3:{ITEM-1}")).isEqualTo("item-dc-availability");
+        assertThat(CacheMetrics.keyspace("item-dc-ranking:v1:abc:dp04rf")).isEqualTo("item-dc-ranking");
+        assertThat(CacheMetrics.keyspace("session:123")).isEqualTo("other");
+        assertThat(CacheMetrics.keyspace("nocolon")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("Should record latency, payload size and hit ratio per keyspace")
+    void shouldRecordPerKeyspace() {
+        cacheMetrics.recordGet("redis", "order:{1}", TimeUnit.MILLISECONDS.toNanos(2), true, 512);
+        cacheMetrics.recordGet("redis", "order:{2}", TimeUnit.MILLISECONDS.toNanos(1), false, 0);
+        cacheMetrics.recordGet("redis", "order:{3}", TimeUnit.MILLISECONDS.toNanos(1), true, 256);
+        cacheMetrics.recordPut("redis", "item-dc-availability:v3:{A}", TimeUnit.MILLISECONDS.toNanos(3), 40);
+
+        assertThat(registry.get("cache.operation.duration").tags("keyspace", "order", "op", "get").timer().count()).isEqualTo(3);
+        assertThat(registry.get("cache.operations.total").tags("keyspace", "order", "op", "hit").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("cache.payload.size").tags("keyspace", "order", "op", "get").summary().totalAmount()).isEqualTo(768.0);
+        assertThat(registry.get("cache.hit.ratio").tags("cache", "redis", "keyspace", "order").gauge().value()).isEqualTo(2.0 / 3.0);
+        assertThat(registry.get("cache.payload.size").tags("keyspace", "item-dc-availability", "op", "put").summary().max()).isEqualTo(40.0);
+        assertThat(registry.get("cache.hit.ratio").tags("keyspace", "item-dc-availability").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("Should count deserialization failures and evictions per keyspace")
+    void shouldCountFailuresAndEvictions() {
+        cacheMetrics.deserializationFailure("redis", "order:{1}");
+        cacheMetrics.recordEvict("redis", "order:{1}", 1_000);
+
+        assertThat(registry.get("cache.deserialization.failures").tag("keyspace", "order").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.operation.duration").tags("keyspace", "order", "op", "evict").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should compute UTF-8 length without encoding")
+    void shouldComputeUtf8Length() {
+        String value = "{\"city\":\"São Paulo\",\"emoji\":\"🚚\",\"cjk\":\"倉庫\"}";
+
+        assertThat(CacheMetrics.utf8Length(value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8).length);
+    }
+}
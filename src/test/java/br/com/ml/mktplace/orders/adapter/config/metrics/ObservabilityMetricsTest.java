@@ -0,0 +1,88 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ObservabilityMetrics Tests")
+class ObservabilityMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ObservabilityMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ObservabilityMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Should count DC selections per code on a single resolved counter")
+    void shouldCountDcSelectionsPerCode() {
+        metrics.incrementDcSelection("SP-01");
+        metrics.incrementDcSelection("SP-01");
+        metrics.incrementDcSelection(null);
+
+        assertThat(registry.get("distribution.centers.selected").tag("code", "SP-01").counters()).hasSize(1);
+        assertThat(registry.get("distribution.centers.selected").tag("code", "SP-01").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("distribution.centers.selected").tag("code", "UNKNOWN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fold DC codes beyond the cardinality limit into OTHER")
+    void shouldFoldCodesBeyondLimit() {
+        for (int i = 0; i < ObservabilityMetrics.MAX_DC_CODE_TAGS + 50; i++) {
+            metrics.incrementDcSelection("DC-" + i);
+        }
+        metrics.incrementDcSelection("DC-0");
+
+        assertThat(registry.get("distribution.centers.selected").counters())
+                .hasSize(ObservabilityMetrics.MAX_DC_CODE_TAGS + 1);
+        assertThat(registry.get("distribution.centers.selected").tag("code", ObservabilityMetrics.OTHER_DC_CODE).counter().count())
+                .isEqualTo(50.0);
+        assertThat(registry.get("distribution.centers.selected").tag("code", "DC-0").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should accumulate bulk reprocess outcomes")
+    void shouldAccumulateBulkReprocessOutcomes() {
+        metrics.incrementBulkReprocess("matched", 10);
+        metrics.incrementBulkReprocess("matched", 5);
+
+        assertThat(registry.get("orders.reprocess.bulk.orders").tag("outcome", "matched").counter().count()).isEqualTo(15.0);
+    }
+
+    @Test
+    @DisplayName("Should record end-to-end latency and classify completions against the SLO")
+    void shouldRecordEndToEndLatency() {
+        metrics.recordOrderCompletion(Instant.now().minusSeconds(2), OrderStatus.PROCESSED);
+        metrics.recordOrderCompletion(Instant.now().minusSeconds(120), OrderStatus.PROCESSED);
+        metrics.recordOrderCompletion(Instant.now(), OrderStatus.FAILED);
+        metrics.recordOrderCompletion(Instant.now(), OrderStatus.PROCESSING);
+
+        assertThat(registry.get("orders.e2e.latency").tag("status", "PROCESSED").timer().count()).isEqualTo(2);
+        assertThat(registry.get("orders.e2e.latency").tag("status", "FAILED").timer().count()).isEqualTo(1);
+        assertThat(registry.get("orders.e2e.slo.events").tag("result", "good").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("orders.e2e.slo.events").tag("result", "bad").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("orders.e2e.slo.burn.rate").gauge().value()).isCloseTo((2.0 / 3.0) / 0.01, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("Should record queue dwell time from the event timestamp")
+    void shouldRecordQueueDwell() {
+        metrics.recordQueueDwell(Instant.now().minusMillis(250));
+        metrics.recordQueueDwell(null);
+
+        assertThat(registry.get("orders.queue.dwell").timer().count()).isEqualTo(1);
+        assertThat(registry.get("orders.queue.dwell").timer().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(250.0);
+    }
+}
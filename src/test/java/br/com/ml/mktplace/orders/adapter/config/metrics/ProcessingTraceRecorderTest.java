@@ -0,0 +1,61 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProcessingTraceRecorder Tests")
+class ProcessingTraceRecorderTest {
+
+    private static ProcessingTrace trace(String orderId, long stageMillis) {
+        ProcessingTrace trace = new ProcessingTrace(orderId);
+        trace.record(ProcessingTrace.Stage.RANKING, TimeUnit.MILLISECONDS.toNanos(stageMillis), ProcessingTrace.Outcome.SUCCESS);
+        try {
+            Thread.sleep(stageMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        trace.finish(OrderStatus.PROCESSED);
+        return trace;
+    }
+
+    @Test
+    @DisplayName("Should return the slowest retained traces first")
+    void shouldReturnSlowestFirst() {
+        ProcessingTraceRecorder recorder = new ProcessingTraceRecorder(8);
+        recorder.record(trace("FAST", 1));
+        recorder.record(trace("SLOW", 30));
+        recorder.record(trace("MEDIUM", 10));
+
+        assertThat(recorder.slowest(2)).extracting(ProcessingTrace::getOrderId).containsExactly("SLOW", "MEDIUM");
+        assertThat(recorder.slowest(50)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep only the most recent traces up to capacity")
+    void shouldOverwriteOldestBeyondCapacity() {
+        ProcessingTraceRecorder recorder = new ProcessingTraceRecorder(2);
+        recorder.record(trace("OLD", 20));
+        recorder.record(trace("NEW-1", 1));
+        recorder.record(trace("NEW-2", 1));
+
+        assertThat(recorder.slowest(10)).extracting(ProcessingTrace::getOrderId).containsExactlyInAnyOrder("NEW-1", "NEW-2");
+    }
+
+    @Test
+    @DisplayName("Should accumulate repeated stages and keep errors sticky")
+    void shouldAccumulateStages() {
+        ProcessingTrace trace = new ProcessingTrace("ORDER-1");
+        trace.record(ProcessingTrace.Stage.AVAILABILITY, 100, ProcessingTrace.Outcome.SUCCESS);
+        trace.record(ProcessingTrace.Stage.AVAILABILITY, 50, ProcessingTrace.Outcome.ERROR);
+        trace.record(ProcessingTrace.Stage.AVAILABILITY, 25, ProcessingTrace.Outcome.SUCCESS);
+
+        assertThat(trace.getStageNanos()).containsEntry(ProcessingTrace.Stage.AVAILABILITY, 175L);
+        assertThat(trace.getStageOutcomes()).containsEntry(ProcessingTrace.Stage.AVAILABILITY, ProcessingTrace.Outcome.ERROR);
+    }
+}
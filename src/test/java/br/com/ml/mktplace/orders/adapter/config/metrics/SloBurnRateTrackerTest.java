@@ -0,0 +1,46 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SloBurnRateTracker Tests")
+class SloBurnRateTrackerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final SloBurnRateTracker tracker = new SloBurnRateTracker(0.99, Duration.ofMinutes(1), 6, now::get);
+
+    @Test
+    @DisplayName("Should report zero burn without events and one when failing exactly at the budget")
+    void shouldComputeBurnRate() {
+        assertThat(tracker.burnRate()).isZero();
+
+        for (int i = 0; i < 99; i++) {
+            tracker.record(true);
+        }
+        tracker.record(false);
+
+        assertThat(tracker.burnRate()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should forget events older than the window")
+    void shouldSlideWindow() {
+        for (int i = 0; i < 10; i++) {
+            tracker.record(false);
+        }
+        assertThat(tracker.burnRate()).isCloseTo(100.0, within(1e-9));
+
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+        tracker.record(true);
+        assertThat(tracker.burnRate()).isGreaterThan(50.0);
+
+        now.addAndGet(Duration.ofSeconds(45).toMillis());
+        assertThat(tracker.burnRate()).isZero();
+    }
+}
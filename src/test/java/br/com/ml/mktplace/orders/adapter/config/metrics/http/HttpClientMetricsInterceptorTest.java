@@ -0,0 +1,95 @@
+package br.com.ml.mktplace.orders.adapter.config.metrics.http;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HttpClientMetricsInterceptor Tests")
+class HttpClientMetricsInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private HttpClientMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new HttpClientMetricsInterceptor(registry, "distribution-centers-api");
+    }
+
+    @Test
+    @DisplayName("Should tag requests by URI template and status class reusing a single timer")
+    void shouldTagByTemplateAndStatusClass() throws IOException {
+        for (String itemId : new String[] {"MLB123", "MLB456", "MLB789"}) {
+            MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://dc/v1/items/" + itemId + "/centers"));
+            interceptor.intercept(request, new byte[0], (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)).close();
+        }
+
+        Timer timer = registry.get("external.http.client.requests")
+                .tags("service", "distribution-centers-api", "uri", "/v1/items/{id}/centers", "status", "2xx", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(registry.get("external.http.client.requests").timers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should record request and response bytes and body read time")
+    void shouldRecordTransferSizes() throws IOException {
+        byte[] payload = "[\"SP-01\",\"RJ-02\"]".getBytes(StandardCharsets.UTF_8);
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://dc/centers"));
+
+        ClientHttpResponse response = interceptor.intercept(request, new byte[42],
+                (req, body) -> new MockClientHttpResponse(payload, HttpStatus.OK));
+        try (InputStream in = response.getBody()) {
+            assertThat(in.readAllBytes()).isEqualTo(payload);
+        }
+        response.close();
+
+        assertThat(registry.get("external.http.client.request.size").tag("uri", "/centers").summary().totalAmount()).isEqualTo(42.0);
+        assertThat(registry.get("external.http.client.response.size").tag("uri", "/centers").summary().totalAmount()).isEqualTo(payload.length);
+        assertThat(registry.get("external.http.client.response.body").tag("uri", "/centers").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should tag I/O failures with the exception name")
+    void shouldTagIoFailures() {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://dc/centers"));
+
+        assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (req, body) -> {
+            throw new ConnectException("refused");
+        })).isInstanceOf(ConnectException.class);
+
+        assertThat(registry.get("external.http.client.requests")
+                .tags("status", "IO_ERROR", "outcome", "IO_ERROR", "exception", "ConnectException").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should normalize identifier segments and cap distinct templates")
+    void shouldNormalizeAndCapTemplates() {
+        assertThat(UriTemplateNormalizer.templateOf("/v2/orders/01HQZX3Y4K5M6N7P8Q9R0S1T2V/items")).isEqualTo("/v2/orders/{id}/items");
+        assertThat(UriTemplateNormalizer.templateOf("/distributioncenters")).isEqualTo("/distributioncenters");
+        assertThat(UriTemplateNormalizer.templateOf("/geocode/abcdefghijklmnopqrstuvwxyz")).isEqualTo("/geocode/{id}");
+
+        UriTemplateNormalizer normalizer = new UriTemplateNormalizer(2);
+        normalizer.normalize("/a");
+        normalizer.normalize("/b");
+
+        assertThat(normalizer.normalize("/c")).isEqualTo(UriTemplateNormalizer.OTHER);
+        assertThat(normalizer.normalize("/a")).isEqualTo("/a");
+    }
+}
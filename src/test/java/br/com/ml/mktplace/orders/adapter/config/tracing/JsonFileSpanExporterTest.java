@@ -0,0 +1,73 @@
+package br.com.ml.mktplace.orders.adapter.config.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonFileSpanExporter Tests")
+class JsonFileSpanExporterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should write one JSON line per span keeping the parent link")
+    void shouldWriteSpansAsJsonLines() throws Exception {
+        Path file = dir.resolve("traces/spans.jsonl");
+        JsonFileSpanExporter exporter = new JsonFileSpanExporter(objectMapper, file, 1024 * 1024);
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = provider.get("test");
+            Span parent = tracer.spanBuilder("kafka send").startSpan();
+            try (Scope ignored = parent.makeCurrent()) {
+                tracer.spanBuilder("process-order").setAttribute("order.id", "01ABC").startSpan().end();
+            }
+            parent.end();
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        JsonNode child = objectMapper.readTree(lines.get(0));
+        JsonNode parent = objectMapper.readTree(lines.get(1));
+        assertThat(child.get("name").asText()).isEqualTo("process-order");
+        assertThat(child.get("traceId").asText()).isEqualTo(parent.get("traceId").asText());
+        assertThat(child.get("parentSpanId").asText()).isEqualTo(parent.get("spanId").asText());
+        assertThat(child.get("attributes").get("order.id").asText()).isEqualTo("01ABC");
+        assertThat(parent.has("parentSpanId")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should roll the file to a single backup when exceeding max size")
+    void shouldRollFile() throws Exception {
+        Path file = dir.resolve("spans.jsonl");
+        JsonFileSpanExporter exporter = new JsonFileSpanExporter(objectMapper, file, 200);
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()) {
+            Tracer tracer = provider.get("test");
+            for (int i = 0; i < 5; i++) {
+                tracer.spanBuilder("span-" + i).startSpan().end();
+            }
+        }
+
+        assertThat(file).exists();
+        assertThat(dir.resolve("spans.jsonl.1")).exists();
+        assertThat(Files.readAllLines(file)).last().asString().contains("span-4");
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.ml.mktplace.orders.adapter.inbound.actuator;
+
+import br.com.ml.mktplace.orders.adapter.config.jfr.JfrProcessingObserver;
+import br.com.ml.mktplace.orders.domain.model.ProcessingTrace;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrRecordingEndpoint Tests")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null) {
+            endpoint.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record order stage events and expose the file for download after stop")
+    void shouldRecordAndDownload() throws Exception {
+        endpoint = endpoint(2);
+
+        JfrRecordingEndpoint.RecordingStatus started = endpoint.start(Duration.ofMinutes(1));
+        assertThat(started.running()).isTrue();
+        assertThatThrownBy(() -> endpoint.start(null)).isInstanceOf(InvalidEndpointRequestException.class);
+
+        ProcessingTrace trace = new ProcessingTrace("01JFRTEST", new JfrProcessingObserver());
+        trace.time(ProcessingTrace.Stage.GEOCODING, () -> "done");
+
+        JfrRecordingEndpoint.RecordingStatus stopped = endpoint.stop();
+        assertThat(stopped.running()).isFalse();
+        assertThat(stopped.files()).extracting(JfrRecordingEndpoint.RecordingFile::name).containsExactly(started.file());
+
+        Resource resource = endpoint.download(started.file());
+        assertThat(resource).isNotNull();
+        List<RecordedEvent> stages = RecordingFile.readAllEvents(resource.getFile().toPath()).stream()
+                .filter(e -> e.getEventType().getName().equals("br.com.ml.mktplace.orders.OrderStage"))
+                .toList();
+        assertThat(stages).anySatisfy(e -> {
+            assertThat(e.getString("orderId")).isEqualTo("01JFRTEST");
+            assertThat(e.getString("stage")).isEqualTo("GEOCODING");
+            assertThat(e.getString("outcome")).isEqualTo("SUCCESS");
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep both recordings when a stop is followed by a start in the same second")
+    void shouldNotOverwriteBackToBackRecordings() throws Exception {
+        endpoint = endpoint(5);
+
+        String first = endpoint.start(Duration.ofMinutes(1)).file();
+        endpoint.stop();
+        String second = endpoint.start(Duration.ofMinutes(1)).file();
+        JfrRecordingEndpoint.RecordingStatus stopped = endpoint.stop();
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(stopped.files()).extracting(JfrRecordingEndpoint.RecordingFile::name)
+                .containsExactly(second, first);
+    }
+
+    @Test
+    @DisplayName("Should reject file names outside the recording pattern")
+    void shouldRejectUnknownFiles() {
+        endpoint = endpoint(2);
+
+        assertThat(endpoint.download("../application.properties")).isNull();
+        assertThat(endpoint.download("orders-20260101T000000000Z.jfr")).isNull();
+        assertThat(endpoint.status().running()).isFalse();
+    }
+
+    private JfrRecordingEndpoint endpoint(int retainedFiles) {
+        return new JfrRecordingEndpoint(dir, Duration.ofMinutes(5), Duration.ofMinutes(30),
+                DataSize.ofMegabytes(50), retainedFiles, Duration.ZERO, Duration.ofMillis(1));
+    }
+}
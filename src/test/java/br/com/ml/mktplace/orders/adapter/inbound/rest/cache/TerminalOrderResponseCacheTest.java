@@ -0,0 +1,134 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.cache;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.CacheMetrics;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache.CachedResponse;
+import br.com.ml.mktplace.orders.adapter.outbound.notification.RedisOrderStatusNotifier;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TerminalOrderResponseCache Tests")
+class TerminalOrderResponseCacheTest {
+
+    private final RedisOrderStatusNotifier notifier = new RedisOrderStatusNotifier(null, Runnable::run, "pod-a");
+    private final TerminalOrderResponseCache cache = new TerminalOrderResponseCache(notifier,
+            new CacheMetrics(new SimpleMeterRegistry()), 2, Duration.ofMinutes(10));
+
+    @Test
+    @DisplayName("Should cache only terminal orders")
+    void shouldCacheOnlyTerminalOrders() {
+        cache.put("ORDER-1", cache.reserve("ORDER-1"), response(OrderStatus.PROCESSED, "{\"a\":1}"));
+        cache.put("ORDER-2", cache.reserve("ORDER-2"), response(OrderStatus.PROCESSING, "{\"a\":2}"));
+
+        assertThat(cache.get("ORDER-1")).isNotNull();
+        assertThat(cache.get("ORDER-2")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should discard a load when the order changed status while it was being read")
+    void shouldDiscardLoadInvalidatedByStatusChange() {
+        Object reservation = cache.reserve("ORDER-1");
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSING);
+
+        cache.put("ORDER-1", reservation, response(OrderStatus.FAILED, "{}"));
+
+        assertThat(cache.get("ORDER-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict a cached order when it is reprocessed")
+    void shouldEvictOnStatusChange() {
+        cache.put("ORDER-1", cache.reserve("ORDER-1"), response(OrderStatus.FAILED, "{}"));
+
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSING);
+
+        assertThat(cache.get("ORDER-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not let reservations for non-terminal or missing orders push out cached entries")
+    void shouldNotEvictOnNonTerminalLoads() {
+        cache.put("ORDER-1", cache.reserve("ORDER-1"), response(OrderStatus.PROCESSED, "{}"));
+        cache.put("ORDER-2", cache.reserve("ORDER-2"), response(OrderStatus.FAILED, "{}"));
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("ACTIVE-" + i, cache.reserve("ACTIVE-" + i), response(OrderStatus.PROCESSING, "{}"));
+            cache.release("MISSING-" + i, cache.reserve("MISSING-" + i));
+        }
+        cache.reserve("ORDER-3");
+
+        assertThat(cache.get("ORDER-1")).isNotNull();
+        assertThat(cache.get("ORDER-2")).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently read entry when over capacity")
+    void shouldEvictLeastRecentlyUsedOverCapacity() {
+        cache.put("ORDER-1", cache.reserve("ORDER-1"), response(OrderStatus.PROCESSED, "{}"));
+        cache.put("ORDER-2", cache.reserve("ORDER-2"), response(OrderStatus.PROCESSED, "{}"));
+        assertThat(cache.get("ORDER-1")).isNotNull();
+
+        cache.put("ORDER-3", cache.reserve("ORDER-3"), response(OrderStatus.PROCESSED, "{}"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("ORDER-2")).isNull();
+        assertThat(cache.get("ORDER-1")).isNotNull();
+        assertThat(cache.get("ORDER-3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should sample eviction candidates across the whole map, not from the first buckets only")
+    void shouldSampleEvictionCandidatesAcrossTheMap() {
+        int capacity = 256;
+        TerminalOrderResponseCache bounded = new TerminalOrderResponseCache(notifier,
+                new CacheMetrics(new SimpleMeterRegistry()), capacity, Duration.ofMinutes(10));
+        for (int i = 0; i < capacity; i++) {
+            bounded.put("OLD-" + i, bounded.reserve("OLD-" + i), response(OrderStatus.PROCESSED, "{}"));
+        }
+        for (int i = 0; i < capacity; i++) {
+            bounded.put("NEW-" + i, bounded.reserve("NEW-" + i), response(OrderStatus.PROCESSED, "{}"));
+            bounded.get("NEW-" + i);
+        }
+
+        long oldSurvivors = java.util.stream.IntStream.range(0, capacity)
+                .filter(i -> bounded.get("OLD-" + i) != null)
+                .count();
+        assertThat(bounded.size()).isEqualTo(capacity);
+        assertThat(oldSurvivors).isLessThan(capacity / 4);
+    }
+
+    @Test
+    @DisplayName("Should keep an entry stored by another load when a failed load releases its reservation")
+    void shouldReleaseOnlyOwnReservation() {
+        Object failed = cache.reserve("ORDER-1");
+        cache.evict("ORDER-1");
+        cache.put("ORDER-1", cache.reserve("ORDER-1"), response(OrderStatus.PROCESSED, "{}"));
+
+        cache.release("ORDER-1", failed);
+
+        assertThat(cache.get("ORDER-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should derive the ETag from status and content")
+    void shouldDeriveEtagFromStatusAndContent() {
+        CachedResponse processed = response(OrderStatus.PROCESSED, "{\"a\":1}");
+
+        assertThat(processed.etag()).startsWith("\"PROCESSED-").endsWith("\"");
+        assertThat(response(OrderStatus.PROCESSED, "{\"a\":1}").etag()).isEqualTo(processed.etag());
+        assertThat(response(OrderStatus.PROCESSED, "{\"a\":2}").etag()).isNotEqualTo(processed.etag());
+        assertThat(response(OrderStatus.FAILED, "{\"a\":1}").etag()).isNotEqualTo(processed.etag());
+    }
+
+    private static CachedResponse response(OrderStatus status, String json) {
+        return CachedResponse.of(status, json.getBytes(StandardCharsets.UTF_8));
+    }
+}
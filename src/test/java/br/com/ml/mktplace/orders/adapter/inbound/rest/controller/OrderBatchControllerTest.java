@@ -0,0 +1,96 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderCommand;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = OrderBatchController.class)
+@Import(OrderRestMapper.class)
+class OrderBatchControllerTest {
+
+    private static final String VALID_ORDER = "{\"customerId\":\"CUST-1\","
+            + "\"items\":[{\"itemId\":\"IT-1\",\"quantity\":2}],"
+            + "\"deliveryAddress\":{\"street\":\"Rua A\",\"number\":\"10\",\"city\":\"Cidade\","
+            + "\"state\":\"SP\",\"country\":\"BR\",\"zipCode\":\"12345-678\"}}";
+
+    private static final String ORDER_WITH_COORDINATES = "{\"customerId\":\"CUST-2\","
+            + "\"items\":[{\"itemId\":\"IT-2\",\"quantity\":1}],"
+            + "\"deliveryAddress\":{\"street\":\"Rua B\",\"number\":\"20\",\"city\":\"Cidade\","
+            + "\"state\":\"SP\",\"country\":\"BR\",\"zipCode\":\"12345-678\","
+            + "\"coordinates\":{\"latitude\":-10.0,\"longitude\":-50.0}}}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Test
+    @DisplayName("Should answer 201 when every order in the batch is created")
+    void shouldCreateWholeBatch() throws Exception {
+        when(createOrderUseCase.createOrders(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        mockMvc.perform(post("/v1/orders:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[" + VALID_ORDER + "," + VALID_ORDER + "]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].order.customerId").value("CUST-1"));
+    }
+
+    @Test
+    @DisplayName("Should answer 207 and keep request order when some orders are rejected")
+    void shouldReportPartialSuccess() throws Exception {
+        when(createOrderUseCase.createOrders(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        mockMvc.perform(post("/v1/orders:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[" + ORDER_WITH_COORDINATES + "," + VALID_ORDER + ",{\"items\":[]}]}"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[0].error").value("deliveryAddress.coordinates must not be provided"))
+                .andExpect(jsonPath("$.results[1].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.results[2].status").value("REJECTED"));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for an empty batch without calling the use case")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/v1/orders:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(createOrderUseCase);
+    }
+
+    private static List<CreateOrderResult> created(List<CreateOrderCommand> commands) {
+        return commands.stream()
+                .map(c -> CreateOrderResult.created(new Order(c.customerId(), c.items(), c.deliveryAddress())))
+                .toList();
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache.CachedResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderResponseJsonWriter;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
+import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = OrderController.class)
+class OrderControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateOrderUseCase createOrderUseCase;
+
+    @MockBean
+    private QueryOrderUseCase queryOrderUseCase;
+
+    @MockBean
+    private OrderRestMapper mapper;
+
+    @MockBean
+    private OrderResponseJsonWriter responseWriter;
+
+    @MockBean
+    private TerminalOrderResponseCache responseCache;
+
+    @Test
+    @DisplayName("Should serve cached terminal orders without touching the use case")
+    void shouldServeCachedBytes() throws Exception {
+        CachedResponse cached = CachedResponse.of(OrderStatus.PROCESSED,
+                "{\"id\":\"ORDER-1\",\"status\":\"PROCESSED\"}".getBytes(StandardCharsets.UTF_8));
+        when(responseCache.get("ORDER-1")).thenReturn(cached);
+
+        mockMvc.perform(get("/v1/orders/ORDER-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cached.etag()))
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(content().json("{\"id\":\"ORDER-1\",\"status\":\"PROCESSED\"}"));
+
+        Mockito.verifyNoInteractions(queryOrderUseCase, mapper, responseWriter);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when If-None-Match matches the current ETag")
+    void shouldAnswerNotModified() throws Exception {
+        CachedResponse cached = CachedResponse.of(OrderStatus.FAILED, "{}".getBytes(StandardCharsets.UTF_8));
+        when(responseCache.get("ORDER-1")).thenReturn(cached);
+
+        mockMvc.perform(get("/v1/orders/ORDER-1").header(HttpHeaders.IF_NONE_MATCH, cached.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Should load, serialize and offer the response to the cache on a miss")
+    void shouldLoadAndCacheOnMiss() throws Exception {
+        Order order = mock(Order.class);
+        when(order.getStatus()).thenReturn(OrderStatus.PROCESSING);
+        Object reservation = new Object();
+        when(responseCache.reserve("ORDER-2")).thenReturn(reservation);
+        when(queryOrderUseCase.getOrderByIdRequired("ORDER-2")).thenReturn(order);
+        when(responseWriter.toJsonBytes(order)).thenReturn("{\"id\":\"ORDER-2\"}".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/v1/orders/ORDER-2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().json("{\"id\":\"ORDER-2\"}"));
+
+        verify(responseCache).put(eq("ORDER-2"), eq(reservation), any(CachedResponse.class));
+    }
+}
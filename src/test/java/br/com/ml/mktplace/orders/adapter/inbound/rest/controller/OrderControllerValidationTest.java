@@ -1,5 +1,7 @@
 package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
 
+import br.com.ml.mktplace.orders.adapter.inbound.rest.cache.TerminalOrderResponseCache;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderResponseJsonWriter;
 import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
 import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase;
 import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
@@ -31,6 +33,12 @@ class OrderControllerValidationTest {
     @MockBean
     private OrderRestMapper mapper;
 
+    @MockBean
+    private OrderResponseJsonWriter responseWriter;
+
+    @MockBean
+    private TerminalOrderResponseCache responseCache;
+
     @Test
     @DisplayName("Should reject order creation when coordinates are provided in deliveryAddress")
     void shouldRejectCoordinatesOnCreate() throws Exception {
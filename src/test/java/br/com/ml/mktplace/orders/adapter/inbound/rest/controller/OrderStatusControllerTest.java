@@ -0,0 +1,137 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.controller;
+
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusBatchRequest;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusBatchResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.dto.OrderStatusResponse;
+import br.com.ml.mktplace.orders.adapter.inbound.rest.mapper.OrderRestMapper;
+import br.com.ml.mktplace.orders.adapter.outbound.notification.RedisOrderStatusNotifier;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderNotFoundException;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.model.OrderStatusSnapshot;
+import br.com.ml.mktplace.orders.domain.port.QueryOrderUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderStatusController Tests")
+class OrderStatusControllerTest {
+
+    private final QueryOrderUseCase queryOrderUseCase = mock(QueryOrderUseCase.class);
+    private final OrderRestMapper mapper = mock(OrderRestMapper.class);
+    private final RedisOrderStatusNotifier notifier = new RedisOrderStatusNotifier(null, Runnable::run, "pod-a");
+    private final OrderStatusController controller = new OrderStatusController(queryOrderUseCase, notifier, mapper,
+            Duration.ofSeconds(20), Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        when(mapper.toResponse(any(Order.class))).thenReturn(new OrderResponse());
+    }
+
+    @Test
+    @DisplayName("Should answer immediately when the order already reached the requested status")
+    void shouldAnswerImmediatelyWhenReached() {
+        Order processed = order(OrderStatus.PROCESSED);
+        when(queryOrderUseCase.getOrderByIdRequired("ORDER-1")).thenReturn(processed);
+
+        DeferredResult<ResponseEntity<OrderResponse>> result = controller.waitForStatus("ORDER-1", OrderStatus.PROCESSED, null, "corr-1");
+
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ResponseEntity<?>) result.getResult()).getHeaders().getFirst("X-Correlation-ID")).isEqualTo("corr-1");
+    }
+
+    @Test
+    @DisplayName("Should hold the request until the notifier signals the target status")
+    void shouldCompleteOnNotification() {
+        Order received = order(OrderStatus.RECEIVED);
+        Order processed = order(OrderStatus.PROCESSED);
+        when(queryOrderUseCase.getOrderByIdRequired("ORDER-1")).thenReturn(received, processed);
+
+        DeferredResult<ResponseEntity<OrderResponse>> result = controller.waitForStatus("ORDER-1", OrderStatus.PROCESSED, 5_000L, null);
+        assertThat(result.hasResult()).isFalse();
+
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSING);
+        assertThat(result.hasResult()).isFalse();
+
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSED);
+        assertThat(result.hasResult()).isTrue();
+        verify(queryOrderUseCase, times(2)).getOrderByIdRequired("ORDER-1");
+    }
+
+    @Test
+    @DisplayName("Should release the subscription when the order does not exist")
+    void shouldUnsubscribeWhenOrderIsMissing() {
+        when(queryOrderUseCase.getOrderByIdRequired("ORDER-X")).thenThrow(new OrderNotFoundException("ORDER-X"));
+
+        assertThatThrownBy(() -> controller.waitForStatus("ORDER-X", OrderStatus.PROCESSED, null, null))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThatThrownBy(() -> controller.streamStatus("ORDER-X"))
+                .isInstanceOf(OrderNotFoundException.class);
+        notifier.statusChanged("ORDER-X", OrderStatus.PROCESSED);
+        verify(queryOrderUseCase, times(2)).getOrderByIdRequired("ORDER-X");
+    }
+
+    @Test
+    @DisplayName("Should treat later and final statuses as reached and cap the wait timeout")
+    void shouldEvaluateTargetsAndTimeouts() {
+        assertThat(OrderStatusController.reached(OrderStatus.FAILED, OrderStatus.PROCESSED)).isTrue();
+        assertThat(OrderStatusController.reached(OrderStatus.PROCESSED, OrderStatus.PROCESSING)).isTrue();
+        assertThat(OrderStatusController.reached(OrderStatus.PROCESSING, OrderStatus.PROCESSED)).isFalse();
+        assertThat(OrderStatusController.reached(OrderStatus.RECEIVED, OrderStatus.PROCESSING)).isFalse();
+
+        assertThat(controller.waitTimeoutMillis(null)).isEqualTo(20_000);
+        assertThat(controller.waitTimeoutMillis(120_000L)).isEqualTo(30_000);
+        assertThat(controller.waitTimeoutMillis(-5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return only the status without loading the order")
+    void shouldReturnStatusOnly() {
+        Instant updatedAt = Instant.parse("2025-01-10T12:00:00Z");
+        when(queryOrderUseCase.getOrderStatusRequired("ORDER-1"))
+                .thenReturn(new OrderStatusSnapshot("ORDER-1", OrderStatus.PROCESSING, updatedAt));
+
+        ResponseEntity<OrderStatusResponse> response = controller.getOrderStatus("ORDER-1", "corr-1");
+
+        assertThat(response.getBody().getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        assertThat(response.getBody().getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(response.getHeaders().getFirst("X-Correlation-ID")).isEqualTo("corr-1");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        verify(queryOrderUseCase, times(0)).getOrderByIdRequired(any());
+    }
+
+    @Test
+    @DisplayName("Should answer a status batch in request order and list unknown IDs")
+    void shouldAnswerStatusBatch() {
+        List<String> ids = List.of("ORDER-2", "ORDER-X", "ORDER-1", "ORDER-2");
+        when(queryOrderUseCase.getOrderStatuses(ids)).thenReturn(List.of(
+                new OrderStatusSnapshot("ORDER-2", OrderStatus.PROCESSED, Instant.now()),
+                new OrderStatusSnapshot("ORDER-1", OrderStatus.RECEIVED, Instant.now())));
+
+        OrderStatusBatchResponse body = controller.getOrderStatuses(new OrderStatusBatchRequest(ids), null).getBody();
+
+        assertThat(body.getStatuses()).extracting(OrderStatusResponse::getId).containsExactly("ORDER-2", "ORDER-1");
+        assertThat(body.getNotFound()).containsExactly("ORDER-X");
+    }
+
+    private static Order order(OrderStatus status) {
+        Order order = mock(Order.class);
+        when(order.getStatus()).thenReturn(status);
+        return order;
+    }
+}
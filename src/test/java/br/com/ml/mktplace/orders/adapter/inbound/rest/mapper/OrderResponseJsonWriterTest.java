@@ -0,0 +1,114 @@
+package br.com.ml.mktplace.orders.adapter.inbound.rest.mapper;
+
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderResponseJsonWriter Tests")
+class OrderResponseJsonWriterTest {
+
+    private final OrderRestMapper mapper = new OrderRestMapper();
+
+    @Test
+    @DisplayName("Should write the same bytes as the DTO + Jackson path")
+    void shouldMatchDtoSerialization() throws Exception {
+        ObjectMapper objectMapper = bootDefaults().build();
+        OrderResponseJsonWriter writer = new OrderResponseJsonWriter(objectMapper, mapper);
+        Order order = order();
+        assertThat(writer.isStreaming()).isTrue();
+
+        String expected = objectMapper.writeValueAsString(mapper.toResponse(order));
+
+        assertThat(new String(writer.toJsonBytes(order), StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(expected).contains("\"distanceKm\":1.01", "\"distanceKm\":0.00", "\"distanceKm\":12.30");
+    }
+
+    @Test
+    @DisplayName("Should keep the wire format with NON_NULL inclusion and pretty printing")
+    void shouldMatchDtoSerializationWithCustomizedMapper() throws Exception {
+        ObjectMapper objectMapper = bootDefaults()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .indentOutput(true)
+                .build();
+        OrderResponseJsonWriter writer = new OrderResponseJsonWriter(objectMapper, mapper);
+        Order order = order();
+        assertThat(writer.isStreaming()).isTrue();
+
+        assertThat(writer.toJsonBytes(order)).isEqualTo(objectMapper.writeValueAsBytes(mapper.toResponse(order)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the DTO path when the mapper writes dates as timestamps")
+    void shouldFallBackWhenFormatDiffers() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        OrderResponseJsonWriter writer = new OrderResponseJsonWriter(objectMapper, mapper);
+        Order order = order();
+        assertThat(writer.isStreaming()).isFalse();
+
+        assertThat(writer.toJsonBytes(order)).isEqualTo(objectMapper.writeValueAsBytes(mapper.toResponse(order)));
+    }
+
+    @Test
+    @DisplayName("Should format distances exactly like BigDecimal.setScale(2, HALF_UP)")
+    void shouldFormatLikeBigDecimal() {
+        char[] buffer = new char[24];
+        SplittableRandom random = new SplittableRandom(42);
+        double[] edges = {0.0, -0.0, 0.005, 0.004, 1.005, 2.675, 9.995, 99.999, -0.001, -1.005, 1234567.895, 0.1, 5e-5, -5e-5, 9.99e-4, 0.001, 0.0049999};
+        for (double value : edges) {
+            assertFormatted(value, buffer);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            double value = random.nextDouble(-20_000, 20_000);
+            assertFormatted(value, buffer);
+            assertFormatted(Math.round(value * 1000) / 1000.0, buffer);
+        }
+    }
+
+    /**
+     * Mesma base do ObjectMapper do Spring Boot (JacksonAutoConfiguration desliga datas como timestamp)
+     */
+    private static Jackson2ObjectMapperBuilder bootDefaults() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static void assertFormatted(double value, char[] buffer) {
+        int length = OrderResponseJsonWriter.formatScale2(value, buffer);
+        assertThat(new String(buffer, 0, length))
+                .as("formatting %s", value)
+                .isEqualTo(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toString());
+    }
+
+    private static Order order() {
+        Address address = new Address("Av. Paulista", "1000", "São Paulo", "SP", "BR", "01310-100",
+                new Address.Coordinates(new BigDecimal("-23.5613"), new BigDecimal("-46.656500")));
+        OrderItem first = new OrderItem("ITEM-1", 2);
+        first.setAvailableDistributionCenters(List.of(
+                new NearbyDistributionCenter("SP-001", 1.005),
+                new NearbyDistributionCenter("RJ-001", 12.3)));
+        OrderItem second = new OrderItem("ITEM-\"2\"", 3);
+        second.setAvailableDistributionCenters(List.of(new NearbyDistributionCenter("SP-002", 0.0)));
+        OrderItem third = new OrderItem("ITEM-3", 1);
+        return new Order("01HKG6RXRZ8N9QQP8VQXK7PXJY", "CUST-1", List.of(first, second, third), address,
+                OrderStatus.PROCESSED, Instant.parse("2025-01-10T12:00:00.123456Z"));
+    }
+}
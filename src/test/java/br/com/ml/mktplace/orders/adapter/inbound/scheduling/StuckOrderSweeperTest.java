@@ -0,0 +1,87 @@
+package br.com.ml.mktplace.orders.adapter.inbound.scheduling;
+
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StuckOrderSweeper Tests")
+class StuckOrderSweeperTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProcessOrderUseCase processOrderUseCase;
+
+    private StuckOrderSweeper sweeper;
+
+    @AfterEach
+    void tearDown() {
+        if (sweeper != null) {
+            sweeper.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep claiming while batches come back full")
+    void shouldClaimUntilPartialBatch() {
+        when(orderRepository.claimStuckOrders(2))
+            .thenReturn(List.of("ORDER-1", "ORDER-2"), List.of("ORDER-3"));
+        sweeper = new StuckOrderSweeper(orderRepository, processOrderUseCase, 2, 2, 10);
+
+        sweeper.sweep();
+
+        verify(orderRepository, times(2)).claimStuckOrders(2);
+        verify(processOrderUseCase).recoverStuckOrder("ORDER-1");
+        verify(processOrderUseCase).recoverStuckOrder("ORDER-2");
+        verify(processOrderUseCase).recoverStuckOrder("ORDER-3");
+    }
+
+    @Test
+    @DisplayName("Should stop after max batches per run")
+    void shouldStopAtMaxBatches() {
+        when(orderRepository.claimStuckOrders(1)).thenReturn(List.of("ORDER-1"), List.of("ORDER-2"), List.of("ORDER-3"));
+        sweeper = new StuckOrderSweeper(orderRepository, processOrderUseCase, 1, 1, 2);
+
+        sweeper.sweep();
+
+        verify(orderRepository, times(2)).claimStuckOrders(1);
+        verify(processOrderUseCase, never()).recoverStuckOrder("ORDER-3");
+    }
+
+    @Test
+    @DisplayName("Should recover remaining orders when one recovery fails")
+    void shouldIsolateRecoveryFailures() {
+        when(orderRepository.claimStuckOrders(10)).thenReturn(List.of("ORDER-1", "ORDER-2"));
+        when(processOrderUseCase.recoverStuckOrder("ORDER-1"))
+            .thenThrow(new ProcessOrderUseCase.ProcessOrderException("ORDER-1", "boom"));
+        sweeper = new StuckOrderSweeper(orderRepository, processOrderUseCase, 10, 2, 5);
+
+        assertThatCode(sweeper::sweep).doesNotThrowAnyException();
+
+        verify(processOrderUseCase).recoverStuckOrder("ORDER-2");
+    }
+
+    @Test
+    @DisplayName("Should not fail the scheduler when claiming fails")
+    void shouldSwallowClaimFailure() {
+        when(orderRepository.claimStuckOrders(anyInt())).thenThrow(new IllegalStateException("db down"));
+        sweeper = new StuckOrderSweeper(orderRepository, processOrderUseCase, 10, 2, 5);
+
+        assertThatCode(sweeper::sweep).doesNotThrowAnyException();
+
+        verifyNoInteractions(processOrderUseCase);
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.ml.mktplace.orders.adapter.outbound.cache;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheKeys Tests")
+class CacheKeysTest {
+
+    @Test
+    @DisplayName("Should wrap entity IDs in a hash tag")
+    void shouldWrapIdsInHashTag() {
+        assertThat(CacheKeys.order("01HQ0000000000000000000000")).isEqualTo("order:{01HQ0000000000000000000000}");
+        assertThat(CacheKeys.itemAvailability("ITEM-1")).isEqualTo("item-dc-availability:v3:{ITEM-1}");
+    }
+
+    @Test
+    @DisplayName("Should spread DC rankings of one availability set across cells without a hash tag")
+    void shouldKeepRankingKeysUntagged() {
+        assertThat(CacheKeys.distributionCenterRanking("0123456789abcdef", "dp04rf"))
+                .isEqualTo("item-dc-ranking:v2:0123456789abcdef:dp04rf");
+    }
+
+    @Test
+    @DisplayName("Should map all keys of the same entity to the same cluster slot")
+    void shouldMapSameEntityToSameSlot() {
+        String orderId = "01HQ0000000000000000000000";
+
+        int slot = SlotHash.getSlot(CacheKeys.order(orderId));
+
+        assertThat(slot).isEqualTo(SlotHash.getSlot(orderId));
+        assertThat(SlotHash.getSlot(CacheKeys.tagged("order-status:", orderId))).isEqualTo(slot);
+        assertThat(SlotHash.getSlot(CacheKeys.itemAvailability("ITEM-1")))
+                .isEqualTo(SlotHash.getSlot(CacheKeys.tagged("item-dc-ranking:", "ITEM-1")));
+    }
+}
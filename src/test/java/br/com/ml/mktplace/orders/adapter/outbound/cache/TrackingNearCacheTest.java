@@ -0,0 +1,129 @@
+package br.com.ml.mktplace.orders.adapter.outbound.cache;
+
+import io.lettuce.core.api.push.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TrackingNearCache Tests")
+class TrackingNearCacheTest {
+
+    private static final String KEY = CacheKeys.itemAvailability("ITEM-1");
+
+    private TrackingNearCache nearCache;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new TrackingNearCache(new String[] {"item-dc-availability:"}, 2);
+        registry = new SimpleMeterRegistry();
+        nearCache.bindTo(registry);
+        nearCache.onTrackingEnabled();
+        loads = new AtomicInteger();
+    }
+
+    private Optional<String[]> load(String... codes) {
+        loads.incrementAndGet();
+        return Optional.of(codes);
+    }
+
+    @Test
+    @DisplayName("Should serve tracked keys from heap after the first load")
+    void shouldServeTrackedKeysFromHeap() {
+        nearCache.get(KEY, String[].class, () -> load("DC-1", "DC-2"));
+        Optional<String[]> second = nearCache.get(KEY, String[].class, () -> load("DC-9"));
+
+        assertThat(second).hasValueSatisfying(codes -> assertThat(codes).containsExactly("DC-1", "DC-2"));
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.near.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should hand out defensive copies of cached arrays")
+    void shouldReturnDefensiveCopies() {
+        nearCache.get(KEY, String[].class, () -> load("DC-1"));
+        nearCache.get(KEY, String[].class, () -> load()).orElseThrow()[0] = "MUTATED";
+
+        assertThat(nearCache.get(KEY, String[].class, () -> load()).orElseThrow()).containsExactly("DC-1");
+    }
+
+    @Test
+    @DisplayName("Should bypass the heap for keys outside tracked prefixes")
+    void shouldBypassUntrackedKeys() {
+        nearCache.get("order:{1}", String[].class, () -> load("A"));
+        nearCache.get("order:{1}", String[].class, () -> load("A"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(nearCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop entries named in an invalidate push message")
+    void shouldInvalidateOnPushMessage() {
+        nearCache.get(KEY, String[].class, () -> load("DC-1"));
+
+        nearCache.onPushMessage(invalidate(List.of(KEY)));
+        Optional<String[]> reloaded = nearCache.get(KEY, String[].class, () -> load("DC-2"));
+
+        assertThat(reloaded).hasValueSatisfying(codes -> assertThat(codes).containsExactly("DC-2"));
+        assertThat(registry.get("cache.near.invalidations").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not keep a value loaded while its key was invalidated")
+    void shouldNotStoreValueInvalidatedDuringLoad() {
+        nearCache.get(KEY, String[].class, () -> {
+            nearCache.onPushMessage(invalidate(List.of(KEY)));
+            return load("STALE");
+        });
+
+        Optional<String[]> next = nearCache.get(KEY, String[].class, () -> load("FRESH"));
+
+        assertThat(next).hasValueSatisfying(codes -> assertThat(codes).containsExactly("FRESH"));
+    }
+
+    @Test
+    @DisplayName("Should flush everything on a null invalidation and bypass the heap while tracking is lost")
+    void shouldFlushAndBypassWithoutTracking() {
+        nearCache.get(KEY, String[].class, () -> load("DC-1"));
+        nearCache.onPushMessage(invalidate(null));
+        assertThat(nearCache.size()).isZero();
+
+        nearCache.onTrackingLost();
+        nearCache.get(KEY, String[].class, () -> load("DC-1"));
+        nearCache.get(KEY, String[].class, () -> load("DC-1"));
+
+        assertThat(loads).hasValue(3);
+        assertThat(registry.get("cache.near.tracking").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond the bound")
+    void shouldBoundEntries() {
+        for (int i = 0; i < 5; i++) {
+            String key = CacheKeys.itemAvailability("ITEM-" + i);
+            nearCache.get(key, String[].class, () -> load("DC"));
+        }
+
+        assertThat(nearCache.size()).isEqualTo(2);
+    }
+
+    private static PushMessage invalidate(List<String> keys) {
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", keys));
+        return message;
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.ml.mktplace.orders.adapter.outbound.geocoding;
 
+import br.com.ml.mktplace.orders.adapter.outbound.resilience.ResiliencePolicy;
+import br.com.ml.mktplace.orders.adapter.outbound.resilience.ResilientExecutor;
 import br.com.ml.mktplace.orders.domain.model.Address;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +25,8 @@ class HttpGeocodingServiceTest {
     @BeforeEach
     void setup() {
         restTemplate = mock(RestTemplate.class);
-        service = new HttpGeocodingService(restTemplate, "API_KEY", "https://api.api-ninjas.com/v1/geocoding");
+        service = new HttpGeocodingService(restTemplate, "API_KEY", "https://api.api-ninjas.com/v1/geocoding",
+                new ResilientExecutor("geocoding", ResiliencePolicy.defaults()));
     }
 
     @Test
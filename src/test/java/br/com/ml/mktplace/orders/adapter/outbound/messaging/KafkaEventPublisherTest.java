@@ -0,0 +1,65 @@
+package br.com.ml.mktplace.orders.adapter.outbound.messaging;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.OrdersMetricsBinder;
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("KafkaEventPublisher Tests")
+class KafkaEventPublisherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private KafkaEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new KafkaEventPublisher(new ObjectMapper(), "mktplace", new OrdersMetricsBinder(), meterRegistry);
+        ReflectionTestUtils.setField(publisher, "orderEventsKafkaTemplate", kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Should count batch sends the broker did not acknowledge, not only synchronous failures")
+    void shouldCountAsynchronousBatchFailures() {
+        doReturn(CompletableFuture.completedFuture(null)).when(kafkaTemplate).sendDefault(eq("ORDER-1"), any());
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("not acknowledged")))
+                .when(kafkaTemplate).sendDefault(eq("ORDER-2"), any());
+        doThrow(new IllegalStateException("buffer full")).when(kafkaTemplate).sendDefault(eq("ORDER-3"), any());
+
+        publisher.publishOrdersCreated(List.of(order("ORDER-1"), order("ORDER-2"), order("ORDER-3")));
+
+        verify(kafkaTemplate).flush();
+        assertThat(meterRegistry.get("kafka.events.published.total").tag("type", "ORDER_CREATED").counter().count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("kafka.events.errors.total").tag("type", "ORDER_CREATED").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private static Order order(String id) {
+        Address address = new Address("123 Main St", "1", "Springfield", "IL", "USA", "12345-678",
+                new Address.Coordinates(BigDecimal.valueOf(39.7817), BigDecimal.valueOf(-89.6501)));
+        return new Order(id, "CUSTOMER-1", List.of(new OrderItem("ITEM-001", 1)), address, OrderStatus.RECEIVED, Instant.now());
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.ml.mktplace.orders.adapter.outbound.notification;
+
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.OrderStatusNotifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RedisOrderStatusNotifier Tests")
+class RedisOrderStatusNotifierTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisOrderStatusNotifier notifier = new RedisOrderStatusNotifier(redisTemplate, Runnable::run, "pod-a");
+    private final List<OrderStatus> received = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver locally and publish the change to the Redis channel")
+    void shouldDeliverLocallyAndPublish() {
+        notifier.subscribe("ORDER-1", received::add);
+
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSED);
+
+        assertThat(received).containsExactly(OrderStatus.PROCESSED);
+        verify(redisTemplate).convertAndSend(RedisOrderStatusNotifier.CHANNEL, "pod-a|ORDER-1|PROCESSED");
+    }
+
+    @Test
+    @DisplayName("Should deliver changes from other instances and ignore its own echo")
+    void shouldDeliverRemoteMessagesOnly() {
+        notifier.subscribe("ORDER-1", received::add);
+
+        notifier.onMessage(message("pod-a|ORDER-1|PROCESSING"), null);
+        notifier.onMessage(message("pod-b|ORDER-1|PROCESSED"), null);
+        notifier.onMessage(message("pod-b|ORDER-2|FAILED"), null);
+        notifier.onMessage(message("garbage"), null);
+
+        assertThat(received).containsExactly(OrderStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("Should stop delivering and release the order entry after the subscription is closed")
+    void shouldUnsubscribe() {
+        OrderStatusNotifier.Subscription subscription = notifier.subscribe("ORDER-1", received::add);
+
+        subscription.close();
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSED);
+
+        assertThat(received).isEmpty();
+        assertThat(notifier.subscribedOrders()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hold the notification until the transaction commits")
+    void shouldNotifyAfterCommit() {
+        notifier.subscribe("ORDER-1", received::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        notifier.statusChanged("ORDER-1", OrderStatus.PROCESSED);
+        assertThat(received).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(received).containsExactly(OrderStatus.PROCESSED);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisOrderStatusNotifier.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.ml.mktplace.orders.adapter.outbound.notification;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.ExternalServiceException;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.CacheService;
+import br.com.ml.mktplace.orders.domain.port.DistributionCenterService;
+import br.com.ml.mktplace.orders.domain.port.EventPublisher;
+import br.com.ml.mktplace.orders.domain.port.GeocodingService;
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import br.com.ml.mktplace.orders.domain.port.ProcessingObserver;
+import br.com.ml.mktplace.orders.domain.service.DistributionCenterSelectionService;
+import br.com.ml.mktplace.orders.domain.service.ProcessOrderUseCaseImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Notificador real com o processamento sob transações de verdade (synchronization ativa): os
+ * sinais só saem no commit, então cada mudança de status precisa confirmar antes de seguir.
+ */
+@DisplayName("RedisOrderStatusNotifier Transaction Tests")
+class RedisOrderStatusNotifierTransactionTest {
+
+    private final List<String> timeline = new CopyOnWriteArrayList<>();
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final DistributionCenterService distributionCenterService = mock(DistributionCenterService.class);
+    private final RedisOrderStatusNotifier notifier = new RedisOrderStatusNotifier(null, Runnable::run, "pod-a");
+
+    private ProcessOrderUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ProcessOrderUseCaseImpl(
+                orderRepository,
+                distributionCenterService,
+                mock(CacheService.class),
+                mock(EventPublisher.class),
+                mock(DistributionCenterSelectionService.class),
+                mock(GeocodingService.class),
+                new ObservabilityMetrics(new SimpleMeterRegistry()),
+                notifier,
+                ProcessingObserver.NONE,
+                new TransactionTemplate(new RecordingTransactionManager()));
+
+        Address address = new Address("123 Main St", "1", "Springfield", "IL", "USA", "12345-678",
+                new Address.Coordinates(BigDecimal.valueOf(39.7817), BigDecimal.valueOf(-89.6501)));
+        Order order = new Order("ORDER-001", "CUSTOMER-123", List.of(new OrderItem("ITEM-001", 2)),
+                address, OrderStatus.RECEIVED, Instant.now());
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        notifier.subscribe("ORDER-001", status -> timeline.add(status.name()));
+    }
+
+    @Test
+    @DisplayName("Should signal PROCESSING before external calls and FAILED when they fail")
+    void shouldSignalEachStatusOnItsOwnCommit() {
+        when(distributionCenterService.findDistributionCentersByItem(anyString())).thenAnswer(invocation -> {
+            timeline.add("dc-call");
+            throw new ExternalServiceException("DistributionCenterService", "Service unavailable");
+        });
+
+        assertThatThrownBy(() -> useCase.processOrder("ORDER-001"))
+                .isInstanceOf(ProcessOrderUseCase.ProcessOrderException.class);
+
+        assertThat(timeline)
+                .containsSubsequence("commit", "PROCESSING", "dc-call", "commit", "FAILED")
+                .doesNotContain("rollback");
+    }
+
+    /**
+     * Gerenciador sem recurso: só registra commit/rollback, mas dispara a synchronization como
+     * qualquer gerenciador real
+     */
+    private class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            timeline.add("commit");
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            timeline.add("rollback");
+        }
+    }
+}
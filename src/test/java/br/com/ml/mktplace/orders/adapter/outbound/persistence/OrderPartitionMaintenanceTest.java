@@ -0,0 +1,79 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPartitionMaintenance Tests")
+class OrderPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should create partitions from the oldest order in the DEFAULT partition and skip archiving when retention is disabled")
+    void shouldCreatePartitionsWithoutArchiving() {
+        givenLock(true);
+        OrderPartitionMaintenance maintenance = new OrderPartitionMaintenance(jdbcTemplate, transactionManager, 3, 0);
+
+        maintenance.maintain();
+
+        verify(jdbcTemplate).queryForObject(OrderPartitionMaintenance.CREATE_PARTITIONS_SQL, Integer.class, 3);
+        verify(transactionManager).commit(any());
+        verify(jdbcTemplate, never()).queryForObject(startsWith("SELECT archive_order_partitions"), eq(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("Should skip the run when another instance holds the maintenance lock")
+    void shouldSkipWhenLockNotAcquired() {
+        givenLock(false);
+        OrderPartitionMaintenance maintenance = new OrderPartitionMaintenance(jdbcTemplate, transactionManager, 3, 12);
+
+        maintenance.maintain();
+
+        verify(jdbcTemplate).queryForObject(OrderPartitionMaintenance.TRY_LOCK_SQL, Boolean.class,
+                OrderPartitionMaintenance.MAINTENANCE_LOCK_KEY);
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should archive old partitions even if partition creation fails")
+    void shouldArchiveWhenRetentionConfigured() {
+        givenLock(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT create_order_partitions"), eq(Integer.class), any()))
+            .thenThrow(new IllegalStateException("db down"));
+        OrderPartitionMaintenance maintenance = new OrderPartitionMaintenance(jdbcTemplate, transactionManager, 3, 12);
+
+        assertThatCode(maintenance::maintain).doesNotThrowAnyException();
+
+        verify(jdbcTemplate).queryForObject("SELECT archive_order_partitions(?)", Integer.class, 12);
+    }
+
+    private void givenLock(boolean acquired) {
+        when(jdbcTemplate.queryForObject(OrderPartitionMaintenance.TRY_LOCK_SQL, Boolean.class,
+                OrderPartitionMaintenance.MAINTENANCE_LOCK_KEY)).thenReturn(acquired);
+    }
+
+    @Test
+    @DisplayName("Should derive the partition-key lower bound from the timestamp")
+    void shouldDeriveMinIdFromTimestamp() {
+        String minId = JpaOrderRepository.minIdFor(Instant.ofEpochMilli(1469918176385L));
+
+        assertThat(minId).isEqualTo("01ARYZ6S410000000000000000");
+    }
+}
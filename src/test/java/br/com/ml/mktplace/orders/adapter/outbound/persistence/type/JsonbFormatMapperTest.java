@@ -0,0 +1,54 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence.type;
+
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.entity.AddressDocument;
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.NearbyDistributionCenter;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JsonbFormatMapper Tests")
+class JsonbFormatMapperTest {
+
+    @Test
+    @DisplayName("Should round-trip address document without intermediate trees")
+    void shouldRoundTripAddress() throws Exception {
+        Address address = new Address("Av. Paulista", "1000", "São Paulo", "SP", "BR", "01310-100",
+            new Address.Coordinates(new BigDecimal("-23.561414"), new BigDecimal("-46.655881")));
+
+        String json = JsonbFormatMapper.OBJECT_MAPPER.writeValueAsString(AddressDocument.from(address));
+        AddressDocument read = JsonbFormatMapper.OBJECT_MAPPER.readValue(json, AddressDocument.class);
+
+        assertThat(read.toDomain()).isEqualTo(address);
+    }
+
+    @Test
+    @DisplayName("Should read legacy address layout (postalCode, no number, unknown fields)")
+    void shouldReadLegacyAddress() throws Exception {
+        String json = "{\"street\":\"Rua A\",\"city\":\"C\",\"state\":\"SP\",\"country\":\"BR\",\"postalCode\":\"05037-000\","
+            + "\"extra\":true,\"coordinates\":{\"latitude\":-23.5,\"longitude\":-46.6}}";
+
+        Address address = JsonbFormatMapper.OBJECT_MAPPER.readValue(json, AddressDocument.class).toDomain();
+
+        assertThat(address.zipCode()).isEqualTo("05037-000");
+        assertThat(address.number()).isEqualTo("0");
+        assertThat(address.coordinates().latitude()).isEqualByComparingTo("-23.5");
+    }
+
+    @Test
+    @DisplayName("Should map nearby DC list straight to domain records")
+    void shouldReadNearbyDcList() throws Exception {
+        String json = "[{\"code\":\"SP-001\",\"distanceKm\":5.12},{\"code\":\"RJ-001\",\"distanceKm\":32.47}]";
+
+        List<NearbyDistributionCenter> list = JsonbFormatMapper.OBJECT_MAPPER.readValue(json, new TypeReference<>() {});
+
+        assertThat(list).containsExactly(
+            new NearbyDistributionCenter("SP-001", 5.12),
+            new NearbyDistributionCenter("RJ-001", 32.47));
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.ml.mktplace.orders.adapter.outbound.persistence.type;
+
+import br.com.ml.mktplace.orders.domain.model.MonotonicUlid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UlidUuidType Tests")
+class UlidUuidTypeTest {
+
+    @Test
+    @DisplayName("Should convert ULID to uuid and back without loss")
+    void shouldRoundTrip() {
+        String ulid = MonotonicUlid.nextUlid();
+
+        UUID uuid = UlidUuidType.toUuid(ulid);
+
+        assertThat(UlidUuidType.toUlid(uuid)).isEqualTo(ulid);
+    }
+
+    @Test
+    @DisplayName("Should map boundary values to the expected uuid bits")
+    void shouldMapBoundaryValues() {
+        assertThat(UlidUuidType.toUuid("00000000000000000000000000")).isEqualTo(new UUID(0L, 0L));
+        assertThat(UlidUuidType.toUuid("7ZZZZZZZZZZZZZZZZZZZZZZZZZ")).isEqualTo(new UUID(-1L, -1L));
+        assertThat(UlidUuidType.toUuid("01ARYZ6S410000000000000000").getMostSignificantBits() >>> 16)
+            .isEqualTo(1469918176385L);
+    }
+
+    @Test
+    @DisplayName("Should preserve ordering between ULID text and uuid")
+    void shouldPreserveOrdering() {
+        String[] ids = MonotonicUlid.shared().next(3);
+
+        UUID first = UlidUuidType.toUuid(ids[0]);
+        UUID second = UlidUuidType.toUuid(ids[1]);
+
+        assertThat(first.getMostSignificantBits() == second.getMostSignificantBits()
+                ? Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits())
+                : Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()))
+            .isNegative();
+    }
+
+    @Test
+    @DisplayName("Should reject values that are not ULIDs")
+    void shouldRejectNonUlid() {
+        assertThat(UlidUuidType.isConvertible("ORDER-001")).isFalse();
+        assertThat(UlidUuidType.isConvertible("80000000000000000000000000")).isFalse();
+        assertThat(UlidUuidType.isConvertible("01arYZ6S410000000000000000")).isFalse();
+        assertThatThrownBy(() -> UlidUuidType.toUuid("ORDER-001"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
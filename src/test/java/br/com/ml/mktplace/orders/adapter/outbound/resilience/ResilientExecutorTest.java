@@ -0,0 +1,126 @@
+package br.com.ml.mktplace.orders.adapter.outbound.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResilientExecutor Tests")
+class ResilientExecutorTest {
+
+    private static ResiliencePolicy policy(int maxConcurrent, int initialLimit) {
+        return new ResiliencePolicy(maxConcurrent, initialLimit, 1, 2.0, 0.2, 50, 4,
+                Duration.ofSeconds(30), 2, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should return call result when dependency is healthy")
+    void shouldReturnResultWhenHealthy() {
+        ResilientExecutor executor = new ResilientExecutor("dep", policy(10, 5));
+
+        String result = executor.execute(() -> "ok", e -> "fallback");
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(executor.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should open circuit after failure threshold and fail fast to fallback")
+    void shouldOpenCircuitAndFailFast() {
+        ResilientExecutor executor = new ResilientExecutor("dep", policy(10, 5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> { throw new IllegalStateException("boom"); }, e -> "fallback");
+        }
+        assertThat(executor.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        String result = executor.execute(() -> "never", e -> { cause.set(e); return "fallback"; });
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(cause.get()).isInstanceOf(CallRejectedException.class);
+        assertThat(((CallRejectedException) cause.get()).getReason()).isEqualTo(CallRejectedException.Reason.CIRCUIT_OPEN);
+        assertThat(registry.get("resilience.circuit.state").tag("dependency", "dep").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("resilience.calls.rejected").tag("reason", "CIRCUIT_OPEN").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should close circuit after successful half-open trial calls")
+    void shouldCloseAfterHalfOpenTrials() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(50, 2, TimeUnit.SECONDS.toNanos(1), 2, now::get);
+        breaker.tryAcquirePermission();
+        breaker.onResult(false);
+        breaker.tryAcquirePermission();
+        breaker.onResult(false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onResult(true);
+        breaker.onResult(true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reject calls above the concurrency limit without reaching the dependency")
+    void shouldRejectAboveConcurrencyLimit() throws Exception {
+        ResilientExecutor executor = new ResilientExecutor("dep", policy(1, 1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }, e -> "fallback"));
+        holder.start();
+        started.await();
+
+        AtomicReference<Throwable> cause = new AtomicReference<>();
+        String result = executor.execute(() -> "never", e -> { cause.set(e); return "fallback"; });
+        release.countDown();
+        holder.join();
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(cause.get()).isInstanceOf(CallRejectedException.class);
+        assertThat(executor.execute(() -> "ok", e -> "fallback")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Should shrink adaptive limit when latency rises")
+    void shouldShrinkLimitWhenLatencyRises() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 1, 20, 2.0, 0.5);
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 10; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+            limit.tryAcquire();
+        }
+        int baseline = limit.getLimit();
+
+        for (int i = 0; i < 10; i++) {
+            limit.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+            limit.tryAcquire();
+        }
+
+        assertThat(limit.getLimit()).isLessThan(baseline);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Geohash Tests")
+class GeohashTest {
+
+    @Test
+    @DisplayName("Should encode known reference points")
+    void shouldEncodeKnownPoints() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(Geohash.encode(-23.5505, -46.6333, 6)).isEqualTo("6gyf4b");
+    }
+
+    @Test
+    @DisplayName("Should map nearby points to the same cell and prefix coarser cells")
+    void shouldShareCellForNearbyPoints() {
+        String a = Geohash.encode(-23.5505, -46.6333, 6);
+        String b = Geohash.encode(-23.5510, -46.6340, 6);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(Geohash.encode(-23.5505, -46.6333, 8)).startsWith(a);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid precision and coordinates")
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> Geohash.encode(0, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Geohash.encode(0, 0, 13)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Geohash.encode(91, 0, 6)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.ml.mktplace.orders.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MonotonicUlid Tests")
+class MonotonicUlidTest {
+
+    @Test
+    @DisplayName("Should encode timestamp as Crockford Base32 per ULID spec")
+    void shouldEncodeTimestamp() {
+        String ulid = MonotonicUlid.encode(1469918176385L, 0L, 0L);
+
+        assertThat(ulid).hasSize(26).startsWith("01ARYZ6S41").endsWith("0000000000000000");
+        assertThat(MonotonicUlid.encode(0L, 0xFFFFL, -1L)).isEqualTo("0000000000ZZZZZZZZZZZZZZZZ");
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing within the same millisecond and when clock goes backwards")
+    void shouldBeMonotonicWithinSameMillisecond() {
+        AtomicLong clock = new AtomicLong(1_000L);
+        MonotonicUlid generator = new MonotonicUlid(clock::get);
+
+        String first = generator.next();
+        String second = generator.next();
+        clock.set(999L);
+        String third = generator.next();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(third.substring(0, 10)).isEqualTo(first.substring(0, 10));
+    }
+
+    @Test
+    @DisplayName("Should reserve a contiguous sorted batch without inventing timestamps")
+    void shouldReserveBatchWithRealTimestamp() {
+        AtomicLong clock = new AtomicLong(1469918176385L);
+        MonotonicUlid generator = new MonotonicUlid(clock::get);
+
+        String[] ids = generator.next(500);
+        String next = generator.next();
+
+        assertThat(ids).hasSize(500).doesNotHaveDuplicates();
+        assertThat(ids).isSorted();
+        assertThat(Arrays.stream(ids)).allMatch(id -> id.startsWith("01ARYZ6S41"));
+        assertThat(next).isGreaterThan(ids[499]);
+    }
+
+    @Test
+    @DisplayName("Should generate unique IDs across concurrent threads")
+    void shouldGenerateUniqueIdsConcurrently() {
+        MonotonicUlid generator = new MonotonicUlid(System::currentTimeMillis);
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 50_000).parallel().forEach(i -> ids.add(generator.next()));
+
+        assertThat(ids).hasSize(50_000);
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive batch size")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> MonotonicUlid.shared().next(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.ml.mktplace.orders.domain.service;
+
+import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
+import br.com.ml.mktplace.orders.domain.model.ReprocessJob;
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkReprocessUseCaseImpl Unit Tests")
+class BulkReprocessUseCaseImplTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-15T10:00:00Z");
+    private static final Instant TO = Instant.parse("2024-01-15T12:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProcessOrderUseCase processOrderUseCase;
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService workers;
+    private BulkReprocessUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        workers = Executors.newFixedThreadPool(2);
+        // Driver síncrono: startReprocess retorna com o job finalizado
+        useCase = new BulkReprocessUseCaseImpl(orderRepository, processOrderUseCase,
+                new ObservabilityMetrics(registry), Runnable::run, workers,
+                new BulkReprocessUseCaseImpl.Limits(2, 2, 10_000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should page through FAILED ids with keyset and reprocess each one")
+    void shouldPageAndReprocessAll() {
+        when(orderRepository.findFailedOrderIds(FROM, TO, null, 2)).thenReturn(List.of("A", "B"));
+        when(orderRepository.findFailedOrderIds(FROM, TO, "B", 2)).thenReturn(List.of("C"));
+
+        ReprocessJob job = useCase.startReprocess(FROM, TO);
+
+        assertThat(job.getStatus()).isEqualTo(ReprocessJob.Status.COMPLETED);
+        assertThat(job.getMatched()).isEqualTo(3);
+        assertThat(job.getSucceeded()).isEqualTo(3);
+        verify(processOrderUseCase).reprocessOrder("A");
+        verify(processOrderUseCase).reprocessOrder("B");
+        verify(processOrderUseCase).reprocessOrder("C");
+        assertThat(registry.get("orders.reprocess.bulk.orders").tag("outcome", "succeeded").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("orders.reprocess.bulk.jobs.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count failed reprocessing without stopping the job")
+    void shouldCountFailures() {
+        when(orderRepository.findFailedOrderIds(FROM, TO, null, 2)).thenReturn(List.of("A"));
+        when(processOrderUseCase.reprocessOrder("A"))
+            .thenThrow(new ProcessOrderUseCase.ProcessOrderException("A", "Distribution center service unavailable"));
+
+        ReprocessJob job = useCase.startReprocess(FROM, TO);
+
+        assertThat(job.getStatus()).isEqualTo(ReprocessJob.Status.COMPLETED);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(registry.get("orders.reprocess.bulk.orders").tag("outcome", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should mark job FAILED when id paging fails")
+    void shouldFailJobWhenPagingFails() {
+        when(orderRepository.findFailedOrderIds(any(), any(), any(), anyInt())).thenThrow(new IllegalStateException("db down"));
+
+        ReprocessJob job = useCase.startReprocess(FROM, TO);
+
+        assertThat(job.getStatus()).isEqualTo(ReprocessJob.Status.FAILED);
+        assertThat(job.getError()).isEqualTo("db down");
+        assertThat(useCase.findJob(job.getId())).contains(job);
+        verifyNoInteractions(processOrderUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted range")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> useCase.startReprocess(TO, FROM))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Range start must be before range end");
+    }
+}
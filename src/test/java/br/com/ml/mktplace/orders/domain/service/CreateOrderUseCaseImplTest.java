@@ -1,6 +1,8 @@
 package br.com.ml.mktplace.orders.domain.service;
 
 import br.com.ml.mktplace.orders.domain.model.*;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderCommand;
+import br.com.ml.mktplace.orders.domain.port.CreateOrderUseCase.CreateOrderResult;
 import br.com.ml.mktplace.orders.domain.port.OrderRepository;
 import br.com.ml.mktplace.orders.domain.port.EventPublisher;
 import br.com.ml.mktplace.orders.domain.port.IDGenerator;
@@ -16,6 +18,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -253,4 +256,63 @@ class CreateOrderUseCaseImplTest {
         verify(orderRepository).save(any(Order.class));
         verify(eventPublisher).publishOrderCreated(expectedOrder);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should create batch with a single ID reservation, batched save and batched events")
+    void shouldCreateOrdersInBatch() {
+        // Given
+        List<CreateOrderCommand> commands = List.of(
+            new CreateOrderCommand("CUSTOMER-1", validItems, validAddress),
+            new CreateOrderCommand("CUSTOMER-2", validItems, validAddress)
+        );
+        when(idGenerator.generateMultiple(2)).thenReturn(new String[]{"ORDER-001", "ORDER-002"});
+        when(orderRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        
+        // When
+        List<CreateOrderResult> results = useCase.createOrders(commands);
+        
+        // Then
+        assertThat(results).hasSize(2).allMatch(CreateOrderResult::isCreated);
+        assertThat(results.get(0).order().getId()).isEqualTo("ORDER-001");
+        assertThat(results.get(1).order().getCustomerId()).isEqualTo("CUSTOMER-2");
+        assertThat(results.get(1).order().getStatus()).isEqualTo(OrderStatus.RECEIVED);
+        
+        verify(idGenerator).generateMultiple(2);
+        verify(orderRepository).saveAll(anyList());
+        verify(eventPublisher).publishOrdersCreated(anyList());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid orders individually and keep results aligned with input")
+    void shouldRejectInvalidOrdersIndividually() {
+        // Given
+        List<OrderItem> tooManyItems = java.util.stream.IntStream.range(0, 101)
+            .mapToObj(i -> new OrderItem("ITEM-" + i, 1))
+            .toList();
+        List<CreateOrderCommand> commands = List.of(
+            new CreateOrderCommand("CUSTOMER-1", tooManyItems, validAddress),
+            new CreateOrderCommand("CUSTOMER-2", validItems, validAddress)
+        );
+        when(idGenerator.generateMultiple(1)).thenReturn(new String[]{"ORDER-001"});
+        when(orderRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        
+        // When
+        List<CreateOrderResult> results = useCase.createOrders(commands);
+        
+        // Then
+        assertThat(results.get(0).isCreated()).isFalse();
+        assertThat(results.get(0).error()).isNotBlank();
+        assertThat(results.get(1).isCreated()).isTrue();
+        assertThat(results.get(1).order().getId()).isEqualTo("ORDER-001");
+    }
+    
+    @Test
+    @DisplayName("Should throw exception when batch is empty")
+    void shouldThrowExceptionWhenBatchIsEmpty() {
+        assertThatThrownBy(() -> useCase.createOrders(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        verifyNoInteractions(idGenerator, orderRepository, eventPublisher);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.ml.mktplace.orders.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ItemLogSampler Tests")
+class ItemLogSamplerTest {
+
+    @Test
+    @DisplayName("Should sample the first items and then every Nth item")
+    void shouldSampleFirstAndEveryNth() {
+        int[] sampled = IntStream.range(0, 150).filter(ItemLogSampler::sampled).toArray();
+
+        assertThat(sampled).containsExactly(0, 1, 2, 49, 99, 149);
+    }
+}
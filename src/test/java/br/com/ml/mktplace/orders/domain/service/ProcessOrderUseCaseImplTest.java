@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import br.com.ml.mktplace.orders.adapter.config.metrics.ObservabilityMetrics;
 
@@ -47,6 +48,9 @@ class ProcessOrderUseCaseImplTest {
     @Mock
     private br.com.ml.mktplace.orders.adapter.outbound.persistence.JpaOrderRepository jpaOrderRepository;
     
+    @Mock
+    private OrderStatusNotifier statusNotifier;
+    
     private ObservabilityMetrics observabilityMetrics;
     
     private ProcessOrderUseCaseImpl useCase;
@@ -67,7 +71,10 @@ class ProcessOrderUseCaseImplTest {
         eventPublisher,
         selectionService,
         geocodingService,
-        observabilityMetrics
+        observabilityMetrics,
+        statusNotifier,
+        ProcessingObserver.NONE,
+        TransactionOperations.withoutTransaction()
     );
         // Inject optional JPA repository to enable local enrichment in tests
         try {
@@ -129,7 +136,7 @@ class ProcessOrderUseCaseImplTest {
     void shouldProcessOrderSuccessfully() {
         // Given
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
     when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(java.util.List.of("DC-001"));
         when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
         when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
@@ -154,9 +161,61 @@ class ProcessOrderUseCaseImplTest {
         assertThat(result.getStatus()).isEqualTo(OrderStatus.PROCESSED);
         verify(orderRepository, times(2)).save(any(Order.class)); // Processing + Final save
     verify(distributionCenterService).findDistributionCentersByItem(anyString());
-        verify(cacheService).put(any(String.class), any(String[].class), eq(Duration.ofMinutes(5)));
+        verify(cacheService).putItemAvailability("ITEM-001", List.of("DC-001"), Duration.ofMinutes(5));
         verify(selectionService).selectDistributionCenter(availableCenters, validOrder.getDeliveryAddress());
         verify(eventPublisher).publishOrderProcessed(result);
+        verify(statusNotifier).statusChanged("ORDER-001", OrderStatus.PROCESSING);
+        verify(statusNotifier).statusChanged("ORDER-001", OrderStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("Should record per-stage latency breakdown for a processed order")
+    void shouldRecordStageBreakdown() {
+        // Given
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
+        when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(java.util.List.of("DC-001"));
+        when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
+        when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
+            .thenReturn(java.util.List.of(new NearbyDistributionCenter("DC-001", 1.0)));
+        when(selectionService.selectDistributionCenter(availableCenters, validOrder.getDeliveryAddress()))
+            .thenReturn(selectedCenter);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        useCase.processOrder("ORDER-001");
+        
+        // Then
+        List<ProcessingTrace> traces = observabilityMetrics.slowestRecentTraces(10);
+        assertThat(traces).hasSize(1);
+        ProcessingTrace trace = traces.get(0);
+        assertThat(trace.getOrderId()).isEqualTo("ORDER-001");
+        assertThat(trace.getFinalStatus()).isEqualTo(OrderStatus.PROCESSED);
+        assertThat(trace.getStageNanos()).containsOnlyKeys(
+            ProcessingTrace.Stage.AVAILABILITY, ProcessingTrace.Stage.DC_CATALOG, ProcessingTrace.Stage.RANKING,
+            ProcessingTrace.Stage.SELECTION, ProcessingTrace.Stage.SAVE, ProcessingTrace.Stage.PUBLISH);
+        assertThat(trace.getStageOutcomes().values()).containsOnly(ProcessingTrace.Outcome.SUCCESS);
+        assertThat(trace.getTotalNanos()).isGreaterThanOrEqualTo(trace.getStageNanos().get(ProcessingTrace.Stage.SAVE));
+    }
+
+    @Test
+    @DisplayName("Should mark the failing stage when the DC service is unavailable")
+    void shouldMarkFailingStage() {
+        // Given
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
+        when(distributionCenterService.findDistributionCentersByItem(anyString()))
+            .thenThrow(new ExternalServiceException("DistributionCenterService", "down"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        assertThatThrownBy(() -> useCase.processOrder("ORDER-001")).isInstanceOf(ProcessOrderUseCase.ProcessOrderException.class);
+        
+        // Then
+        ProcessingTrace trace = observabilityMetrics.slowestRecentTraces(1).get(0);
+        assertThat(trace.getFinalStatus()).isEqualTo(OrderStatus.FAILED);
+        assertThat(trace.getStageOutcomes()).containsEntry(ProcessingTrace.Stage.AVAILABILITY, ProcessingTrace.Outcome.ERROR);
+        assertThat(trace.getStageOutcomes()).containsEntry(ProcessingTrace.Stage.PUBLISH, ProcessingTrace.Outcome.SUCCESS);
     }
 
     @Test
@@ -183,7 +242,7 @@ class ProcessOrderUseCaseImplTest {
         when(orderRepository.findById("ORDER-GEO")).thenReturn(Optional.of(zeroOrder));
         when(geocodingService.geocode(anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
             .thenReturn(new Address.Coordinates(BigDecimal.valueOf(1.2345), BigDecimal.valueOf(-9.8765)));
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
         when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(List.of("DC-001"));
         when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
         when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
@@ -225,7 +284,7 @@ class ProcessOrderUseCaseImplTest {
         when(orderRepository.findById("ORDER-GEO-NULL")).thenReturn(Optional.of(zeroOrder));
         when(geocodingService.geocode(anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
             .thenReturn(null);
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
         when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(List.of("DC-001"));
         when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
         when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
@@ -380,8 +439,7 @@ class ProcessOrderUseCaseImplTest {
     void shouldUseCachedDistributionCentersWhenAvailable() {
         // Given
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
-        String[] cachedCodes = new String[]{"DC-001"};
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.of(cachedCodes));
+        when(cacheService.getItemAvailability("ITEM-001")).thenReturn(Optional.of(List.of("DC-001")));
         when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
         when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
             .thenReturn(java.util.List.of(new NearbyDistributionCenter("DC-001", 1.0)));
@@ -402,9 +460,65 @@ class ProcessOrderUseCaseImplTest {
         useCase.processOrder("ORDER-001");
         
         // Then
-        verify(cacheService).get(any(String.class), eq(String[].class));
+        verify(cacheService).getItemAvailability("ITEM-001");
     verify(distributionCenterService, never()).findDistributionCentersByItem(anyString());
-        verify(cacheService, never()).put(any(String.class), any(), any(Duration.class));
+        verify(cacheService, never()).putItemAvailability(anyString(), anyList(), any(Duration.class));
+    }
+    
+    @Test
+    @DisplayName("Should reuse cached DC ranking for the delivery cell without querying PostGIS")
+    void shouldUseCachedRankingForDeliveryCell() {
+        // Given
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.of(List.of("DC-001")));
+        when(cacheService.getDistributionCenterRanking(anyString(), eq("dp04rf")))
+            .thenReturn(Optional.of(List.of(new NearbyDistributionCenter("DC-001", 99.0))));
+        when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
+        when(selectionService.selectDistributionCenter(availableCenters, validOrder.getDeliveryAddress()))
+            .thenReturn(selectedCenter);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        Order result = useCase.processOrder("ORDER-001");
+        
+        // Then - cached PostGIS ranking returned as-is (same distances as the miss path produced)
+        verify(jpaOrderRepository, never()).findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList());
+        assertThat(result.getItems().get(0).getAvailableDistributionCenters())
+            .containsExactly(new NearbyDistributionCenter("DC-001", 99.0));
+    }
+    
+    @Test
+    @DisplayName("Should rank with PostGIS and materialize the ranking on cache miss")
+    void shouldMaterializeRankingOnCacheMiss() {
+        // Given
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.of(List.of("DC-001")));
+        when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
+        when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
+            .thenReturn(java.util.List.of(new NearbyDistributionCenter("DC-001", 1.0)));
+        when(selectionService.selectDistributionCenter(availableCenters, validOrder.getDeliveryAddress()))
+            .thenReturn(selectedCenter);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        useCase.processOrder("ORDER-001");
+        
+        // Then - keyed by availability digest + geohash-6 cell; value = ranked (code, distance) pairs from PostGIS
+        verify(cacheService).putDistributionCenterRanking(matches("[0-9a-f]{16}"), eq("dp04rf"),
+            eq(List.of(new NearbyDistributionCenter("DC-001", 1.0))), eq(Duration.ofMinutes(30)));
+    }
+    
+    @Test
+    @DisplayName("Should version rankings by a digest that separates DC sets with colliding hashCodes")
+    void shouldVersionRankingByDigestOfAvailability() {
+        // "Aa" and "BB" share String.hashCode
+        Address address = validOrder.getDeliveryAddress();
+        List<DistributionCenter> first = List.of(new DistributionCenter("Aa", "DC Aa", address));
+        List<DistributionCenter> second = List.of(new DistributionCenter("BB", "DC BB", address));
+        
+        assertThat(ProcessOrderUseCaseImpl.availabilityVersion(first))
+            .matches("[0-9a-f]{16}")
+            .isNotEqualTo(ProcessOrderUseCaseImpl.availabilityVersion(second));
     }
     
     @Test
@@ -412,7 +526,7 @@ class ProcessOrderUseCaseImplTest {
     void shouldHandleExternalServiceExceptionAndMarkOrderAsFailed() {
         // Given
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
         when(distributionCenterService.findDistributionCentersByItem(anyString()))
             .thenThrow(new ExternalServiceException("DistributionCenterService", "Service unavailable"));
         
@@ -440,7 +554,7 @@ class ProcessOrderUseCaseImplTest {
     void shouldHandleEmptyDistributionCentersList() {
         // Given
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
     when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(List.of());
         
         Order failedOrder = new Order(
@@ -476,7 +590,7 @@ class ProcessOrderUseCaseImplTest {
         );
         
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(failedOrder));
-        when(cacheService.get(any(String.class), eq(String[].class))).thenReturn(Optional.empty());
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.empty());
     when(distributionCenterService.findDistributionCentersByItem(anyString())).thenReturn(java.util.List.of("DC-001"));
         when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
         when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
@@ -499,7 +613,7 @@ class ProcessOrderUseCaseImplTest {
         
         // Then
         assertThat(result.getStatus()).isEqualTo(OrderStatus.PROCESSED);
-        verify(orderRepository, times(3)).save(any(Order.class)); // Reset + Processing + Final
+        verify(orderRepository, times(2)).save(any(Order.class)); // Processing + Final (no separate reset)
         verify(eventPublisher).publishOrderProcessed(result);
     }
     
@@ -518,12 +632,58 @@ class ProcessOrderUseCaseImplTest {
         verifyNoInteractions(distributionCenterService, cacheService, eventPublisher, selectionService);
     }
     
+    @Test
+    @DisplayName("Should resume processing of order stuck in PROCESSING")
+    void shouldRecoverStuckOrder() {
+        // Given
+        Order stuckOrder = new Order(
+            "ORDER-001",
+            "CUSTOMER-123",
+            validOrder.getItems(),
+            validOrder.getDeliveryAddress(),
+            OrderStatus.PROCESSING,
+            validOrder.getCreatedAt()
+        );
+        
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(stuckOrder));
+        when(cacheService.getItemAvailability(anyString())).thenReturn(Optional.of(List.of("DC-001")));
+        when(jpaOrderRepository.findDistributionCentersByCodes(anyList())).thenReturn(availableCenters);
+        when(jpaOrderRepository.findNearbyDistributionCentersOrdered(anyDouble(), anyDouble(), anyList()))
+            .thenReturn(java.util.List.of(new NearbyDistributionCenter("DC-001", 1.0)));
+        when(selectionService.selectDistributionCenter(availableCenters, stuckOrder.getDeliveryAddress()))
+            .thenReturn(selectedCenter);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        Order result = useCase.recoverStuckOrder("ORDER-001");
+        
+        // Then
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.PROCESSED);
+        verify(orderRepository, times(2)).save(any(Order.class)); // Processing (lease renewed) + Final
+        verify(eventPublisher).publishOrderProcessed(result);
+    }
+    
+    @Test
+    @DisplayName("Should skip recovery when order already left PROCESSING")
+    void shouldSkipRecoveryWhenOrderNoLongerProcessing() {
+        // Given
+        when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
+        
+        // When
+        Order result = useCase.recoverStuckOrder("ORDER-001");
+        
+        // Then
+        assertThat(result).isSameAs(validOrder);
+        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(distributionCenterService, cacheService, eventPublisher, selectionService);
+    }
+    
     @Test
     @DisplayName("Should handle unexpected exception during processing")
     void shouldHandleUnexpectedExceptionDuringProcessing() {
         // Given
         when(orderRepository.findById("ORDER-001")).thenReturn(Optional.of(validOrder));
-        when(cacheService.get(any(String.class), eq(String[].class)))
+        when(cacheService.getItemAvailability(anyString()))
             .thenThrow(new RuntimeException("Unexpected cache error"));
         
         // When/Then
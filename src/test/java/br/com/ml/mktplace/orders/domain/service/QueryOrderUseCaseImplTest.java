@@ -406,4 +406,73 @@ class QueryOrderUseCaseImplTest {
         assertThat(result.orders().get(0).getCustomerId()).isEqualTo("CUSTOMER-123");
         assertThat(result.orders().get(0).getStatus()).isEqualTo(OrderStatus.RECEIVED);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return the status snapshot of an existing order")
+    void shouldReturnStatusSnapshot() {
+        // Given
+        OrderStatusSnapshot snapshot = new OrderStatusSnapshot("ORDER-001", OrderStatus.RECEIVED, Instant.now());
+        when(orderRepository.findStatuses(List.of("ORDER-001"))).thenReturn(List.of(snapshot));
+        
+        // When / Then
+        assertThat(useCase.getOrderStatusRequired("ORDER-001")).isEqualTo(snapshot);
+        verify(orderRepository, never()).findById(any());
+    }
+    
+    @Test
+    @DisplayName("Should throw OrderNotFoundException when the status of an unknown order is requested")
+    void shouldThrowWhenStatusNotFound() {
+        when(orderRepository.findStatuses(List.of("ORDER-999"))).thenReturn(List.of());
+        
+        assertThatThrownBy(() -> useCase.getOrderStatusRequired("ORDER-999"))
+            .isInstanceOf(OrderNotFoundException.class);
+    }
+    
+    @Test
+    @DisplayName("Should query distinct IDs once and return snapshots in request order")
+    void shouldReturnStatusesInRequestOrder() {
+        // Given
+        OrderStatusSnapshot first = new OrderStatusSnapshot("ORDER-001", OrderStatus.RECEIVED, Instant.now());
+        OrderStatusSnapshot third = new OrderStatusSnapshot("ORDER-003", OrderStatus.FAILED, Instant.now());
+        when(orderRepository.findStatuses(anyCollection())).thenReturn(List.of(third, first));
+        
+        // When
+        List<OrderStatusSnapshot> result = useCase.getOrderStatuses(
+            List.of("ORDER-003", "ORDER-002", "ORDER-001", "ORDER-003"));
+        
+        // Then
+        assertThat(result).containsExactly(third, first);
+        verify(orderRepository).findStatuses(argThat(ids -> ids.size() == 3));
+    }
+    
+    @Test
+    @DisplayName("Should leave blank IDs out of the status query instead of rejecting the batch")
+    void shouldTreatBlankIdsAsNotFound() {
+        // Given
+        OrderStatusSnapshot first = new OrderStatusSnapshot("ORDER-001", OrderStatus.PROCESSED, Instant.now());
+        when(orderRepository.findStatuses(anyCollection())).thenReturn(List.of(first));
+        
+        // When
+        List<OrderStatusSnapshot> result = useCase.getOrderStatuses(java.util.Arrays.asList("ORDER-001", " ", null, ""));
+        
+        // Then
+        assertThat(result).containsExactly(first);
+        verify(orderRepository).findStatuses(argThat(ids -> ids.size() == 1 && ids.contains("ORDER-001")));
+        assertThat(useCase.getOrderStatuses(List.of("", "  "))).isEmpty();
+        verifyNoMoreInteractions(orderRepository);
+    }
+    
+    @Test
+    @DisplayName("Should reject empty and oversized status batches")
+    void shouldRejectInvalidStatusBatches() {
+        List<String> oversized = java.util.stream.IntStream.rangeClosed(0, QueryOrderUseCase.MAX_STATUS_BATCH)
+            .mapToObj(i -> "ORDER-" + i)
+            .toList();
+        
+        assertThatThrownBy(() -> useCase.getOrderStatuses(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> useCase.getOrderStatuses(oversized))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(orderRepository);
+    }
+}
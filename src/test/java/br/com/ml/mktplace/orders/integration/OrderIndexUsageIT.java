@@ -0,0 +1,161 @@
+package br.com.ml.mktplace.orders.integration;
+
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.JpaOrderRepository;
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.repository.JpaOrderEntityRepository;
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.type.UlidUuidType;
+import br.com.ml.mktplace.orders.domain.model.MonotonicUlid;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica via EXPLAIN que as consultas de ciclo de vida, por cliente e por item
+ * são atendidas pelos índices parciais/covering da V7 com Index Only Scan.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Order index usage (EXPLAIN)")
+class OrderIndexUsageIT extends BaseIntegrationTest {
+
+    private static final String CUSTOMER = "idx-customer";
+    private static final String ITEM = "IDX-ITEM-1";
+    private static final Pattern INDEX_USED = Pattern.compile("Index Only Scan (?:Backward )?using (\\S+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JpaOrderRepository orderRepository;
+
+    @BeforeAll
+    void seed() {
+        String[] statuses = {"PROCESSED", "PROCESSED", "PROCESSED", "RECEIVED", "FAILED"};
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            UUID id = UlidUuidType.toUuid(MonotonicUlid.nextUlid());
+            orders.add(new Object[]{id, i % 10 == 0 ? CUSTOMER : "customer-" + i, statuses[i % statuses.length]});
+            items.add(new Object[]{id, i % 20 == 0 ? ITEM : "ITEM-" + i});
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            jdbcTemplate.batchUpdate("""
+                INSERT INTO orders (id, customer_id, delivery_address, status)
+                VALUES (?, ?, '{"city":"São Paulo"}'::jsonb, ?)
+                """, orders);
+            jdbcTemplate.batchUpdate("INSERT INTO order_items (order_id, item_id, quantity) VALUES (?, ?, 1)", items);
+        });
+        // VACUUM não roda em transação e atualiza o visibility map exigido pelo Index Only Scan
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("VACUUM ANALYZE orders");
+                statement.execute("VACUUM ANALYZE order_items");
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("Lifecycle query should use the partial created_at index")
+    void lifecycleQueryShouldBeIndexOnly() {
+        String sql = JpaOrderEntityRepository.ACTIVE_ORDER_IDS_SQL
+                .replace(":status", "'FAILED'")
+                .replace(":createdBefore", "now() + interval '1 minute'")
+                .replace(":limit", "100");
+
+        assertIndexOnly(sql, "idx_orders_active_created_at");
+        assertThat(orderRepository.findActiveOrderIds(OrderStatus.FAILED, Instant.now().plusSeconds(60), 100))
+                .hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Customer keyset query should use the (customer_id, id) index")
+    void customerQueryShouldBeIndexOnly() {
+        String sql = JpaOrderEntityRepository.CUSTOMER_ORDER_IDS_SQL
+                .replace(":customerId", "'" + CUSTOMER + "'")
+                .replace(":afterId", "'00000000-0000-0000-0000-000000000000'::uuid")
+                .replace(":limit", "50");
+
+        assertIndexOnly(sql, "idx_orders_customer_id_id");
+
+        List<String> firstPage = orderRepository.findCustomerOrderIds(CUSTOMER, null, 50);
+        List<String> secondPage = orderRepository.findCustomerOrderIds(CUSTOMER, firstPage.get(49), 50);
+        assertThat(firstPage).hasSize(50).isSorted();
+        assertThat(secondPage).hasSize(50).isSorted().doesNotContainAnyElementsOf(firstPage);
+        assertThat(secondPage.get(0)).isGreaterThan(firstPage.get(49));
+    }
+
+    @Test
+    @DisplayName("Item lookup should use the covering item_id index")
+    void itemQueryShouldBeIndexOnly() {
+        String sql = JpaOrderEntityRepository.ITEM_ORDER_IDS_SQL
+                .replace(":itemId", "'" + ITEM + "'")
+                .replace(":limit", "500");
+
+        assertIndexOnly(sql, "idx_order_items_item_id_order_id");
+        assertThat(orderRepository.findOrderIdsByItemId(ITEM, 500)).hasSize(100);
+    }
+
+    /**
+     * Cada partição tem sua cópia do índice (nome gerado), então o índice do plano é
+     * resolvido para o índice da tabela particionada via pg_inherits.
+     */
+    private void assertIndexOnly(String sql, String parentIndex) {
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            StringBuilder lines = new StringBuilder();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET enable_bitmapscan = off");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (rs.next()) {
+                        lines.append(rs.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                statement.execute("RESET enable_bitmapscan");
+            }
+            return lines.toString();
+        });
+
+        assertThat(plan).contains("Index Only Scan").doesNotContain("Seq Scan");
+        Matcher matcher = INDEX_USED.matcher(plan);
+        List<String> parents = new ArrayList<>();
+        while (matcher.find()) {
+            parents.add(parentIndexOf(matcher.group(1)));
+        }
+        assertThat(parents).as(plan).isNotEmpty().containsOnly(parentIndex);
+    }
+
+    private String parentIndexOf(String index) {
+        List<String> parents = jdbcTemplate.queryForList("""
+                SELECT parent.relname FROM pg_inherits i
+                JOIN pg_class child ON child.oid = i.inhrelid
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                WHERE child.relname = ?
+                """, String.class, index);
+        return parents.isEmpty() ? index : parents.get(0);
+    }
+}
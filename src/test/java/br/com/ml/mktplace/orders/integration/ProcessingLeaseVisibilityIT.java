@@ -0,0 +1,89 @@
+package br.com.ml.mktplace.orders.integration;
+
+import br.com.ml.mktplace.orders.adapter.outbound.persistence.type.UlidUuidType;
+import br.com.ml.mktplace.orders.domain.model.Address;
+import br.com.ml.mktplace.orders.domain.model.MonotonicUlid;
+import br.com.ml.mktplace.orders.domain.model.Order;
+import br.com.ml.mktplace.orders.domain.model.OrderItem;
+import br.com.ml.mktplace.orders.domain.model.OrderStatus;
+import br.com.ml.mktplace.orders.domain.port.DistributionCenterService;
+import br.com.ml.mktplace.orders.domain.port.OrderRepository;
+import br.com.ml.mktplace.orders.domain.port.ProcessOrderUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * PROCESSING e o lease precisam estar confirmados antes das chamadas externas: é o que permite ao
+ * sweeper retomar o pedido se o pod cair no meio do processamento.
+ */
+@DisplayName("Processing lease visibility")
+class ProcessingLeaseVisibilityIT extends BaseIntegrationTest {
+
+    @Autowired
+    private ProcessOrderUseCase processOrderUseCase;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private DistributionCenterService distributionCenterService;
+
+    @Test
+    @DisplayName("Should commit PROCESSING with a lease before calling external services, and FAILED when they fail")
+    void shouldCommitLeaseBeforeExternalCalls() throws Exception {
+        String orderId = MonotonicUlid.nextUlid();
+        Address address = new Address("Rua do Lease", "1", "São Paulo", "SP", "BR", "01000-000",
+                new Address.Coordinates(new BigDecimal("-23.55"), new BigDecimal("-46.63")));
+        orderRepository.save(new Order(orderId, "lease-customer", List.of(new OrderItem("LEASE-" + orderId, 1)),
+                address, OrderStatus.RECEIVED, Instant.now()));
+
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(distributionCenterService.findDistributionCentersByItem(anyString())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(30, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        CompletableFuture<Order> processing = CompletableFuture.supplyAsync(() -> processOrderUseCase.processOrder(orderId));
+        try {
+            assertThat(inFlight.await(30, TimeUnit.SECONDS)).isTrue();
+
+            // Outra conexão, fora de qualquer transação do processamento
+            Map<String, Object> row = leaseRow(orderId);
+            assertThat(row.get("status")).isEqualTo("PROCESSING");
+            assertThat(((Timestamp) row.get("processing_lease_until")).toInstant()).isAfter(Instant.now());
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(processing).failsWithin(30, TimeUnit.SECONDS);
+        Map<String, Object> row = leaseRow(orderId);
+        assertThat(row.get("status")).isEqualTo("FAILED");
+        assertThat(row.get("processing_lease_until")).isNull();
+    }
+
+    private Map<String, Object> leaseRow(String orderId) {
+        return jdbcTemplate.queryForMap("SELECT status, processing_lease_until FROM orders WHERE id = ?",
+                UlidUuidType.toUuid(orderId));
+    }
+}